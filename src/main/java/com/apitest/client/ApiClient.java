@@ -1,54 +1,56 @@
 package com.apitest.client;
 
-import com.apitest.service.TokenManager;
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
-import io.restassured.http.ContentType;
+import com.apitest.client.cache.ResponseCacheConfig;
+import com.apitest.client.cache.ResponseCacheStats;
+import com.apitest.client.coalesce.CoalescingConfig;
+import com.apitest.client.coalesce.CoalescingStats;
+import com.apitest.client.multipart.MultipartBody;
+import com.apitest.client.pool.ConnectionPoolConfig;
+import com.apitest.client.pool.ConnectionPoolStats;
+import com.apitest.client.ratelimit.RateLimitConfig;
+import com.apitest.client.ratelimit.RateLimitStats;
+import com.apitest.client.resilience.CircuitBreakerConfig;
+import com.apitest.client.resilience.CircuitBreakerStats;
+import com.apitest.client.resilience.HedgeConfig;
+import com.apitest.client.resilience.HedgeStats;
+import com.apitest.client.resilience.RetryConfig;
+import com.apitest.client.resilience.RetryStats;
+import com.apitest.client.timeout.TimeoutConfig;
+import com.apitest.client.timeout.TimeoutStats;
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.CompressionConfig;
+import com.apitest.client.transport.CompressionStats;
+import com.apitest.client.transport.HttpTransport;
+import com.apitest.client.warmup.WarmUpConfig;
+import com.apitest.client.warmup.WarmUpReport;
 import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.file.Paths;
 import java.util.Map;
 
 /**
- * API Client for making HTTP requests using RestAssured
+ * API Client for making HTTP requests
+ * Delegates to the ClientContext bound to the current thread (the default context otherwise),
+ * which owns the base URI, transport, auth provider and optional resilience layers
  */
 public class ApiClient {
-    
+
     private static final Logger logger = LogManager.getLogger(ApiClient.class);
-    
-    // Base URL for all API requests - update this to point to your API endpoint
-    private static final String BASE_URL = "https://treveler-api-470986740614.europe-west1.run.app";
-    
-    static {
-        // Configure RestAssured
-        RestAssured.baseURI = BASE_URL;
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
-    }
+
+    // Base URL for all API requests - update this to point to your API endpoint (or use -Dapi.baseUrl)
+    static final String BASE_URL = "https://treveler-api-470986740614.europe-west1.run.app";
 
     /**
-     * Get base request specification with common configurations and automatic token injection
-     * @return RequestSpecification
+     * Execute request through the current client context
+     * @param request ApiRequest
+     * @return Response
      */
-    private static RequestSpecification getBaseRequestSpec() {
-        RequestSpecification spec = RestAssured.given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .log().all();
-        
-        // Automatically inject Bearer token if available
-        String authHeader = TokenManager.getInstance().getAuthorizationHeader();
-        if (authHeader != null) {
-            spec.header("Authorization", authHeader);
-            logger.debug("Automatically injected Bearer token");
-        }
-        
-        return spec;
+    private static Response execute(ApiRequest request) {
+        return ClientContext.current().execute(request);
     }
 
-
     /**
      * Perform GET request
      * @param endpoint API endpoint
@@ -56,13 +58,10 @@ public class ApiClient {
      */
     public static Response get(String endpoint) {
         logger.info("Performing GET request to: {}", endpoint);
-        Response response = getBaseRequestSpec()
-                .when()
-                .get(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("GET")
+                .setEndpoint(endpoint));
+
         logger.info("GET request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -75,14 +74,11 @@ public class ApiClient {
      */
     public static Response get(String endpoint, Map<String, Object> pathParams) {
         logger.info("Performing GET request to: {} with path params: {}", endpoint, pathParams);
-        Response response = getBaseRequestSpec()
-                .pathParams(pathParams)
-                .when()
-                .get(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("GET")
+                .setEndpoint(endpoint)
+                .setPathParams(pathParams));
+
         logger.info("GET request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -95,14 +91,11 @@ public class ApiClient {
      */
     public static Response getWithQueryParams(String endpoint, Map<String, Object> queryParams) {
         logger.info("Performing GET request to: {} with query params: {}", endpoint, queryParams);
-        Response response = getBaseRequestSpec()
-                .queryParams(queryParams)
-                .when()
-                .get(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("GET")
+                .setEndpoint(endpoint)
+                .setQueryParams(queryParams));
+
         logger.info("GET request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -115,14 +108,11 @@ public class ApiClient {
      */
     public static Response post(String endpoint, Object requestBody) {
         logger.info("Performing POST request to: {}", endpoint);
-        Response response = getBaseRequestSpec()
-                .body(requestBody)
-                .when()
-                .post(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("POST")
+                .setEndpoint(endpoint)
+                .setBody(requestBody));
+
         logger.info("POST request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -136,15 +126,12 @@ public class ApiClient {
      */
     public static Response post(String endpoint, Object requestBody, Map<String, Object> pathParams) {
         logger.info("Performing POST request to: {} with path params: {}", endpoint, pathParams);
-        Response response = getBaseRequestSpec()
-                .pathParams(pathParams)
-                .body(requestBody)
-                .when()
-                .post(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("POST")
+                .setEndpoint(endpoint)
+                .setPathParams(pathParams)
+                .setBody(requestBody));
+
         logger.info("POST request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -157,14 +144,11 @@ public class ApiClient {
      */
     public static Response put(String endpoint, Object requestBody) {
         logger.info("Performing PUT request to: {}", endpoint);
-        Response response = getBaseRequestSpec()
-                .body(requestBody)
-                .when()
-                .put(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("PUT")
+                .setEndpoint(endpoint)
+                .setBody(requestBody));
+
         logger.info("PUT request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -178,15 +162,12 @@ public class ApiClient {
      */
     public static Response put(String endpoint, Object requestBody, Map<String, Object> pathParams) {
         logger.info("Performing PUT request to: {} with path params: {}", endpoint, pathParams);
-        Response response = getBaseRequestSpec()
-                .pathParams(pathParams)
-                .body(requestBody)
-                .when()
-                .put(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("PUT")
+                .setEndpoint(endpoint)
+                .setPathParams(pathParams)
+                .setBody(requestBody));
+
         logger.info("PUT request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -199,14 +180,11 @@ public class ApiClient {
      */
     public static Response patch(String endpoint, Object requestBody) {
         logger.info("Performing PATCH request to: {}", endpoint);
-        Response response = getBaseRequestSpec()
-                .body(requestBody)
-                .when()
-                .patch(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("PATCH")
+                .setEndpoint(endpoint)
+                .setBody(requestBody));
+
         logger.info("PATCH request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -220,15 +198,12 @@ public class ApiClient {
      */
     public static Response patch(String endpoint, Object requestBody, Map<String, Object> pathParams) {
         logger.info("Performing PATCH request to: {} with path params: {}", endpoint, pathParams);
-        Response response = getBaseRequestSpec()
-                .pathParams(pathParams)
-                .body(requestBody)
-                .when()
-                .patch(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("PATCH")
+                .setEndpoint(endpoint)
+                .setPathParams(pathParams)
+                .setBody(requestBody));
+
         logger.info("PATCH request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -240,13 +215,10 @@ public class ApiClient {
      */
     public static Response delete(String endpoint) {
         logger.info("Performing DELETE request to: {}", endpoint);
-        Response response = getBaseRequestSpec()
-                .when()
-                .delete(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("DELETE")
+                .setEndpoint(endpoint));
+
         logger.info("DELETE request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -259,33 +231,328 @@ public class ApiClient {
      */
     public static Response delete(String endpoint, Map<String, Object> pathParams) {
         logger.info("Performing DELETE request to: {} with path params: {}", endpoint, pathParams);
-        Response response = getBaseRequestSpec()
-                .pathParams(pathParams)
-                .when()
-                .delete(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        Response response = execute(new ApiRequest()
+                .setMethod("DELETE")
+                .setEndpoint(endpoint)
+                .setPathParams(pathParams));
+
         logger.info("DELETE request completed. Status code: {}", response.getStatusCode());
         return response;
     }
 
+
+    /**
+     * Perform GET request and stream the body instead of materializing it as a String
+     * @param endpoint API endpoint
+     * @return StreamingResponse (caller must close it)
+     */
+    public static StreamingResponse getStream(String endpoint) {
+        logger.info("Performing streaming GET request to: {}", endpoint);
+        StreamingResponse response = ClientContext.current().openStream(new ApiRequest()
+                .setMethod("GET")
+                .setEndpoint(endpoint));
+        logger.info("Streaming GET request opened. Status code: {}", response.getStatusCode());
+        return response;
+    }
+
+    /**
+     * Enable or disable high-throughput mode.
+     * When enabled, the Allure filter and full request/response logging are dropped
+     * and the base specification template is rebuilt accordingly.
+     * @param enabled true to enable high-throughput mode
+     */
+    public static void setHighThroughputMode(boolean enabled) {
+        ClientContext.current().setHighThroughputMode(enabled);
+    }
+
+    /**
+     * Check whether high-throughput mode is enabled
+     * @return true if the Allure filter and full logging are disabled
+     */
+    public static boolean isHighThroughputMode() {
+        return ClientContext.current().isHighThroughputMode();
+    }
+
+    /**
+     * Enable or disable failure-only exchange capture.
+     * When enabled, full request/response logging is replaced by a per-thread ring buffer
+     * that is only formatted and logged when a validation or test fails.
+     * @param enabled true to enable capture mode
+     */
+    public static void setCaptureMode(boolean enabled) {
+        ClientContext.current().setCaptureMode(enabled);
+    }
+
+    /**
+     * Enable retries for transient failures (replaces any existing retry configuration)
+     * @param config RetryConfig with per-method/endpoint policies and the global retry budget
+     */
+    public static void configureRetry(RetryConfig config) {
+        ClientContext.current().configureRetry(config);
+    }
+
+    /**
+     * Disable retries
+     */
+    public static void disableRetry() {
+        ClientContext.current().disableRetry();
+    }
+
+    /**
+     * Get retry counters (retries per endpoint, exhausted calls, budget rejections)
+     * @return RetryStats or null if retries are disabled
+     */
+    public static RetryStats getRetryStats() {
+        return ClientContext.current().getRetryStats();
+    }
+
+    /**
+     * Enable per-endpoint circuit breakers (replaces existing breakers and their state)
+     * @param config CircuitBreakerConfig with window, thresholds and open duration
+     */
+    public static void configureCircuitBreaker(CircuitBreakerConfig config) {
+        ClientContext.current().configureCircuitBreaker(config);
+    }
+
+    /**
+     * Disable circuit breakers
+     */
+    public static void disableCircuitBreaker() {
+        ClientContext.current().disableCircuitBreaker();
+    }
+
+    /**
+     * Get circuit breaker state and rates per endpoint template
+     * @return Map of endpoint template to CircuitBreakerStats (empty if disabled)
+     */
+    public static Map<String, CircuitBreakerStats> getCircuitBreakerStats() {
+        return ClientContext.current().getCircuitBreakerStats();
+    }
+
+    /**
+     * Enable hedged GET requests (replaces any existing hedging configuration and latency history)
+     * @param config HedgeConfig with percentile, sample window and eligible endpoints
+     */
+    public static void configureHedging(HedgeConfig config) {
+        ClientContext.current().configureHedging(config);
+    }
+
+    /**
+     * Disable hedged GET requests
+     */
+    public static void disableHedging() {
+        ClientContext.current().disableHedging();
+    }
+
+    /**
+     * Get hedge rate and win rate per endpoint template
+     * @return Map of endpoint template to HedgeStats (empty if disabled)
+     */
+    public static Map<String, HedgeStats> getHedgeStats() {
+        return ClientContext.current().getHedgeStats();
+    }
+
+    /**
+     * Enable the conditional GET (ETag / Last-Modified) response cache, replacing any existing cache
+     * @param config ResponseCacheConfig with entry and body size limits
+     */
+    public static void configureResponseCache(ResponseCacheConfig config) {
+        ClientContext.current().configureResponseCache(config);
+    }
+
+    /**
+     * Disable the response cache and drop all entries
+     */
+    public static void disableResponseCache() {
+        ClientContext.current().disableResponseCache();
+    }
+
+    /**
+     * Get response cache hit/miss/revalidation counters
+     * @return ResponseCacheStats or null if the cache is disabled
+     */
+    public static ResponseCacheStats getResponseCacheStats() {
+        return ClientContext.current().getResponseCacheStats();
+    }
+
     /**
-     * Set base URI for API requests
+     * Enable single-flight coalescing: identical concurrent GETs share one network request
+     * @param config CoalescingConfig with eligible endpoints and follower wait limit
+     */
+    public static void configureCoalescing(CoalescingConfig config) {
+        ClientContext.current().configureCoalescing(config);
+    }
+
+    /**
+     * Disable request coalescing
+     */
+    public static void disableCoalescing() {
+        ClientContext.current().disableCoalescing();
+    }
+
+    /**
+     * Get requests, network executions and coalescing ratio per endpoint template
+     * @return Map of endpoint template to CoalescingStats (empty if disabled)
+     */
+    public static Map<String, CoalescingStats> getCoalescingStats() {
+        return ClientContext.current().getCoalescingStats();
+    }
+
+    /**
+     * Enable client-side rate limiting with one token bucket per endpoint group
+     * @param config RateLimitConfig with per-group rates, bursts and the maximum wait
+     */
+    public static void configureRateLimit(RateLimitConfig config) {
+        ClientContext.current().configureRateLimit(config);
+    }
+
+    /**
+     * Disable rate limiting
+     */
+    public static void disableRateLimit() {
+        ClientContext.current().disableRateLimit();
+    }
+
+    /**
+     * Get throttled calls and wait times per endpoint group
+     * @return Map of endpoint group to RateLimitStats (empty if disabled)
+     */
+    public static Map<String, RateLimitStats> getRateLimitStats() {
+        return ClientContext.current().getRateLimitStats();
+    }
+
+    /**
+     * Get time the current thread's last request waited for a rate limit token
+     * @return Wait in milliseconds
+     */
+    public static long getLastRateLimitWaitMillis() {
+        return ClientContext.current().getLastRateLimitWaitMillis();
+    }
+
+    /**
+     * Apply connect, read and total timeouts per endpoint group (enabled by default from the SLA limits)
+     * @param config TimeoutConfig with per-group timeouts
+     */
+    public static void configureTimeouts(TimeoutConfig config) {
+        ClientContext.current().configureTimeouts(config);
+    }
+
+    /**
+     * Disable endpoint timeouts
+     */
+    public static void disableTimeouts() {
+        ClientContext.current().disableTimeouts();
+    }
+
+    /**
+     * Get requests and connect/read/total timeouts per endpoint group
+     * @return Map of endpoint group to TimeoutStats (empty if disabled)
+     */
+    public static Map<String, TimeoutStats> getTimeoutStats() {
+        return ClientContext.current().getTimeoutStats();
+    }
+
+    /**
+     * Configure gzip/deflate negotiation for responses and opt-in compression of large request bodies
+     * @param config CompressionConfig
+     */
+    public static void configureCompression(CompressionConfig config) {
+        ClientContext.current().configureCompression(config);
+    }
+
+    /**
+     * Get compressed and uncompressed byte counts per endpoint template for the current context
+     * @return Map of endpoint template to CompressionStats
+     */
+    public static Map<String, CompressionStats> getCompressionStats() {
+        return ClientContext.current().getCompressionStats();
+    }
+
+    /**
+     * Enable the pooled keep-alive connection manager (replaces any existing pool)
+     * @param config ConnectionPoolConfig with pool limits, idle eviction and keep-alive TTL
+     */
+    public static void configureConnectionPool(ConnectionPoolConfig config) {
+        ClientContext.current().configureConnectionPool(config);
+    }
+
+    /**
+     * Disable the connection pool and fall back to RestAssured default connection handling
+     */
+    public static void disableConnectionPool() {
+        ClientContext.current().disableConnectionPool();
+    }
+
+    /**
+     * Get connection pool statistics (leased, available, pending)
+     * @return ConnectionPoolStats or null if pooling is disabled
+     */
+    public static ConnectionPoolStats getConnectionPoolStats() {
+        return ClientContext.current().getConnectionPoolStats();
+    }
+
+    /**
+     * Switch the transport used for requests (domain clients are unaffected)
+     * @param newTransport HttpTransport implementation
+     */
+    public static void setTransport(HttpTransport newTransport) {
+        ClientContext.current().setTransport(newTransport);
+    }
+
+    /**
+     * Restore the default RestAssured transport
+     */
+    public static void useRestAssuredTransport() {
+        ClientContext.current().useRestAssuredTransport();
+    }
+
+    /**
+     * Get the transport currently used for requests
+     * @return HttpTransport
+     */
+    public static HttpTransport getTransport() {
+        return ClientContext.current().getTransport();
+    }
+
+    /**
+     * Warm up DNS, TLS, pooled connections and the backend using -Dapi.warmup.* settings
+     * @return WarmUpReport with timings kept apart from test latencies
+     */
+    public static WarmUpReport warmUp() {
+        return warmUp(WarmUpConfig.fromSystemProperties());
+    }
+
+    /**
+     * Warm up DNS, TLS, pooled connections and the backend
+     * @param config WarmUpConfig
+     * @return WarmUpReport with timings kept apart from test latencies
+     */
+    public static WarmUpReport warmUp(WarmUpConfig config) {
+        return ClientContext.current().warmUp(config);
+    }
+
+    /**
+     * Get the report of the last warm-up of the current context
+     * @return WarmUpReport or null if warm-up has not run
+     */
+    public static WarmUpReport getWarmUpReport() {
+        return ClientContext.current().getWarmUpReport();
+    }
+
+    /**
+     * Set base URI for API requests made through the current context
      * @param baseUri Base URI
      */
     public static void setBaseUri(String baseUri) {
-        logger.info("Setting base URI to: {}", baseUri);
-        RestAssured.baseURI = baseUri;
+        ClientContext.current().setBaseUri(baseUri);
     }
 
     /**
-     * Get current base URI
+     * Get base URI of the current context
      * @return Current base URI
      */
     public static String getBaseUri() {
-        return RestAssured.baseURI;
+        return ClientContext.current().getBaseUri();
     }
 
     /**
@@ -295,17 +562,23 @@ public class ApiClient {
      * @return Response object
      */
     public static Response postMultipart(String endpoint, String filePath) {
-        logger.info("Performing POST multipart request to: {}", endpoint);
-        
-        Response response = getBaseRequestSpec()
-                .contentType("multipart/form-data")
-                .multiPart("file", new java.io.File(filePath))
-                .when()
-                .post(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
+        return postMultipart(endpoint, new MultipartBody().addFile("file", Paths.get(filePath)));
+    }
+
+    /**
+     * POST streamed multipart/form-data request (file parts are read from disk while sending)
+     * @param endpoint API endpoint
+     * @param body MultipartBody with file and in-memory parts
+     * @return Response object
+     */
+    public static Response postMultipart(String endpoint, MultipartBody body) {
+        logger.info("Performing POST multipart request to: {} with {}", endpoint, body.describe());
+
+        Response response = execute(new ApiRequest()
+                .setMethod("POST")
+                .setEndpoint(endpoint)
+                .setMultipart(body));
+
         logger.info("POST multipart request completed. Status code: {}", response.getStatusCode());
         return response;
     }
@@ -0,0 +1,156 @@
+package com.apitest.client;
+
+import com.apitest.utils.JsonUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lightweight HTTP response returned by AsyncApiClient
+ * Carries status, headers, body and timing without RestAssured's overhead
+ */
+public class ApiResponse {
+
+    private final HttpClient.Version version;
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final long timeMillis;
+
+    /**
+     * Create response
+     * @param statusCode HTTP status code
+     * @param headers Response headers (header names are matched case-insensitively)
+     * @param body Raw response body
+     * @param timeMillis Time from sending the request until the body was fully received
+     */
+    public ApiResponse(int statusCode, Map<String, List<String>> headers, byte[] body, long timeMillis) {
+        this(HttpClient.Version.HTTP_1_1, statusCode, headers, body, timeMillis);
+    }
+
+    /**
+     * Create response
+     * @param version Protocol version the response arrived over
+     * @param statusCode HTTP status code
+     * @param headers Response headers (header names are matched case-insensitively)
+     * @param body Raw response body
+     * @param timeMillis Time from sending the request until the body was fully received
+     */
+    public ApiResponse(HttpClient.Version version, int statusCode, Map<String, List<String>> headers, byte[] body,
+                       long timeMillis) {
+        this.version = version;
+        this.statusCode = statusCode;
+        this.headers = headers != null ? headers : Collections.emptyMap();
+        this.body = body != null ? body : new byte[0];
+        this.timeMillis = timeMillis;
+    }
+
+    /**
+     * Get protocol version the response arrived over
+     * @return HTTP_1_1 or HTTP_2
+     */
+    public HttpClient.Version getVersion() {
+        return version;
+    }
+
+    /**
+     * Get HTTP status code
+     * @return Status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get all response headers
+     * @return Map of header name to values
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get first value of a response header
+     * @param name Header name (case-insensitive)
+     * @return Header value or null if absent
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey() != null && entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get response content type
+     * @return Content-Type header value or empty string
+     */
+    public String getContentType() {
+        String contentType = getHeader("Content-Type");
+        return contentType != null ? contentType : "";
+    }
+
+    /**
+     * Get response time
+     * @return Response time in milliseconds
+     */
+    public long getTime() {
+        return timeMillis;
+    }
+
+    /**
+     * Get raw response body
+     * @return Body bytes
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Get response body as string
+     * @return Body decoded as UTF-8
+     */
+    public String asString() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deserialize response body to POJO
+     * @param clazz Target class
+     * @param <T> Generic type
+     * @return Deserialized object
+     */
+    public <T> T as(Class<T> clazz) {
+        try {
+            return JsonUtils.getObjectMapper().readValue(body, clazz);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to deserialize response body to " + clazz.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Deserialize response body to generic type (e.g. List of POJOs)
+     * @param typeReference Type reference
+     * @param <T> Generic type
+     * @return Deserialized object
+     */
+    public <T> T as(TypeReference<T> typeReference) {
+        try {
+            return JsonUtils.getObjectMapper().readValue(body, typeReference);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to deserialize response body", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ApiResponse{statusCode=" + statusCode + ", time=" + timeMillis + "ms, bodyLength=" + body.length + '}';
+    }
+}
@@ -0,0 +1,97 @@
+package com.apitest.client;
+
+import com.apitest.client.transport.ApiRequest;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking API Client built on the JDK java.net.http.HttpClient
+ * Mirrors ApiClient but returns CompletableFuture results so a single thread
+ * can keep many requests in flight during fan-out scenarios
+ */
+public class AsyncApiClient {
+
+    private static final Logger logger = LogManager.getLogger(AsyncApiClient.class);
+
+    /**
+     * Perform asynchronous GET request
+     * @param endpoint API endpoint
+     * @return Future completed with the response
+     */
+    public static CompletableFuture<ApiResponse> get(String endpoint) {
+        return send("GET", endpoint, null);
+    }
+
+    /**
+     * Perform asynchronous GET request with query parameters
+     * @param endpoint API endpoint
+     * @param queryParams Query parameters
+     * @return Future completed with the response
+     */
+    public static CompletableFuture<ApiResponse> getWithQueryParams(String endpoint, Map<String, Object> queryParams) {
+        return send(new ApiRequest().setMethod("GET").setEndpoint(endpoint).setQueryParams(queryParams));
+    }
+
+    /**
+     * Perform asynchronous POST request with JSON body
+     * @param endpoint API endpoint
+     * @param requestBody Request body object
+     * @return Future completed with the response
+     */
+    public static CompletableFuture<ApiResponse> post(String endpoint, Object requestBody) {
+        return send("POST", endpoint, requestBody);
+    }
+
+    /**
+     * Perform asynchronous PUT request with JSON body
+     * @param endpoint API endpoint
+     * @param requestBody Request body object
+     * @return Future completed with the response
+     */
+    public static CompletableFuture<ApiResponse> put(String endpoint, Object requestBody) {
+        return send("PUT", endpoint, requestBody);
+    }
+
+    /**
+     * Perform asynchronous PATCH request with JSON body
+     * @param endpoint API endpoint
+     * @param requestBody Request body object
+     * @return Future completed with the response
+     */
+    public static CompletableFuture<ApiResponse> patch(String endpoint, Object requestBody) {
+        return send("PATCH", endpoint, requestBody);
+    }
+
+    /**
+     * Perform asynchronous DELETE request
+     * @param endpoint API endpoint
+     * @return Future completed with the response
+     */
+    public static CompletableFuture<ApiResponse> delete(String endpoint) {
+        return send("DELETE", endpoint, null);
+    }
+
+    /**
+     * Send an asynchronous request with automatic token injection
+     * @param method HTTP method
+     * @param endpoint API endpoint (relative to the ApiClient base URI)
+     * @param requestBody Request body object, JSON string, or null
+     * @return Future completed with the response once the body is fully received
+     */
+    public static CompletableFuture<ApiResponse> send(String method, String endpoint, Object requestBody) {
+        return send(new ApiRequest().setMethod(method).setEndpoint(endpoint).setBody(requestBody));
+    }
+
+    /**
+     * Send an asynchronous request with automatic token injection
+     * @param request ApiRequest (base URI defaults to the current ClientContext base URI)
+     * @return Future completed with the response once the body is fully received
+     */
+    public static CompletableFuture<ApiResponse> send(ApiRequest request) {
+        logger.debug("Sending async {} request to: {}", request.getMethod(), request.getEndpoint());
+        return ClientContext.current().executeAsync(request);
+    }
+}
@@ -0,0 +1,92 @@
+package com.apitest.client;
+
+import com.apitest.models.request.auth.InitiateRequest;
+import com.apitest.models.request.auth.VerifyRequest;
+import com.apitest.models.response.auth.AuthResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.apitest.client.AuthApiClient.*;
+
+/**
+ * Non-blocking API Client for authentication endpoints
+ * Async counterpart of AuthApiClient built on AsyncApiClient
+ */
+public class AsyncAuthApiClient {
+
+    private static final Logger logger = LogManager.getLogger(AsyncAuthApiClient.class);
+
+    /**
+     * Initiate authentication process by sending email
+     * @param email User's email address
+     * @return Future response from initiate endpoint
+     */
+    public static CompletableFuture<ApiResponse> initiateAuth(String email) {
+        return AsyncApiClient.post(INITIATE_ENDPOINT, new InitiateRequest(email));
+    }
+
+    /**
+     * Verify authentication with email and verification code
+     * @param email User's email address
+     * @param code Verification code
+     * @return Future response from verify endpoint
+     */
+    public static CompletableFuture<ApiResponse> verifyAuth(String email, String code) {
+        return AsyncApiClient.post(VERIFY_ENDPOINT, new VerifyRequest(email, code));
+    }
+
+    /**
+     * Refresh authentication token using refresh token
+     * @param refreshToken The refresh token
+     * @return Future response from refresh endpoint
+     */
+    public static CompletableFuture<ApiResponse> refreshToken(String refreshToken) {
+        return AsyncApiClient.post(REFRESH_ENDPOINT, String.format("{\"refresh\":\"%s\"}", refreshToken));
+    }
+
+    /**
+     * Logout and invalidate current session
+     * @return Future response from logout endpoint
+     */
+    public static CompletableFuture<ApiResponse> logout() {
+        return AsyncApiClient.post(LOGOUT_ENDPOINT, "{}");
+    }
+
+    /**
+     * Complete 2-step authentication flow (initiate + verify) without blocking
+     * @param email User's email address
+     * @param code Verification code
+     * @return Future completed with AuthResponse, or exceptionally if either step fails
+     */
+    public static CompletableFuture<AuthResponse> completeAuthFlow(String email, String code) {
+        logger.info("Starting async authentication flow for email: {}", email);
+
+        return initiateAuth(email)
+                .thenCompose(initiateResponse -> {
+                    if (initiateResponse.getStatusCode() != 200) {
+                        throw new RuntimeException("Authentication initiation failed with status: "
+                                + initiateResponse.getStatusCode());
+                    }
+                    return verifyAuth(email, code);
+                })
+                .thenApply(verifyResponse -> {
+                    if (verifyResponse.getStatusCode() != 200) {
+                        throw new RuntimeException("Authentication verification failed with status: "
+                                + verifyResponse.getStatusCode());
+                    }
+
+                    AuthResponse authResponse = verifyResponse.as(AuthResponse.class);
+                    if (authResponse.hasError()) {
+                        throw new RuntimeException("Authentication failed: " + authResponse.getError());
+                    }
+                    if (!authResponse.hasValidToken()) {
+                        throw new RuntimeException("Authentication response does not contain valid access token");
+                    }
+
+                    logger.info("Async authentication flow successful for email: {}", email);
+                    return authResponse;
+                });
+    }
+}
@@ -0,0 +1,64 @@
+package com.apitest.client;
+
+import com.apitest.models.request.comment.CommentCreateRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.apitest.client.CommentApiClient.*;
+
+/**
+ * Non-blocking API Client for Comment endpoints
+ * Async counterpart of CommentApiClient built on AsyncApiClient
+ */
+public class AsyncCommentApiClient {
+
+    /**
+     * Get comments for an event
+     * @param eventId Event ID
+     * @param authorId Author ID filter (optional)
+     * @param limit Number of comments to return (optional)
+     * @return Future response from GET /events/{eventId}/comments endpoint
+     */
+    public static CompletableFuture<ApiResponse> getComments(String eventId, String authorId, Integer limit) {
+        return AsyncApiClient.get(buildCommentsEndpoint(eventId, authorId, limit));
+    }
+
+    /**
+     * Get comments for an event (default parameters)
+     * @param eventId Event ID
+     * @return Future response from GET /events/{eventId}/comments endpoint
+     */
+    public static CompletableFuture<ApiResponse> getComments(String eventId) {
+        return getComments(eventId, null, 20);
+    }
+
+    /**
+     * Create a new comment
+     * @param eventId Event ID
+     * @param createRequest CommentCreateRequest object
+     * @return Future response from POST /events/{eventId}/comments endpoint
+     */
+    public static CompletableFuture<ApiResponse> createComment(String eventId, CommentCreateRequest createRequest) {
+        return AsyncApiClient.post(COMMENTS_ENDPOINT.replace("{eventId}", eventId), createRequest);
+    }
+
+    /**
+     * Create a new comment with direct body text
+     * @param eventId Event ID
+     * @param body Comment body text
+     * @return Future response from POST /events/{eventId}/comments endpoint
+     */
+    public static CompletableFuture<ApiResponse> createComment(String eventId, String body) {
+        return createComment(eventId, CommentCreateRequest.builder().body(body).build());
+    }
+
+    /**
+     * Delete a comment
+     * @param eventId Event ID
+     * @param commentId Comment ID
+     * @return Future response from DELETE /events/{eventId}/comments/{commentId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> deleteComment(String eventId, String commentId) {
+        return AsyncApiClient.delete(COMMENT_BY_ID_ENDPOINT.replace("{eventId}", eventId).replace("{commentId}", commentId));
+    }
+}
@@ -0,0 +1,179 @@
+package com.apitest.client;
+
+import com.apitest.models.request.event.EventCreateRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.apitest.client.EventApiClient.*;
+
+/**
+ * Non-blocking API Client for Event endpoints
+ * Async counterpart of EventApiClient built on AsyncApiClient
+ */
+public class AsyncEventApiClient {
+
+    // ==================== EVENT ENDPOINTS ====================
+
+    /**
+     * Create a new event
+     * @param createRequest EventCreateRequest object
+     * @return Future response from POST /events endpoint
+     */
+    public static CompletableFuture<ApiResponse> createEvent(EventCreateRequest createRequest) {
+        return AsyncApiClient.post(EVENTS_ENDPOINT, createRequest);
+    }
+
+    /**
+     * Get events with filtering
+     * @param hotelId Hotel ID filter
+     * @param creatorUserId Creator user ID filter
+     * @param startDate Start date filter
+     * @param endDate End date filter
+     * @param limit Number of events to return
+     * @param offset Number of events to skip
+     * @return Future response from GET /events endpoint
+     */
+    public static CompletableFuture<ApiResponse> getEvents(String hotelId, String creatorUserId, String startDate,
+                                                         String endDate, Integer limit, Integer offset) {
+        return AsyncApiClient.get(buildEventsEndpoint(hotelId, creatorUserId, startDate, endDate, limit, offset));
+    }
+
+    /**
+     * Get events with hotel filter only
+     * @param hotelId Hotel ID filter
+     * @return Future response from GET /events endpoint
+     */
+    public static CompletableFuture<ApiResponse> getEvents(String hotelId) {
+        return getEvents(hotelId, null, null, null, 20, 0);
+    }
+
+    /**
+     * Get event by ID
+     * @param eventId Event ID
+     * @return Future response from GET /events/{eventId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> getEventById(String eventId) {
+        return AsyncApiClient.get(EVENT_BY_ID_ENDPOINT.replace("{eventId}", eventId));
+    }
+
+    /**
+     * Update event
+     * @param eventId Event ID
+     * @param updateRequest EventCreateRequest object (used for updates too)
+     * @return Future response from PATCH /events/{eventId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> updateEvent(String eventId, EventCreateRequest updateRequest) {
+        return AsyncApiClient.patch(EVENT_BY_ID_ENDPOINT.replace("{eventId}", eventId), updateRequest);
+    }
+
+    /**
+     * Attend event
+     * @param eventId Event ID
+     * @return Future response from POST /events/{eventId}/attend endpoint
+     */
+    public static CompletableFuture<ApiResponse> attendEvent(String eventId) {
+        return AsyncApiClient.post(ATTEND_EVENT_ENDPOINT.replace("{eventId}", eventId), "");
+    }
+
+    /**
+     * Leave event
+     * @param eventId Event ID
+     * @return Future response from DELETE /events/{eventId}/attend endpoint
+     */
+    public static CompletableFuture<ApiResponse> leaveEvent(String eventId) {
+        return AsyncApiClient.delete(LEAVE_EVENT_ENDPOINT.replace("{eventId}", eventId));
+    }
+
+    /**
+     * Cancel event
+     * @param eventId Event ID
+     * @return Future response from POST /events/{eventId}/cancel endpoint
+     */
+    public static CompletableFuture<ApiResponse> cancelEvent(String eventId) {
+        return AsyncApiClient.post(CANCEL_EVENT_ENDPOINT.replace("{eventId}", eventId), "");
+    }
+
+    /**
+     * Archive event
+     * @param eventId Event ID
+     * @return Future response from POST /events/{eventId}/archive endpoint
+     */
+    public static CompletableFuture<ApiResponse> archiveEvent(String eventId) {
+        return AsyncApiClient.post(ARCHIVE_EVENT_ENDPOINT.replace("{eventId}", eventId), "");
+    }
+
+    /**
+     * Like event
+     * @param eventId Event ID
+     * @return Future response from POST /events/{eventId}/like endpoint
+     */
+    public static CompletableFuture<ApiResponse> likeEvent(String eventId) {
+        return AsyncApiClient.post(LIKE_EVENT_ENDPOINT.replace("{eventId}", eventId), "");
+    }
+
+    /**
+     * Get likes count for event
+     * @param eventId Event ID
+     * @return Future response from GET /events/{eventId}/likes/count endpoint
+     */
+    public static CompletableFuture<ApiResponse> getLikesCount(String eventId) {
+        return AsyncApiClient.get(LIKES_COUNT_ENDPOINT.replace("{eventId}", eventId));
+    }
+
+    // ==================== EVENT IMAGE ENDPOINTS ====================
+
+    /**
+     * Get event images
+     * @param eventId Event ID
+     * @return Future response from GET /events/{eventId}/images endpoint
+     */
+    public static CompletableFuture<ApiResponse> getEventImages(String eventId) {
+        return AsyncApiClient.get(EVENT_IMAGES_ENDPOINT.replace("{eventId}", eventId));
+    }
+
+    /**
+     * Delete event image
+     * @param eventId Event ID
+     * @param imageId Image ID
+     * @return Future response from DELETE /events/{eventId}/images/{imageId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> deleteEventImage(String eventId, String imageId) {
+        return AsyncApiClient.delete(EVENT_IMAGE_BY_ID_ENDPOINT.replace("{eventId}", eventId).replace("{imageId}", imageId));
+    }
+
+    // ==================== RECURRING EVENT ENDPOINTS ====================
+
+    /**
+     * Get recurring event instances
+     * @param recurringEventId Recurring event ID
+     * @return Future response from GET /events/recurring/{recurringEventId}/instances endpoint
+     */
+    public static CompletableFuture<ApiResponse> getRecurringInstances(String recurringEventId) {
+        return AsyncApiClient.get(RECURRING_INSTANCES_ENDPOINT.replace("{recurringEventId}", recurringEventId));
+    }
+
+    /**
+     * Get all recurring instances
+     * @return Future response from GET /events/recurring/instances endpoint
+     */
+    public static CompletableFuture<ApiResponse> getAllRecurringInstances() {
+        return AsyncApiClient.get(ALL_RECURRING_INSTANCES_ENDPOINT);
+    }
+
+    /**
+     * Deactivate recurring event
+     * @param recurringEventId Recurring event ID
+     * @return Future response from DELETE /events/recurring/{recurringEventId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> deactivateRecurringEvent(String recurringEventId) {
+        return AsyncApiClient.delete(RECURRING_EVENT_BY_ID_ENDPOINT.replace("{recurringEventId}", recurringEventId));
+    }
+
+    /**
+     * Get RRULE examples
+     * @return Future response from GET /events/recurring/rrule-examples endpoint
+     */
+    public static CompletableFuture<ApiResponse> getRruleExamples() {
+        return AsyncApiClient.get(RRULE_EXAMPLES_ENDPOINT);
+    }
+}
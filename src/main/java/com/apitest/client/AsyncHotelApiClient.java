@@ -0,0 +1,178 @@
+package com.apitest.client;
+
+import com.apitest.models.request.hotel.HotelCreateRequest;
+import com.apitest.models.request.hotel.HotelMemberCreateRequest;
+import com.apitest.models.request.hotel.LocationCreateRequest;
+import com.apitest.models.request.hotel.StayCreateRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.apitest.client.HotelApiClient.*;
+
+/**
+ * Non-blocking API Client for Hotel endpoints
+ * Async counterpart of HotelApiClient built on AsyncApiClient
+ */
+public class AsyncHotelApiClient {
+
+    // ==================== HOTEL ENDPOINTS ====================
+
+    /**
+     * Create a new hotel
+     * @param createRequest HotelCreateRequest object
+     * @return Future response from POST /hotels endpoint
+     */
+    public static CompletableFuture<ApiResponse> createHotel(HotelCreateRequest createRequest) {
+        return AsyncApiClient.post(HOTELS_ENDPOINT, createRequest);
+    }
+
+    /**
+     * Get all hotels with pagination
+     * @param limit Number of hotels to return
+     * @param offset Number of hotels to skip
+     * @return Future response from GET /hotels endpoint
+     */
+    public static CompletableFuture<ApiResponse> getHotels(Integer limit, Integer offset) {
+        return AsyncApiClient.get(buildHotelsEndpoint(limit, offset));
+    }
+
+    /**
+     * Get all hotels (default pagination)
+     * @return Future response from GET /hotels endpoint
+     */
+    public static CompletableFuture<ApiResponse> getHotels() {
+        return getHotels(20, 0);
+    }
+
+    /**
+     * Get hotel by ID
+     * @param hotelId Hotel ID
+     * @return Future response from GET /hotels/{hotelId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> getHotelById(String hotelId) {
+        return AsyncApiClient.get(HOTEL_BY_ID_ENDPOINT.replace("{hotelId}", hotelId));
+    }
+
+    /**
+     * Update hotel
+     * @param hotelId Hotel ID
+     * @param updateRequest HotelCreateRequest object (used for updates too)
+     * @return Future response from PATCH /hotels/{hotelId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> updateHotel(String hotelId, HotelCreateRequest updateRequest) {
+        return AsyncApiClient.patch(HOTEL_BY_ID_ENDPOINT.replace("{hotelId}", hotelId), updateRequest);
+    }
+
+    // ==================== LOCATION ENDPOINTS ====================
+
+    /**
+     * Get hotel locations
+     * @param hotelId Hotel ID
+     * @return Future response from GET /hotels/{hotelId}/locations endpoint
+     */
+    public static CompletableFuture<ApiResponse> getHotelLocations(String hotelId) {
+        return AsyncApiClient.get(HOTEL_LOCATIONS_ENDPOINT.replace("{hotelId}", hotelId));
+    }
+
+    /**
+     * Create hotel location
+     * @param hotelId Hotel ID
+     * @param createRequest LocationCreateRequest object
+     * @return Future response from POST /hotels/{hotelId}/locations endpoint
+     */
+    public static CompletableFuture<ApiResponse> createHotelLocation(String hotelId, LocationCreateRequest createRequest) {
+        return AsyncApiClient.post(HOTEL_LOCATIONS_ENDPOINT.replace("{hotelId}", hotelId), createRequest);
+    }
+
+    /**
+     * Update hotel location
+     * @param locationId Location ID
+     * @param updateRequest LocationCreateRequest object (used for updates too)
+     * @return Future response from PATCH /hotels/locations/{locationId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> updateLocation(String locationId, LocationCreateRequest updateRequest) {
+        return AsyncApiClient.patch(LOCATION_BY_ID_ENDPOINT.replace("{locationId}", locationId), updateRequest);
+    }
+
+    /**
+     * Delete hotel location
+     * @param locationId Location ID
+     * @return Future response from DELETE /hotels/locations/{locationId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> deleteLocation(String locationId) {
+        return AsyncApiClient.delete(LOCATION_BY_ID_ENDPOINT.replace("{locationId}", locationId));
+    }
+
+    // ==================== MEMBER ENDPOINTS ====================
+
+    /**
+     * Get hotel members
+     * @param hotelId Hotel ID
+     * @return Future response from GET /hotels/{hotelId}/members endpoint
+     */
+    public static CompletableFuture<ApiResponse> getHotelMembers(String hotelId) {
+        return AsyncApiClient.get(HOTEL_MEMBERS_ENDPOINT.replace("{hotelId}", hotelId));
+    }
+
+    /**
+     * Add hotel member
+     * @param hotelId Hotel ID
+     * @param createRequest HotelMemberCreateRequest object
+     * @return Future response from POST /hotels/{hotelId}/members endpoint
+     */
+    public static CompletableFuture<ApiResponse> addHotelMember(String hotelId, HotelMemberCreateRequest createRequest) {
+        return AsyncApiClient.post(HOTEL_MEMBERS_ENDPOINT.replace("{hotelId}", hotelId), createRequest);
+    }
+
+    /**
+     * Remove hotel member
+     * @param hotelId Hotel ID
+     * @param userId User ID
+     * @return Future response from DELETE /hotels/{hotelId}/members/{userId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> removeHotelMember(String hotelId, String userId) {
+        return AsyncApiClient.delete(HOTEL_MEMBER_BY_ID_ENDPOINT.replace("{hotelId}", hotelId).replace("{userId}", userId));
+    }
+
+    // ==================== STAY ENDPOINTS ====================
+
+    /**
+     * Get hotel stays
+     * @param hotelId Hotel ID
+     * @return Future response from GET /hotels/{hotelId}/stays endpoint
+     */
+    public static CompletableFuture<ApiResponse> getHotelStays(String hotelId) {
+        return AsyncApiClient.get(HOTEL_STAYS_ENDPOINT.replace("{hotelId}", hotelId));
+    }
+
+    /**
+     * Create hotel stay
+     * @param hotelId Hotel ID
+     * @param createRequest StayCreateRequest object
+     * @return Future response from POST /hotels/{hotelId}/stays endpoint
+     */
+    public static CompletableFuture<ApiResponse> createHotelStay(String hotelId, StayCreateRequest createRequest) {
+        return AsyncApiClient.post(HOTEL_STAYS_ENDPOINT.replace("{hotelId}", hotelId), createRequest);
+    }
+
+    /**
+     * Update hotel stay
+     * @param hotelId Hotel ID
+     * @param stayId Stay ID
+     * @param updateRequest StayCreateRequest object (used for updates too)
+     * @return Future response from PATCH /hotels/{hotelId}/stays/{stayId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> updateHotelStay(String hotelId, String stayId, StayCreateRequest updateRequest) {
+        return AsyncApiClient.patch(HOTEL_STAY_BY_ID_ENDPOINT.replace("{hotelId}", hotelId).replace("{stayId}", stayId), updateRequest);
+    }
+
+    /**
+     * Delete hotel stay
+     * @param hotelId Hotel ID
+     * @param stayId Stay ID
+     * @return Future response from DELETE /hotels/{hotelId}/stays/{stayId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> deleteHotelStay(String hotelId, String stayId) {
+        return AsyncApiClient.delete(HOTEL_STAY_BY_ID_ENDPOINT.replace("{hotelId}", hotelId).replace("{stayId}", stayId));
+    }
+}
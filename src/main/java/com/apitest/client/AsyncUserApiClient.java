@@ -0,0 +1,64 @@
+package com.apitest.client;
+
+import com.apitest.models.request.user.UserUpdateRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.apitest.client.UserApiClient.*;
+
+/**
+ * Non-blocking API Client for User endpoints
+ * Async counterpart of UserApiClient built on AsyncApiClient
+ */
+public class AsyncUserApiClient {
+
+    /**
+     * Get current user profile (me)
+     * @return Future response from GET /users/me endpoint
+     */
+    public static CompletableFuture<ApiResponse> getMe() {
+        return AsyncApiClient.get(ME_ENDPOINT);
+    }
+
+    /**
+     * Update current user profile
+     * @param updateRequest UserUpdateRequest object
+     * @return Future response from PATCH /users/me endpoint
+     */
+    public static CompletableFuture<ApiResponse> updateMe(UserUpdateRequest updateRequest) {
+        return AsyncApiClient.patch(ME_ENDPOINT, updateRequest);
+    }
+
+    /**
+     * Get user by ID
+     * @param userId User ID
+     * @return Future response from GET /users/{userId} endpoint
+     */
+    public static CompletableFuture<ApiResponse> getUserById(String userId) {
+        return AsyncApiClient.get(USER_BY_ID_ENDPOINT.replace("{userId}", userId));
+    }
+
+    /**
+     * Get hotel admin info for current user
+     * @return Future response from GET /users/me/hotel-admin endpoint
+     */
+    public static CompletableFuture<ApiResponse> getHotelAdmin() {
+        return AsyncApiClient.get(HOTEL_ADMIN_ENDPOINT);
+    }
+
+    /**
+     * Delete avatar for current user
+     * @return Future response from DELETE /users/me/avatar endpoint
+     */
+    public static CompletableFuture<ApiResponse> deleteAvatar() {
+        return AsyncApiClient.delete(AVATAR_ENDPOINT);
+    }
+
+    /**
+     * Get current user's active stays
+     * @return Future response from GET /users/me/stays endpoint
+     */
+    public static CompletableFuture<ApiResponse> getMyStays() {
+        return AsyncApiClient.get(MY_STAYS_ENDPOINT);
+    }
+}
@@ -17,10 +17,10 @@ public class AuthApiClient {
     private static final Logger logger = LogManager.getLogger(AuthApiClient.class);
     
     // Auth endpoints
-    private static final String INITIATE_ENDPOINT = "/auth/initiate";
-    private static final String VERIFY_ENDPOINT = "/auth/verify";
-    private static final String REFRESH_ENDPOINT = "/auth/refresh";
-    private static final String LOGOUT_ENDPOINT = "/auth/logout";
+    static final String INITIATE_ENDPOINT = "/auth/initiate";
+    static final String VERIFY_ENDPOINT = "/auth/verify";
+    static final String REFRESH_ENDPOINT = "/auth/refresh";
+    static final String LOGOUT_ENDPOINT = "/auth/logout";
     
     // Default response time limit for auth operations
     private static final long AUTH_RESPONSE_TIME_LIMIT = 15000; // 15 seconds
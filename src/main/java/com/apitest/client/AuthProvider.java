@@ -0,0 +1,41 @@
+package com.apitest.client;
+
+import com.apitest.service.TokenManager;
+
+/**
+ * Supplies the Authorization header for requests made through a ClientContext
+ */
+@FunctionalInterface
+public interface AuthProvider {
+
+    /**
+     * Get Authorization header value for the next request
+     * @return Header value (e.g. "Bearer ...") or null to send no Authorization header
+     */
+    String getAuthorizationHeader();
+
+    /**
+     * Default provider backed by the shared TokenManager (current token, or the thread's identity inside callAs)
+     * @return AuthProvider
+     */
+    static AuthProvider tokenManager() {
+        return () -> TokenManager.getInstance().getAuthorizationHeader();
+    }
+
+    /**
+     * Provider bound to one identity from the TokenManager pool (e.g. for a ClientContext per user)
+     * @param identity User email authorized through AuthorizationService.completeAuthorization
+     * @return AuthProvider
+     */
+    static AuthProvider identity(String identity) {
+        return () -> TokenManager.getInstance().getAuthorizationHeader(identity);
+    }
+
+    /**
+     * Provider that never sends an Authorization header
+     * @return AuthProvider
+     */
+    static AuthProvider none() {
+        return () -> null;
+    }
+}
@@ -0,0 +1,970 @@
+package com.apitest.client;
+
+import com.apitest.client.cache.ResponseCache;
+import com.apitest.client.cache.ResponseCacheConfig;
+import com.apitest.client.cache.ResponseCacheStats;
+import com.apitest.client.capture.ExchangeCapture;
+import com.apitest.client.coalesce.CoalescingConfig;
+import com.apitest.client.coalesce.CoalescingStats;
+import com.apitest.client.coalesce.RequestCoalescer;
+import com.apitest.client.pool.ConnectionPoolConfig;
+import com.apitest.client.pool.ConnectionPoolManager;
+import com.apitest.client.pool.ConnectionPoolStats;
+import com.apitest.client.ratelimit.RateLimitConfig;
+import com.apitest.client.ratelimit.RateLimitStats;
+import com.apitest.client.ratelimit.RateLimiter;
+import com.apitest.client.resilience.CircuitBreakerConfig;
+import com.apitest.client.resilience.CircuitBreakerRegistry;
+import com.apitest.client.resilience.CircuitBreakerStats;
+import com.apitest.client.resilience.HedgeConfig;
+import com.apitest.client.resilience.HedgeStats;
+import com.apitest.client.resilience.HedgingExecutor;
+import com.apitest.client.resilience.RetryConfig;
+import com.apitest.client.resilience.RetryEngine;
+import com.apitest.client.resilience.RetryStats;
+import com.apitest.client.timeout.TimeoutConfig;
+import com.apitest.client.timeout.TimeoutEnforcer;
+import com.apitest.client.timeout.TimeoutStats;
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.CompressionConfig;
+import com.apitest.client.transport.CompressionCounters;
+import com.apitest.client.transport.CompressionStats;
+import com.apitest.client.transport.HttpCompression;
+import com.apitest.client.transport.Http2Config;
+import com.apitest.client.transport.Http2Transport;
+import com.apitest.client.transport.HttpTransport;
+import com.apitest.client.transport.JdkHttpTransport;
+import com.apitest.client.transport.RestAssuredTransport;
+import com.apitest.client.warmup.ConnectionWarmer;
+import com.apitest.client.warmup.WarmUpConfig;
+import com.apitest.client.warmup.WarmUpReport;
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Instance-scoped client configuration: base URI, timeouts, transport and pool, auth provider,
+ * filters and the optional resilience layers. Nothing here touches global RestAssured state,
+ * so several contexts (e.g. two deployments) can run side by side in one JVM.
+ *
+ * ApiClient's static methods and therefore all domain clients use the context bound to the
+ * current thread, falling back to the default context:
+ * <pre>
+ * ClientContext staging = new ClientContext(new ClientContextConfig().setName("staging").setBaseUri(url));
+ * try (ClientContext.Scope ignored = staging.bind()) {
+ *     HotelApiClient.getHotels();
+ * }
+ * </pre>
+ */
+public class ClientContext {
+
+    private static final Logger logger = LogManager.getLogger(ClientContext.class);
+
+    private static final ClientContext DEFAULT = new ClientContext(ClientContextConfig.fromSystemProperties());
+
+    private static final ThreadLocal<ClientContext> BOUND = new ThreadLocal<>();
+
+    private final String name;
+
+    private volatile String baseUri;
+
+    private volatile int connectTimeoutMillis;
+    private volatile int readTimeoutMillis;
+
+    // High-throughput mode drops the Allure filter and full request/response logging
+    private volatile boolean highThroughputMode;
+
+    // Failure-only exchange capture replaces full request/response logging
+    private volatile boolean captureMode;
+
+    private volatile CompressionConfig compression;
+
+    // Compression byte counts of requests sent through this context
+    private final CompressionCounters compressionCounters = new CompressionCounters();
+
+    // Optional pooled keep-alive connection manager (null means RestAssured default connection handling)
+    private volatile ConnectionPoolManager connectionPool;
+
+    // Transport that executes requests
+    private volatile HttpTransport transport;
+
+    // JDK transport used for streaming reads and async requests
+    private volatile JdkHttpTransport jdkTransport;
+
+    private volatile AuthProvider authProvider;
+
+    private final List<Filter> filters = new CopyOnWriteArrayList<>();
+
+    // Optional layers (null means disabled)
+    private volatile RetryEngine retryEngine;
+    private volatile CircuitBreakerRegistry circuitBreakers;
+    private volatile HedgingExecutor hedging;
+    private volatile ResponseCache responseCache;
+    private volatile RequestCoalescer coalescer;
+    private volatile RateLimiter rateLimiter;
+    private volatile TimeoutEnforcer timeouts;
+
+    private volatile WarmUpReport warmUpReport;
+
+    /**
+     * Create client context
+     * @param config ClientContextConfig
+     */
+    public ClientContext(ClientContextConfig config) {
+        this.name = config.getName();
+        this.baseUri = config.getBaseUri();
+        this.connectTimeoutMillis = config.getConnectTimeoutMillis();
+        this.readTimeoutMillis = config.getReadTimeoutMillis();
+        this.highThroughputMode = config.isHighThroughputMode();
+        this.captureMode = config.isCaptureMode();
+        this.compression = config.getCompression() != null ? config.getCompression() : new CompressionConfig();
+        this.authProvider = config.getAuthProvider() != null ? config.getAuthProvider() : AuthProvider.none();
+        this.filters.addAll(config.getFilters());
+        if (config.getConnectionPool() != null) {
+            connectionPool = new ConnectionPoolManager(config.getConnectionPool());
+        }
+        // Before the transport: JDK transports take their connect timeout from the endpoint timeouts
+        if (config.getTimeouts() != null) {
+            timeouts = new TimeoutEnforcer(config.getTimeouts());
+        }
+        this.transport = createTransport(config.getTransport());
+        if (config.getRetry() != null) {
+            retryEngine = new RetryEngine(config.getRetry());
+        }
+        if (config.getCircuitBreaker() != null) {
+            circuitBreakers = new CircuitBreakerRegistry(config.getCircuitBreaker());
+        }
+        if (config.getHedge() != null) {
+            hedging = new HedgingExecutor(config.getHedge());
+        }
+        if (config.getResponseCache() != null) {
+            responseCache = new ResponseCache(config.getResponseCache());
+        }
+        if (config.getCoalescing() != null) {
+            coalescer = new RequestCoalescer(config.getCoalescing());
+        }
+        if (config.getRateLimit() != null) {
+            rateLimiter = new RateLimiter(config.getRateLimit());
+        }
+        logger.debug("Created client context '{}' for {} using {} transport", name, baseUri, transport.getName());
+    }
+
+    // ==================== CONTEXT BINDING ====================
+
+    /**
+     * Get the default context used when no context is bound to the current thread
+     * @return Default ClientContext
+     */
+    public static ClientContext getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Get the context bound to the current thread, or the default context
+     * @return Current ClientContext
+     */
+    public static ClientContext current() {
+        ClientContext context = BOUND.get();
+        return context != null ? context : DEFAULT;
+    }
+
+    /**
+     * Bind this context to the current thread until the returned scope is closed
+     * @return Scope restoring the previous binding on close
+     */
+    public Scope bind() {
+        ClientContext previous = BOUND.get();
+        BOUND.set(this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Run an action with this context bound to the current thread
+     * @param action Action (e.g. domain client calls)
+     * @param <T> Result type
+     * @return Action result
+     */
+    public <T> T call(Supplier<T> action) {
+        Scope scope = bind();
+        try {
+            return action.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Run an action with this context bound to the current thread
+     * @param action Action (e.g. domain client calls)
+     */
+    public void run(Runnable action) {
+        Scope scope = bind();
+        try {
+            action.run();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Restores the previous thread binding when closed
+     */
+    public static final class Scope implements AutoCloseable {
+        private final ClientContext previous;
+
+        private Scope(ClientContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                BOUND.set(previous);
+            } else {
+                BOUND.remove();
+            }
+        }
+    }
+
+    // ==================== EXECUTION ====================
+
+    /**
+     * Execute request with base URI, auth header and the enabled layers applied
+     * @param request ApiRequest
+     * @return Response
+     */
+    public Response execute(ApiRequest request) {
+        prepare(request);
+
+        // Layers from outermost: coalescing, response cache, retry, hedging, rate limiter, circuit breaker, timeouts.
+        // Every attempt (including retries and hedges) takes a rate limit token before it reaches the circuit
+        // breaker, so client-side throttling is never recorded as an endpoint failure and the breaker's
+        // slow-call timing and the total deadline cover the network exchange only, not time spent waiting
+        // for a token. An open circuit still stops retries and hedges
+        Function<ApiRequest, Response> call = this::executeOnce;
+        TimeoutEnforcer timeout = timeouts;
+        if (timeout != null) {
+            Function<ApiRequest, Response> next = call;
+            call = r -> timeout.execute(r, next);
+        }
+        CircuitBreakerRegistry breakers = circuitBreakers;
+        if (breakers != null) {
+            Function<ApiRequest, Response> next = call;
+            call = r -> breakers.execute(r, next);
+        }
+        RateLimiter limiter = rateLimiter;
+        if (limiter != null) {
+            Function<ApiRequest, Response> next = call;
+            call = r -> limiter.execute(r, next);
+        }
+        HedgingExecutor hedge = hedging;
+        if (hedge != null) {
+            Function<ApiRequest, Response> next = call;
+            call = r -> hedge.execute(r, next);
+        }
+        RetryEngine retry = retryEngine;
+        if (retry != null) {
+            Function<ApiRequest, Response> next = call;
+            call = r -> retry.execute(r, next);
+        }
+        ResponseCache cache = responseCache;
+        if (cache != null) {
+            Function<ApiRequest, Response> next = call;
+            call = r -> cache.execute(r, next);
+        }
+        RequestCoalescer coalescing = coalescer;
+        if (coalescing != null) {
+            Function<ApiRequest, Response> next = call;
+            call = r -> coalescing.execute(r, next);
+        }
+
+        Response response;
+        try {
+            response = call.apply(request);
+        } catch (Throwable t) {
+            // Timeouts, open circuits and connection errors are the failures the capture is most needed for
+            if (captureMode) {
+                ExchangeCapture.record(request, t);
+            }
+            throw t;
+        }
+        if (captureMode) {
+            ExchangeCapture.record(request, response);
+        }
+        return response;
+    }
+
+    /**
+     * Execute request without blocking on the JDK transport
+     * Resilience layers are not applied; endpoint timeouts are, with the total timeout failing the future
+     * @param request ApiRequest
+     * @return Future completed with the response
+     */
+    public CompletableFuture<ApiResponse> executeAsync(ApiRequest request) {
+        prepare(request);
+        JdkHttpTransport jdk = getJdkTransport();
+        TimeoutEnforcer timeout = timeouts;
+        return timeout != null ? timeout.executeAsync(request, jdk::executeAsync) : jdk.executeAsync(request);
+    }
+
+    /**
+     * Open a streaming request on the JDK transport (body is not buffered)
+     * Endpoint timeouts bound the time until headers arrive; the read timeout also bounds each body read
+     * @param request ApiRequest
+     * @return StreamingResponse (caller must close it)
+     */
+    public StreamingResponse openStream(ApiRequest request) {
+        prepare(request);
+        JdkHttpTransport jdk = getJdkTransport();
+        TimeoutEnforcer timeout = timeouts;
+        return timeout != null ? timeout.execute(request, jdk::openStream) : jdk.openStream(request);
+    }
+
+    /**
+     * Apply base URI, endpoint template, compression settings and Authorization header
+     * @param request ApiRequest
+     */
+    private void prepare(ApiRequest request) {
+        if (request.getBaseUri() == null) {
+            request.setBaseUri(baseUri);
+        }
+        request.setEndpointTemplate(EndpointTemplates.resolve(request.getEndpoint()));
+        CompressionConfig currentCompression = compression;
+        request.setResponseCompression(currentCompression.isResponseCompression())
+                .setCompressionCounters(compressionCounters);
+        HttpCompression.compressRequest(request, currentCompression);
+
+        // Automatically inject Bearer token if available
+        String authHeader = authProvider.getAuthorizationHeader();
+        if (authHeader != null) {
+            request.header("Authorization", authHeader);
+            logger.debug("Automatically injected Bearer token");
+        }
+    }
+
+    /**
+     * Execute a single attempt through the current transport
+     * @param request ApiRequest
+     * @return Response
+     */
+    private Response executeOnce(ApiRequest request) {
+        return transport.execute(request);
+    }
+
+    // ==================== TRANSPORT ====================
+
+    /**
+     * Create transport by name
+     * @param transportName "restassured", "jdk" (HTTP/1.1) or "http2"
+     * @return HttpTransport
+     */
+    private HttpTransport createTransport(String transportName) {
+        switch (transportName.toLowerCase()) {
+            case "jdk":
+                return createJdkTransport();
+            case "http2":
+                return new Http2Transport(Http2Config.fromSystemProperties(), jdkConnectTimeout(),
+                        readTimeoutMillis > 0 ? Duration.ofMillis(readTimeoutMillis) : null);
+            default:
+                return createRestAssuredTransport();
+        }
+    }
+
+    /**
+     * Create RestAssured transport for the current configuration
+     * @return RestAssuredTransport
+     */
+    private RestAssuredTransport createRestAssuredTransport() {
+        return RestAssuredTransport.builder()
+                .highThroughputMode(highThroughputMode)
+                .captureMode(captureMode)
+                .connectionPool(connectionPool)
+                .connectTimeoutMillis(connectTimeoutMillis)
+                .readTimeoutMillis(readTimeoutMillis)
+                .filters(filters)
+                .compression(compression)
+                .build();
+    }
+
+    /**
+     * Create HTTP/1.1 JDK transport with this context's timeouts
+     * @return JdkHttpTransport
+     */
+    private JdkHttpTransport createJdkTransport() {
+        return new JdkHttpTransport(HttpClient.Version.HTTP_1_1, jdkConnectTimeout(),
+                readTimeoutMillis > 0 ? Duration.ofMillis(readTimeoutMillis) : null);
+    }
+
+    /**
+     * Get the connect timeout JDK transports are built with: the endpoint timeouts' connect timeout
+     * when they are enabled, otherwise the context-wide one (the JDK fixes it per HttpClient, so
+     * per-group connect overrides do not apply on these transports)
+     * @return Connect timeout, or null for the transport default
+     */
+    private Duration jdkConnectTimeout() {
+        TimeoutEnforcer timeout = timeouts;
+        long millis = timeout != null ? timeout.getConfig().getConnectTimeoutMillis() : connectTimeoutMillis;
+        return millis > 0 ? Duration.ofMillis(millis) : null;
+    }
+
+    /**
+     * Drop the lazily built JDK transport so the next streaming or async request rebuilds it
+     */
+    private void resetJdkTransport() {
+        JdkHttpTransport previousJdkTransport = jdkTransport;
+        jdkTransport = null;
+        if (previousJdkTransport != null) {
+            previousJdkTransport.close();
+        }
+    }
+
+    /**
+     * Get JDK transport for streaming and async requests (reuses the current transport when it is JDK-based)
+     * @return JdkHttpTransport
+     */
+    private JdkHttpTransport getJdkTransport() {
+        HttpTransport current = transport;
+        if (current instanceof JdkHttpTransport) {
+            return (JdkHttpTransport) current;
+        }
+        if (jdkTransport == null) {
+            synchronized (this) {
+                if (jdkTransport == null) {
+                    jdkTransport = createJdkTransport();
+                }
+            }
+        }
+        return jdkTransport;
+    }
+
+    /**
+     * Rebuild the RestAssured transport after a configuration change (custom transports are kept)
+     */
+    private synchronized void rebuildRestAssuredTransport() {
+        HttpTransport previous = transport;
+        if (previous instanceof RestAssuredTransport) {
+            transport = createRestAssuredTransport();
+            previous.close();
+        }
+    }
+
+    /**
+     * Switch the transport used for requests made through this context
+     * @param newTransport HttpTransport implementation
+     */
+    public synchronized void setTransport(HttpTransport newTransport) {
+        logger.info("[{}] Switching transport from {} to {}", name, transport.getName(), newTransport.getName());
+        HttpTransport previous = transport;
+        transport = newTransport;
+        if (previous != newTransport) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Restore the RestAssured transport
+     */
+    public void useRestAssuredTransport() {
+        setTransport(createRestAssuredTransport());
+    }
+
+    /**
+     * Get the transport currently used for requests
+     * @return HttpTransport
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    // ==================== CONFIGURATION ====================
+
+    /**
+     * Get context name
+     * @return Name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Set base URI for requests made through this context
+     * @param baseUri Base URI
+     */
+    public void setBaseUri(String baseUri) {
+        logger.info("[{}] Setting base URI to: {}", name, baseUri);
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Get base URI
+     * @return Base URI
+     */
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * Set connect and read timeouts (0 means transport default / no timeout)
+     * Rebuilds the RestAssured and JDK transports; custom transports are kept
+     * @param connectTimeoutMillis TCP connect timeout
+     * @param readTimeoutMillis Socket read / request timeout
+     */
+    public synchronized void setTimeouts(int connectTimeoutMillis, int readTimeoutMillis) {
+        logger.info("[{}] Setting timeouts - connect: {}ms, read: {}ms", name, connectTimeoutMillis, readTimeoutMillis);
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        resetJdkTransport();
+        rebuildRestAssuredTransport();
+    }
+
+    /**
+     * Get TCP connect timeout
+     * @return Connect timeout in milliseconds (0 means transport default)
+     */
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    /**
+     * Get socket read / request timeout
+     * @return Read timeout in milliseconds (0 means no timeout)
+     */
+    public int getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    /**
+     * Set the provider of Authorization headers for this context
+     * @param authProvider AuthProvider (null to send no Authorization header)
+     */
+    public void setAuthProvider(AuthProvider authProvider) {
+        this.authProvider = authProvider != null ? authProvider : AuthProvider.none();
+    }
+
+    /**
+     * Get the provider of Authorization headers
+     * @return AuthProvider
+     */
+    public AuthProvider getAuthProvider() {
+        return authProvider;
+    }
+
+    /**
+     * Add a RestAssured filter to every request of the RestAssured transport
+     * @param filter Filter
+     */
+    public synchronized void addFilter(Filter filter) {
+        filters.add(filter);
+        rebuildRestAssuredTransport();
+    }
+
+    /**
+     * Remove a previously added RestAssured filter
+     * @param filter Filter
+     */
+    public synchronized void removeFilter(Filter filter) {
+        if (filters.remove(filter)) {
+            rebuildRestAssuredTransport();
+        }
+    }
+
+    /**
+     * Get RestAssured filters added to this context
+     * @return Unmodifiable list of filters
+     */
+    public List<Filter> getFilters() {
+        return Collections.unmodifiableList(filters);
+    }
+
+    /**
+     * Enable or disable high-throughput mode (drops the Allure filter and full logging)
+     * @param enabled true to enable high-throughput mode
+     */
+    public synchronized void setHighThroughputMode(boolean enabled) {
+        logger.info("[{}] Setting high-throughput mode to: {}", name, enabled);
+        highThroughputMode = enabled;
+        rebuildRestAssuredTransport();
+    }
+
+    /**
+     * Check whether high-throughput mode is enabled
+     * @return true if the Allure filter and full logging are disabled
+     */
+    public boolean isHighThroughputMode() {
+        return highThroughputMode;
+    }
+
+    /**
+     * Enable or disable failure-only exchange capture for requests made through this context
+     * @param enabled true to buffer exchanges instead of logging them
+     */
+    public synchronized void setCaptureMode(boolean enabled) {
+        logger.info("[{}] Setting exchange capture mode to: {}", name, enabled);
+        captureMode = enabled;
+        rebuildRestAssuredTransport();
+    }
+
+    /**
+     * Check whether failure-only exchange capture is enabled
+     * @return true if exchanges are buffered instead of logged
+     */
+    public boolean isCaptureMode() {
+        return captureMode;
+    }
+
+    /**
+     * Configure gzip/deflate negotiation for responses and opt-in compression of large request bodies
+     * @param config CompressionConfig
+     */
+    public synchronized void configureCompression(CompressionConfig config) {
+        logger.info("[{}] Configuring compression - response: {}, request: {} (threshold {} bytes)", name,
+                config.isResponseCompression(), config.isRequestCompression(), config.getRequestThresholdBytes());
+        compression = config;
+        rebuildRestAssuredTransport();
+    }
+
+    /**
+     * Get the compression configuration
+     * @return CompressionConfig
+     */
+    public CompressionConfig getCompressionConfig() {
+        return compression;
+    }
+
+    /**
+     * Get compressed and uncompressed byte counts per endpoint template
+     * @return Map of endpoint template to CompressionStats
+     */
+    public Map<String, CompressionStats> getCompressionStats() {
+        return compressionCounters.getStats();
+    }
+
+    /**
+     * Reset this context's compression byte counts
+     */
+    public void resetCompressionStats() {
+        compressionCounters.reset();
+    }
+
+    /**
+     * Enable the pooled keep-alive connection manager (replaces any existing pool)
+     * @param config ConnectionPoolConfig
+     */
+    public synchronized void configureConnectionPool(ConnectionPoolConfig config) {
+        logger.info("[{}] Configuring connection pool", name);
+        ConnectionPoolManager previous = connectionPool;
+        connectionPool = new ConnectionPoolManager(config);
+        rebuildRestAssuredTransport();
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Disable the connection pool
+     */
+    public synchronized void disableConnectionPool() {
+        ConnectionPoolManager previous = connectionPool;
+        if (previous != null) {
+            logger.info("[{}] Disabling connection pool", name);
+            connectionPool = null;
+            rebuildRestAssuredTransport();
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Get connection pool statistics (leased, available, pending)
+     * @return ConnectionPoolStats or null if pooling is disabled
+     */
+    public ConnectionPoolStats getConnectionPoolStats() {
+        ConnectionPoolManager pool = connectionPool;
+        return pool != null ? pool.getStats() : null;
+    }
+
+    /**
+     * Enable retries for transient failures (replaces any existing retry configuration)
+     * @param config RetryConfig
+     */
+    public synchronized void configureRetry(RetryConfig config) {
+        logger.info("[{}] Configuring retry engine", name);
+        retryEngine = new RetryEngine(config);
+    }
+
+    /**
+     * Disable retries
+     */
+    public synchronized void disableRetry() {
+        logger.info("[{}] Disabling retry engine", name);
+        retryEngine = null;
+    }
+
+    /**
+     * Get retry counters
+     * @return RetryStats or null if retries are disabled
+     */
+    public RetryStats getRetryStats() {
+        RetryEngine retry = retryEngine;
+        return retry != null ? retry.getStats() : null;
+    }
+
+    /**
+     * Enable per-endpoint circuit breakers (replaces existing breakers and their state)
+     * @param config CircuitBreakerConfig
+     */
+    public synchronized void configureCircuitBreaker(CircuitBreakerConfig config) {
+        logger.info("[{}] Configuring circuit breakers", name);
+        circuitBreakers = new CircuitBreakerRegistry(config);
+    }
+
+    /**
+     * Disable circuit breakers
+     */
+    public synchronized void disableCircuitBreaker() {
+        logger.info("[{}] Disabling circuit breakers", name);
+        circuitBreakers = null;
+    }
+
+    /**
+     * Get circuit breaker state and rates per endpoint template
+     * @return Map of endpoint template to CircuitBreakerStats (empty if disabled)
+     */
+    public Map<String, CircuitBreakerStats> getCircuitBreakerStats() {
+        CircuitBreakerRegistry breakers = circuitBreakers;
+        return breakers != null ? breakers.getStats() : Collections.emptyMap();
+    }
+
+    /**
+     * Enable hedged GET requests (replaces any existing hedging configuration and latency history)
+     * @param config HedgeConfig
+     */
+    public synchronized void configureHedging(HedgeConfig config) {
+        logger.info("[{}] Configuring hedged GET requests", name);
+        HedgingExecutor previous = hedging;
+        hedging = new HedgingExecutor(config);
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Disable hedged GET requests
+     */
+    public synchronized void disableHedging() {
+        HedgingExecutor previous = hedging;
+        if (previous != null) {
+            logger.info("[{}] Disabling hedged GET requests", name);
+            hedging = null;
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Get hedge rate and win rate per endpoint template
+     * @return Map of endpoint template to HedgeStats (empty if disabled)
+     */
+    public Map<String, HedgeStats> getHedgeStats() {
+        HedgingExecutor hedge = hedging;
+        return hedge != null ? hedge.getStats() : Collections.emptyMap();
+    }
+
+    /**
+     * Enable the conditional GET response cache, replacing any existing cache
+     * @param config ResponseCacheConfig
+     */
+    public synchronized void configureResponseCache(ResponseCacheConfig config) {
+        logger.info("[{}] Configuring response cache (max entries: {})", name, config.getMaxEntries());
+        responseCache = new ResponseCache(config);
+    }
+
+    /**
+     * Disable the response cache and drop all entries
+     */
+    public synchronized void disableResponseCache() {
+        logger.info("[{}] Disabling response cache", name);
+        responseCache = null;
+    }
+
+    /**
+     * Get response cache hit/miss/revalidation counters
+     * @return ResponseCacheStats or null if the cache is disabled
+     */
+    public ResponseCacheStats getResponseCacheStats() {
+        ResponseCache cache = responseCache;
+        return cache != null ? cache.getStats() : null;
+    }
+
+    /**
+     * Enable single-flight coalescing of identical concurrent GETs (replaces counters)
+     * @param config CoalescingConfig
+     */
+    public synchronized void configureCoalescing(CoalescingConfig config) {
+        logger.info("[{}] Configuring GET request coalescing", name);
+        coalescer = new RequestCoalescer(config);
+    }
+
+    /**
+     * Disable request coalescing
+     */
+    public synchronized void disableCoalescing() {
+        logger.info("[{}] Disabling GET request coalescing", name);
+        coalescer = null;
+    }
+
+    /**
+     * Get coalescing counters per endpoint template
+     * @return Map of endpoint template to CoalescingStats (empty if disabled)
+     */
+    public Map<String, CoalescingStats> getCoalescingStats() {
+        RequestCoalescer coalescing = coalescer;
+        return coalescing != null ? coalescing.getStats() : Collections.emptyMap();
+    }
+
+    /**
+     * Enable per-endpoint-group token bucket rate limiting (replaces buckets and counters)
+     * @param config RateLimitConfig
+     */
+    public synchronized void configureRateLimit(RateLimitConfig config) {
+        logger.info("[{}] Configuring rate limits: {}", name, config.getGroupLimits());
+        rateLimiter = new RateLimiter(config);
+    }
+
+    /**
+     * Disable rate limiting
+     */
+    public synchronized void disableRateLimit() {
+        logger.info("[{}] Disabling rate limits", name);
+        rateLimiter = null;
+    }
+
+    /**
+     * Get throttled calls and wait times per endpoint group
+     * @return Map of endpoint group to RateLimitStats (empty if disabled)
+     */
+    public Map<String, RateLimitStats> getRateLimitStats() {
+        RateLimiter limiter = rateLimiter;
+        return limiter != null ? limiter.getStats() : Collections.emptyMap();
+    }
+
+    /**
+     * Get time the current thread's last request waited for a rate limit token
+     * @return Wait in milliseconds (0 if rate limiting is disabled)
+     */
+    public long getLastRateLimitWaitMillis() {
+        RateLimiter limiter = rateLimiter;
+        return limiter != null ? limiter.getLastWaitMillis() : 0;
+    }
+
+    /**
+     * Apply per-endpoint-group connect, read and total timeouts (replaces counters)
+     * Rebuilds the lazily built JDK transport; a JDK transport already used for requests keeps its connect timeout
+     * @param config TimeoutConfig
+     */
+    public synchronized void configureTimeouts(TimeoutConfig config) {
+        logger.info("[{}] Configuring endpoint timeouts: {}", name, config.getGroupTimeouts());
+        timeouts = new TimeoutEnforcer(config);
+        resetJdkTransport();
+    }
+
+    /**
+     * Disable endpoint timeouts (context-wide setTimeouts values still apply)
+     */
+    public synchronized void disableTimeouts() {
+        logger.info("[{}] Disabling endpoint timeouts", name);
+        timeouts = null;
+        resetJdkTransport();
+    }
+
+    /**
+     * Get endpoint timeout configuration
+     * @return TimeoutConfig or null if endpoint timeouts are disabled
+     */
+    public TimeoutConfig getTimeoutConfig() {
+        TimeoutEnforcer timeout = timeouts;
+        return timeout != null ? timeout.getConfig() : null;
+    }
+
+    /**
+     * Get requests and connect/read/total timeouts per endpoint group
+     * @return Map of endpoint group to TimeoutStats (empty if disabled)
+     */
+    public Map<String, TimeoutStats> getTimeoutStats() {
+        TimeoutEnforcer timeout = timeouts;
+        return timeout != null ? timeout.getStats() : Collections.emptyMap();
+    }
+
+    /**
+     * Warm up DNS, TLS session cache, pooled connections and the backend before the first test
+     * Requests bypass the resilience layers and reporting filters, so test latencies stay clean
+     * @param config WarmUpConfig
+     * @return WarmUpReport (also kept for getWarmUpReport)
+     */
+    public WarmUpReport warmUp(WarmUpConfig config) {
+        HttpTransport current = transport;
+        ConnectionPoolManager pool = connectionPool;
+        HttpTransport warmUpTransport = current instanceof RestAssuredTransport
+                ? RestAssuredTransport.builder()
+                        .highThroughputMode(true)
+                        .connectionPool(pool)
+                        .connectTimeoutMillis(connectTimeoutMillis)
+                        .readTimeoutMillis(readTimeoutMillis)
+                        .compression(compression)
+                        .build()
+                : current;
+        if (current instanceof RestAssuredTransport && pool == null && config.getConnections() > 1) {
+            // Unpooled RestAssured clients close their connection after each request, so opening
+            // connections in parallel gains nothing; one connection still wakes the backend
+            logger.warn("[{}] Connection pool disabled (api.pool.enabled=false): warm-up primes DNS, TLS sessions "
+                    + "and the backend only, connections are not kept", name);
+            config = new WarmUpConfig()
+                    .setConnections(1)
+                    .setRounds(config.getRounds())
+                    .setDnsCacheTtlSeconds(config.getDnsCacheTtlSeconds())
+                    .setTimeoutMillis(config.getTimeoutMillis())
+                    .setEndpoints(config.getEndpoints());
+        }
+        logger.info("[{}] Warming up {} with {} connections", name, baseUri, config.getConnections());
+        try {
+            warmUpReport = new ConnectionWarmer(config).warmUp(baseUri, warmUpTransport, () -> {
+                ConnectionPoolStats stats = pool != null ? pool.getStats() : null;
+                return stats != null ? stats.getAvailable() : -1;
+            });
+        } finally {
+            // The warm-up copy of the RestAssured transport is ours; the pool it shares stays open
+            if (warmUpTransport != current) {
+                warmUpTransport.close();
+            }
+        }
+        return warmUpReport;
+    }
+
+    /**
+     * Get the report of the last warm-up
+     * @return WarmUpReport or null if warm-up has not run
+     */
+    public WarmUpReport getWarmUpReport() {
+        return warmUpReport;
+    }
+
+    /**
+     * Release the transport, pool and hedging threads owned by this context
+     */
+    public synchronized void close() {
+        logger.info("[{}] Closing client context", name);
+        transport.close();
+        resetJdkTransport();
+        disableConnectionPool();
+        disableHedging();
+    }
+}
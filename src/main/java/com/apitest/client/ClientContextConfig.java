@@ -0,0 +1,105 @@
+package com.apitest.client;
+
+import com.apitest.client.cache.ResponseCacheConfig;
+import com.apitest.client.coalesce.CoalescingConfig;
+import com.apitest.client.pool.ConnectionPoolConfig;
+import com.apitest.client.ratelimit.RateLimitConfig;
+import com.apitest.client.resilience.CircuitBreakerConfig;
+import com.apitest.client.resilience.HedgeConfig;
+import com.apitest.client.resilience.RetryConfig;
+import com.apitest.client.timeout.TimeoutConfig;
+import com.apitest.client.transport.CompressionConfig;
+import io.restassured.filter.Filter;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for one ClientContext
+ * Optional features (pool, retry, circuit breaker, hedging, cache, coalescing, rate limit, timeouts) are disabled when their config is null
+ */
+@Data
+@Accessors(chain = true)
+public class ClientContextConfig {
+
+    // Name used in logs to tell contexts apart
+    private String name = "default";
+
+    // Base URI for all requests made through the context
+    private String baseUri = System.getProperty("api.baseUrl", ApiClient.BASE_URL);
+
+    // TCP connect timeout; 0 means the transport default
+    private int connectTimeoutMillis = Integer.getInteger("api.client.connectTimeoutMillis", 0);
+
+    // Socket read / request timeout; 0 means no timeout
+    private int readTimeoutMillis = Integer.getInteger("api.client.readTimeoutMillis", 0);
+
+    // Drops the Allure filter and full request/response logging
+    private boolean highThroughputMode = Boolean.getBoolean("api.client.highThroughput");
+
+    // Buffer exchanges per thread and log them only on failure instead of logging every request
+    private boolean captureMode = Boolean.getBoolean("api.capture.enabled");
+
+    // gzip/deflate negotiation for responses and opt-in request body compression
+    private CompressionConfig compression = CompressionConfig.fromSystemProperties();
+
+    // "restassured", "jdk" or "http2"
+    private String transport = System.getProperty("api.transport", "restassured");
+
+    private AuthProvider authProvider = AuthProvider.tokenManager();
+
+    // Extra RestAssured filters applied to every request of the RestAssured transport
+    private List<Filter> filters = new ArrayList<>();
+
+    private ConnectionPoolConfig connectionPool;
+
+    private RetryConfig retry;
+
+    private CircuitBreakerConfig circuitBreaker;
+
+    private HedgeConfig hedge;
+
+    private ResponseCacheConfig responseCache;
+
+    private CoalescingConfig coalescing;
+
+    private RateLimitConfig rateLimit;
+
+    private TimeoutConfig timeouts;
+
+    /**
+     * Create configuration from system properties; optional features follow their -Dapi.*.enabled flags
+     * @return ClientContextConfig
+     */
+    public static ClientContextConfig fromSystemProperties() {
+        ClientContextConfig config = new ClientContextConfig();
+        if (Boolean.getBoolean("api.pool.enabled")) {
+            config.setConnectionPool(ConnectionPoolConfig.fromSystemProperties());
+        }
+        if (Boolean.getBoolean("api.retry.enabled")) {
+            config.setRetry(RetryConfig.fromSystemProperties());
+        }
+        if (Boolean.getBoolean("api.breaker.enabled")) {
+            config.setCircuitBreaker(CircuitBreakerConfig.fromSystemProperties());
+        }
+        if (Boolean.getBoolean("api.hedge.enabled")) {
+            config.setHedge(HedgeConfig.fromSystemProperties());
+        }
+        if (Boolean.getBoolean("api.cache.enabled")) {
+            config.setResponseCache(ResponseCacheConfig.fromSystemProperties());
+        }
+        if (Boolean.getBoolean("api.coalesce.enabled")) {
+            config.setCoalescing(CoalescingConfig.fromSystemProperties());
+        }
+        if (Boolean.getBoolean("api.ratelimit.enabled")) {
+            config.setRateLimit(RateLimitConfig.fromSystemProperties());
+        }
+        // Endpoint timeouts are on unless explicitly disabled, so a hung request cannot hold a test thread
+        if (!"false".equalsIgnoreCase(System.getProperty("api.timeout.enabled"))) {
+            config.setTimeouts(TimeoutConfig.fromSystemProperties());
+        }
+        return config;
+    }
+}
@@ -1,5 +1,7 @@
 package com.apitest.client;
 
+import com.apitest.client.bulk.BulkExecutor;
+import com.apitest.client.bulk.BulkResult;
 //import com.apitest.models.comment.Comment;
 import com.apitest.models.request.comment.CommentCreateRequest;
 import com.apitest.utils.ResponseValidator;
@@ -8,6 +10,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * API Client for Comment endpoints
@@ -18,8 +21,8 @@ public class CommentApiClient {
     private static final Logger logger = LogManager.getLogger(CommentApiClient.class);
     
     // Comment endpoints
-    private static final String COMMENTS_ENDPOINT = "/events/{eventId}/comments";
-    private static final String COMMENT_BY_ID_ENDPOINT = "/events/{eventId}/comments/{commentId}";
+    static final String COMMENTS_ENDPOINT = "/events/{eventId}/comments";
+    static final String COMMENT_BY_ID_ENDPOINT = "/events/{eventId}/comments/{commentId}";
     
     // Default response time limit for comment operations
     private static final long COMMENT_RESPONSE_TIME_LIMIT = 10000; // 10 seconds
@@ -34,6 +37,24 @@ public class CommentApiClient {
     public static Response getComments(String eventId, String authorId, Integer limit) {
         logger.info("Getting comments for event: {}", eventId);
         
+        String fullEndpoint = buildCommentsEndpoint(eventId, authorId, limit);
+        Response response = ApiClient.get(fullEndpoint);
+        
+        logger.info("Get comments request sent to: {}", fullEndpoint);
+        logger.info("Get comments response - Status: {}, Time: {}ms", 
+                   response.getStatusCode(), response.getTime());
+        
+        return response;
+    }
+
+    /**
+     * Build GET /events/{eventId}/comments endpoint with filter query string
+     * @param eventId Event ID
+     * @param authorId Author ID filter (optional)
+     * @param limit Number of comments to return (optional)
+     * @return Endpoint with query string
+     */
+    static String buildCommentsEndpoint(String eventId, String authorId, Integer limit) {
         String endpoint = COMMENTS_ENDPOINT.replace("{eventId}", eventId);
         StringBuilder queryParams = new StringBuilder();
         
@@ -52,14 +73,7 @@ public class CommentApiClient {
             }
         }
         
-        String fullEndpoint = endpoint + queryParams.toString();
-        Response response = ApiClient.get(fullEndpoint);
-        
-        logger.info("Get comments request sent to: {}", fullEndpoint);
-        logger.info("Get comments response - Status: {}, Time: {}ms", 
-                   response.getStatusCode(), response.getTime());
-        
-        return response;
+        return endpoint + queryParams.toString();
     }
 
     /**
@@ -71,6 +85,21 @@ public class CommentApiClient {
         return getComments(eventId, null, 20);
     }
 
+    /**
+     * Stream comments one at a time without materializing the response body
+     * Close the returned Stream (try-with-resources) to release the connection
+     * @param eventId Event ID
+     * @param authorId Author ID filter (optional)
+     * @param limit Number of comments to return (optional)
+     * @param commentType Class to deserialize each comment into
+     * @param <T> Generic type
+     * @return Stream of comments
+     */
+    public static <T> Stream<T> streamComments(String eventId, String authorId, Integer limit, Class<T> commentType) {
+        logger.info("Streaming comments for event: {}", eventId);
+        return ApiClient.getStream(buildCommentsEndpoint(eventId, authorId, limit)).streamArray(commentType);
+    }
+
     /**
      * Create a new comment
      * @param eventId Event ID
@@ -106,6 +135,22 @@ public class CommentApiClient {
         return createComment(eventId, createRequest);
     }
 
+    /**
+     * Create many comments with bounded concurrency (e.g. to seed paging tests)
+     * @param eventId Event ID
+     * @param createRequests CommentCreateRequest objects
+     * @param parallelism Maximum requests in flight
+     * @return BulkResult with responses in input order and per-item failures and latency
+     */
+    public static BulkResult<CommentCreateRequest> createComments(String eventId, List<CommentCreateRequest> createRequests,
+                                                                  int parallelism) {
+        logger.info("Creating {} comments for event: {}", createRequests.size(), eventId);
+
+        String endpoint = COMMENTS_ENDPOINT.replace("{eventId}", eventId);
+        return BulkExecutor.execute("POST " + endpoint, createRequests, parallelism,
+                createRequest -> ApiClient.post(endpoint, createRequest));
+    }
+
     /**
      * Delete a comment
      * @param eventId Event ID
@@ -0,0 +1,135 @@
+package com.apitest.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Maps concrete endpoint paths (e.g. /hotels/123/locations?limit=5) to the endpoint templates
+ * declared by the domain clients (e.g. /hotels/{hotelId}/locations), so per-endpoint policies
+ * and metrics are keyed by template instead of by every distinct ID.
+ * Templates are also mapped to the endpoint group of the domain client that declares them.
+ */
+public class EndpointTemplates {
+
+    // Endpoint groups, one per domain client
+    public static final String AUTH = "auth";
+    public static final String USERS = "users";
+    public static final String HOTELS = "hotels";
+    public static final String EVENTS = "events";
+    public static final String COMMENTS = "comments";
+
+    // Unknown paths are normalized by replacing ID-like segments
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|(?=.*\\d)[A-Za-z0-9_-]{16,}");
+
+    private static final int MAX_CACHED_PATHS = 10000;
+
+    private static final List<String[]> TEMPLATES = new ArrayList<>();
+
+    // Template -> endpoint group
+    private static final Map<String, String> GROUPS = new HashMap<>();
+
+    private static final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    static {
+        register(AUTH, AuthApiClient.getAuthEndpoints());
+        register(USERS, UserApiClient.getUserEndpoints());
+        register(HOTELS, HotelApiClient.getHotelEndpoints());
+        register(EVENTS, EventApiClient.getEventEndpoints());
+        register(COMMENTS, CommentApiClient.getCommentEndpoints());
+    }
+
+    private static void register(String group, String[] endpoints) {
+        for (String endpoint : endpoints) {
+            TEMPLATES.add(endpoint.substring(1).split("/"));
+            GROUPS.putIfAbsent(endpoint, group);
+        }
+    }
+
+    /**
+     * Resolve the endpoint template for a concrete or templated endpoint
+     * @param endpoint Endpoint path, optionally with a query string
+     * @return Matching template, or the path with ID-like segments replaced by {id}
+     */
+    public static String resolve(String endpoint) {
+        if (endpoint == null) {
+            return null;
+        }
+        int queryStart = endpoint.indexOf('?');
+        String path = queryStart >= 0 ? endpoint.substring(0, queryStart) : endpoint;
+        if (path.indexOf('{') >= 0) {
+            return path;
+        }
+
+        String template = cache.get(path);
+        if (template == null) {
+            template = match(path);
+            if (cache.size() >= MAX_CACHED_PATHS) {
+                cache.clear();
+            }
+            cache.put(path, template);
+        }
+        return template;
+    }
+
+    /**
+     * Resolve the endpoint group (auth, users, hotels, events, comments) for an endpoint
+     * @param endpoint Endpoint path or template, optionally with a query string
+     * @return Group of the declaring domain client, or the first path segment for unregistered paths
+     */
+    public static String group(String endpoint) {
+        String template = resolve(endpoint);
+        if (template == null) {
+            return null;
+        }
+        String group = GROUPS.get(template);
+        if (group != null) {
+            return group;
+        }
+        int end = template.indexOf('/', 1);
+        return end > 0 ? template.substring(1, end) : template.substring(1);
+    }
+
+    /**
+     * Find the registered template with the most literal segment matches
+     * @param path Concrete path without query string
+     * @return Template
+     */
+    private static String match(String path) {
+        String[] segments = path.startsWith("/") ? path.substring(1).split("/") : path.split("/");
+        String[] best = null;
+        int bestScore = -1;
+        for (String[] template : TEMPLATES) {
+            if (template.length != segments.length) {
+                continue;
+            }
+            int score = 0;
+            for (int i = 0; i < template.length && score >= 0; i++) {
+                if (template[i].equals(segments[i])) {
+                    score++;
+                } else if (!template[i].startsWith("{")) {
+                    score = -1;
+                }
+            }
+            if (score > bestScore) {
+                best = template;
+                bestScore = score;
+            }
+        }
+
+        StringBuilder template = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            template.append('/');
+            if (best != null) {
+                template.append(best[i]);
+            } else {
+                template.append(ID_SEGMENT.matcher(segments[i]).matches() ? "{id}" : segments[i]);
+            }
+        }
+        return template.toString();
+    }
+}
@@ -8,6 +8,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * API Client for Event endpoints
@@ -18,24 +19,24 @@ public class EventApiClient {
     private static final Logger logger = LogManager.getLogger(EventApiClient.class);
     
     // Event endpoints
-    private static final String EVENTS_ENDPOINT = "/events";
-    private static final String EVENT_BY_ID_ENDPOINT = "/events/{eventId}";
-    private static final String ATTEND_EVENT_ENDPOINT = "/events/{eventId}/attend";
-    private static final String LEAVE_EVENT_ENDPOINT = "/events/{eventId}/attend";
-    private static final String CANCEL_EVENT_ENDPOINT = "/events/{eventId}/cancel";
-    private static final String ARCHIVE_EVENT_ENDPOINT = "/events/{eventId}/archive";
-    private static final String LIKE_EVENT_ENDPOINT = "/events/{eventId}/like";
-    private static final String LIKES_COUNT_ENDPOINT = "/events/{eventId}/likes/count";
-    private static final String EVENT_IMAGES_ENDPOINT = "/events/{eventId}/images";
-    private static final String EVENT_IMAGE_BY_ID_ENDPOINT = "/events/{eventId}/images/{imageId}";
+    static final String EVENTS_ENDPOINT = "/events";
+    static final String EVENT_BY_ID_ENDPOINT = "/events/{eventId}";
+    static final String ATTEND_EVENT_ENDPOINT = "/events/{eventId}/attend";
+    static final String LEAVE_EVENT_ENDPOINT = "/events/{eventId}/attend";
+    static final String CANCEL_EVENT_ENDPOINT = "/events/{eventId}/cancel";
+    static final String ARCHIVE_EVENT_ENDPOINT = "/events/{eventId}/archive";
+    static final String LIKE_EVENT_ENDPOINT = "/events/{eventId}/like";
+    static final String LIKES_COUNT_ENDPOINT = "/events/{eventId}/likes/count";
+    static final String EVENT_IMAGES_ENDPOINT = "/events/{eventId}/images";
+    static final String EVENT_IMAGE_BY_ID_ENDPOINT = "/events/{eventId}/images/{imageId}";
     
     // Recurring event endpoints
-    private static final String RECURRING_EVENTS_ENDPOINT = "/events/recurring";
-    private static final String RECURRING_EVENT_BY_ID_ENDPOINT = "/events/recurring/{recurringEventId}";
-    private static final String RECURRING_INSTANCES_ENDPOINT = "/events/recurring/{recurringEventId}/instances";
-    private static final String ALL_RECURRING_INSTANCES_ENDPOINT = "/events/recurring/instances";
-    private static final String RECURRING_EXCEPTIONS_ENDPOINT = "/events/recurring/{recurringEventId}/exceptions";
-    private static final String RRULE_EXAMPLES_ENDPOINT = "/events/recurring/rrule-examples";
+    static final String RECURRING_EVENTS_ENDPOINT = "/events/recurring";
+    static final String RECURRING_EVENT_BY_ID_ENDPOINT = "/events/recurring/{recurringEventId}";
+    static final String RECURRING_INSTANCES_ENDPOINT = "/events/recurring/{recurringEventId}/instances";
+    static final String ALL_RECURRING_INSTANCES_ENDPOINT = "/events/recurring/instances";
+    static final String RECURRING_EXCEPTIONS_ENDPOINT = "/events/recurring/{recurringEventId}/exceptions";
+    static final String RRULE_EXAMPLES_ENDPOINT = "/events/recurring/rrule-examples";
     
     // Default response time limit for event operations
     private static final long EVENT_RESPONSE_TIME_LIMIT = 10000; // 10 seconds
@@ -73,6 +74,29 @@ public class EventApiClient {
                                    String endDate, Integer limit, Integer offset) {
         logger.info("Getting events with filters");
         
+        String endpoint = buildEventsEndpoint(hotelId, creatorUserId, startDate, endDate, limit, offset);
+        
+        Response response = ApiClient.get(endpoint);
+        
+        logger.info("Get events request sent to: {}", endpoint);
+        logger.info("Get events response - Status: {}, Time: {}ms", 
+                   response.getStatusCode(), response.getTime());
+        
+        return response;
+    }
+
+    /**
+     * Build GET /events endpoint with filter query string
+     * @param hotelId Hotel ID filter
+     * @param creatorUserId Creator user ID filter
+     * @param startDate Start date filter
+     * @param endDate End date filter
+     * @param limit Number of events to return
+     * @param offset Number of events to skip
+     * @return Endpoint with query string
+     */
+    static String buildEventsEndpoint(String hotelId, String creatorUserId, String startDate,
+                                      String endDate, Integer limit, Integer offset) {
         StringBuilder endpoint = new StringBuilder(EVENTS_ENDPOINT + "?");
         boolean first = true;
         
@@ -100,13 +124,7 @@ public class EventApiClient {
             endpoint.append(first ? "" : "&").append("offset=").append(offset);
         }
         
-        Response response = ApiClient.get(endpoint.toString());
-        
-        logger.info("Get events request sent to: {}", endpoint);
-        logger.info("Get events response - Status: {}, Time: {}ms", 
-                   response.getStatusCode(), response.getTime());
-        
-        return response;
+        return endpoint.toString();
     }
 
     /**
@@ -118,6 +136,26 @@ public class EventApiClient {
         return getEvents(hotelId, null, null, null, 20, 0);
     }
 
+    /**
+     * Stream events one at a time without materializing the response body
+     * Close the returned Stream (try-with-resources) to release the connection
+     * @param hotelId Hotel ID filter
+     * @param creatorUserId Creator user ID filter
+     * @param startDate Start date filter
+     * @param endDate End date filter
+     * @param limit Number of events to return
+     * @param offset Number of events to skip
+     * @param eventType Class to deserialize each event into
+     * @param <T> Generic type
+     * @return Stream of events
+     */
+    public static <T> Stream<T> streamEvents(String hotelId, String creatorUserId, String startDate,
+                                             String endDate, Integer limit, Integer offset, Class<T> eventType) {
+        logger.info("Streaming events with filters");
+        String endpoint = buildEventsEndpoint(hotelId, creatorUserId, startDate, endDate, limit, offset);
+        return ApiClient.getStream(endpoint).streamArray(eventType);
+    }
+
     /**
      * Get event by ID
      * @param eventId Event ID
@@ -379,6 +417,18 @@ public class EventApiClient {
         return response;
     }
 
+    /**
+     * Stream all recurring instances one at a time without materializing the response body
+     * Close the returned Stream (try-with-resources) to release the connection
+     * @param instanceType Class to deserialize each instance into
+     * @param <T> Generic type
+     * @return Stream of recurring instances
+     */
+    public static <T> Stream<T> streamAllRecurringInstances(Class<T> instanceType) {
+        logger.info("Streaming all recurring instances");
+        return ApiClient.getStream(ALL_RECURRING_INSTANCES_ENDPOINT).streamArray(instanceType);
+    }
+
 //    /**
 //     * Add recurring exception
 //     * @param recurringEventId Recurring event ID
@@ -1,5 +1,7 @@
 package com.apitest.client;
 
+import com.apitest.client.bulk.BulkExecutor;
+import com.apitest.client.bulk.BulkResult;
 import com.apitest.models.request.hotel.HotelCreateRequest;
 import com.apitest.models.request.hotel.HotelMemberCreateRequest;
 import com.apitest.models.request.hotel.LocationCreateRequest;
@@ -12,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * API Client for Hotel endpoints
@@ -22,14 +25,14 @@ public class HotelApiClient {
     private static final Logger logger = LogManager.getLogger(HotelApiClient.class);
     
     // Hotel endpoints
-    private static final String HOTELS_ENDPOINT = "/hotels";
-    private static final String HOTEL_BY_ID_ENDPOINT = "/hotels/{hotelId}";
-    private static final String HOTEL_LOCATIONS_ENDPOINT = "/hotels/{hotelId}/locations";
-    private static final String LOCATION_BY_ID_ENDPOINT = "/hotels/locations/{locationId}";
-    private static final String HOTEL_MEMBERS_ENDPOINT = "/hotels/{hotelId}/members";
-    private static final String HOTEL_MEMBER_BY_ID_ENDPOINT = "/hotels/{hotelId}/members/{userId}";
-    private static final String HOTEL_STAYS_ENDPOINT = "/hotels/{hotelId}/stays";
-    private static final String HOTEL_STAY_BY_ID_ENDPOINT = "/hotels/{hotelId}/stays/{stayId}";
+    static final String HOTELS_ENDPOINT = "/hotels";
+    static final String HOTEL_BY_ID_ENDPOINT = "/hotels/{hotelId}";
+    static final String HOTEL_LOCATIONS_ENDPOINT = "/hotels/{hotelId}/locations";
+    static final String LOCATION_BY_ID_ENDPOINT = "/hotels/locations/{locationId}";
+    static final String HOTEL_MEMBERS_ENDPOINT = "/hotels/{hotelId}/members";
+    static final String HOTEL_MEMBER_BY_ID_ENDPOINT = "/hotels/{hotelId}/members/{userId}";
+    static final String HOTEL_STAYS_ENDPOINT = "/hotels/{hotelId}/stays";
+    static final String HOTEL_STAY_BY_ID_ENDPOINT = "/hotels/{hotelId}/stays/{stayId}";
     
     // Default response time limit for hotel operations
     private static final long HOTEL_RESPONSE_TIME_LIMIT = 10000; // 10 seconds
@@ -62,13 +65,7 @@ public class HotelApiClient {
     public static Response getHotels(Integer limit, Integer offset) {
         logger.info("Getting hotels with limit: {}, offset: {}", limit, offset);
         
-        String endpoint = HOTELS_ENDPOINT;
-        if (limit != null || offset != null) {
-            endpoint += "?";
-            if (limit != null) endpoint += "limit=" + limit;
-            if (limit != null && offset != null) endpoint += "&";
-            if (offset != null) endpoint += "offset=" + offset;
-        }
+        String endpoint = buildHotelsEndpoint(limit, offset);
         
         Response response = ApiClient.get(endpoint);
         
@@ -79,6 +76,23 @@ public class HotelApiClient {
         return response;
     }
 
+    /**
+     * Build GET /hotels endpoint with pagination query string
+     * @param limit Number of hotels to return
+     * @param offset Number of hotels to skip
+     * @return Endpoint with query string
+     */
+    static String buildHotelsEndpoint(Integer limit, Integer offset) {
+        String endpoint = HOTELS_ENDPOINT;
+        if (limit != null || offset != null) {
+            endpoint += "?";
+            if (limit != null) endpoint += "limit=" + limit;
+            if (limit != null && offset != null) endpoint += "&";
+            if (offset != null) endpoint += "offset=" + offset;
+        }
+        return endpoint;
+    }
+
     /**
      * Get all hotels (default pagination)
      * @return Response from GET /hotels endpoint
@@ -87,6 +101,18 @@ public class HotelApiClient {
         return getHotels(20, 0);
     }
 
+    /**
+     * Stream hotels one at a time without materializing the response body
+     * Close the returned Stream (try-with-resources) to release the connection
+     * @param limit Number of hotels to return
+     * @param offset Number of hotels to skip
+     * @return Stream of Hotel objects
+     */
+    public static Stream<Hotel> streamHotels(Integer limit, Integer offset) {
+        logger.info("Streaming hotels with limit: {}, offset: {}", limit, offset);
+        return ApiClient.getStream(buildHotelsEndpoint(limit, offset)).streamArray(Hotel.class);
+    }
+
     /**
      * Get hotel by ID
      * @param hotelId Hotel ID
@@ -144,6 +170,18 @@ public class HotelApiClient {
         return response;
     }
 
+    /**
+     * Stream hotel locations one at a time without materializing the response body
+     * Close the returned Stream (try-with-resources) to release the connection
+     * @param hotelId Hotel ID
+     * @return Stream of Location objects
+     */
+    public static Stream<Location> streamHotelLocations(String hotelId) {
+        logger.info("Streaming locations for hotel: {}", hotelId);
+        return ApiClient.getStream(HOTEL_LOCATIONS_ENDPOINT.replace("{hotelId}", hotelId))
+                .streamArray(Location.class);
+    }
+
     /**
      * Create hotel location
      * @param hotelId Hotel ID
@@ -163,6 +201,22 @@ public class HotelApiClient {
         return response;
     }
 
+    /**
+     * Create many hotel locations with bounded concurrency
+     * @param hotelId Hotel ID
+     * @param createRequests LocationCreateRequest objects
+     * @param parallelism Maximum requests in flight
+     * @return BulkResult with responses in input order and per-item failures and latency
+     */
+    public static BulkResult<LocationCreateRequest> createLocations(String hotelId, List<LocationCreateRequest> createRequests,
+                                                                    int parallelism) {
+        logger.info("Creating {} locations for hotel: {}", createRequests.size(), hotelId);
+
+        String endpoint = HOTEL_LOCATIONS_ENDPOINT.replace("{hotelId}", hotelId);
+        return BulkExecutor.execute("POST " + endpoint, createRequests, parallelism,
+                createRequest -> ApiClient.post(endpoint, createRequest));
+    }
+
     /**
      * Update hotel location
      * @param locationId Location ID
@@ -239,6 +293,23 @@ public class HotelApiClient {
         return response;
     }
 
+    /**
+     * Add many hotel members with bounded concurrency
+     * @param hotelId Hotel ID
+     * @param createRequests HotelMemberCreateRequest objects
+     * @param parallelism Maximum requests in flight
+     * @return BulkResult with responses in input order and per-item failures and latency
+     */
+    public static BulkResult<HotelMemberCreateRequest> addHotelMembers(String hotelId,
+                                                                       List<HotelMemberCreateRequest> createRequests,
+                                                                       int parallelism) {
+        logger.info("Adding {} members to hotel: {}", createRequests.size(), hotelId);
+
+        String endpoint = HOTEL_MEMBERS_ENDPOINT.replace("{hotelId}", hotelId);
+        return BulkExecutor.execute("POST " + endpoint, createRequests, parallelism,
+                createRequest -> ApiClient.post(endpoint, createRequest));
+    }
+
     /**
      * Remove hotel member
      * @param hotelId Hotel ID
@@ -0,0 +1,107 @@
+package com.apitest.client;
+
+import com.apitest.utils.JsonUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * HTTP response whose body is consumed as a stream instead of being buffered in memory
+ * Must be closed (or fully consumed via a closed Stream) to release the connection
+ */
+public class StreamingResponse implements Closeable {
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final InputStream body;
+    private final long timeToHeadersMillis;
+
+    /**
+     * Create streaming response
+     * @param statusCode HTTP status code
+     * @param headers Response headers
+     * @param body Unread response body stream
+     * @param timeToHeadersMillis Time from sending the request until headers were received
+     */
+    public StreamingResponse(int statusCode, Map<String, List<String>> headers, InputStream body, long timeToHeadersMillis) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.timeToHeadersMillis = timeToHeadersMillis;
+    }
+
+    /**
+     * Get HTTP status code
+     * @return Status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Get all response headers
+     * @return Map of header name to values
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get time until response headers were received (body may still be streaming)
+     * @return Time in milliseconds
+     */
+    public long getTimeToHeaders() {
+        return timeToHeadersMillis;
+    }
+
+    /**
+     * Get the raw body stream
+     * @return InputStream positioned at the start of the body
+     */
+    public InputStream getBody() {
+        return body;
+    }
+
+    /**
+     * Stream the elements of a top-level JSON array one at a time.
+     * Closing the returned Stream closes this response.
+     * @param elementType Element class
+     * @param <T> Generic type
+     * @return Lazily deserialized elements
+     */
+    public <T> Stream<T> streamArray(Class<T> elementType) {
+        ensureSuccess();
+        return JsonUtils.streamArray(body, elementType);
+    }
+
+    /**
+     * Fail fast on non-2xx responses, including the start of the error body in the message
+     */
+    private void ensureSuccess() {
+        if (statusCode < 200 || statusCode >= 300) {
+            String errorBody;
+            try {
+                errorBody = new String(body.readNBytes(1024), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                errorBody = "<unreadable: " + e.getMessage() + ">";
+            } finally {
+                close();
+            }
+            throw new RuntimeException("Streaming request failed with status " + statusCode + ": " + errorBody);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            body.close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+}
@@ -16,11 +16,11 @@ public class UserApiClient {
     private static final Logger logger = LogManager.getLogger(UserApiClient.class);
     
     // User endpoints
-    private static final String ME_ENDPOINT = "/users/me";
-    private static final String USER_BY_ID_ENDPOINT = "/users/{userId}";
-    private static final String HOTEL_ADMIN_ENDPOINT = "/users/me/hotel-admin";
-    private static final String AVATAR_ENDPOINT = "/users/me/avatar";
-    private static final String MY_STAYS_ENDPOINT = "/users/me/stays";
+    static final String ME_ENDPOINT = "/users/me";
+    static final String USER_BY_ID_ENDPOINT = "/users/{userId}";
+    static final String HOTEL_ADMIN_ENDPOINT = "/users/me/hotel-admin";
+    static final String AVATAR_ENDPOINT = "/users/me/avatar";
+    static final String MY_STAYS_ENDPOINT = "/users/me/stays";
     
     // Default response time limit for user operations
     private static final long USER_RESPONSE_TIME_LIMIT = 10000; // 10 seconds
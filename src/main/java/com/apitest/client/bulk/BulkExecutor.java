@@ -0,0 +1,131 @@
+package com.apitest.client.bulk;
+
+import com.apitest.client.ClientContext;
+import com.apitest.client.capture.ExchangeCapture;
+import com.apitest.service.TokenManager;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs the same API call for many inputs with bounded concurrency on a shared executor
+ * At most `parallelism` items of one operation are in flight; workers take the next input as soon as
+ * they finish one. Results keep input order and failures are collected per item instead of aborting
+ * the batch. Workers run with the caller's ClientContext and TokenManager identity, so base URI, auth
+ * and layers carry over, and record captured exchanges into the caller's buffer so a failing test dumps them.
+ */
+public class BulkExecutor {
+
+    private static final Logger logger = LogManager.getLogger(BulkExecutor.class);
+
+    // Upper bound on parallelism for a single operation
+    private static final int MAX_PARALLELISM = Integer.getInteger("api.bulk.maxParallelism", 32);
+
+    // Shared by all bulk operations; threads are created on demand and die when idle
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "api-bulk-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private BulkExecutor() {
+    }
+
+    /**
+     * Execute a call for every input
+     * @param operation Description used in logs (e.g. POST /hotels/{hotelId}/locations)
+     * @param inputs Inputs, one call each
+     * @param parallelism Maximum calls in flight (capped by api.bulk.maxParallelism)
+     * @param call Call to execute for one input
+     * @param <I> Input type
+     * @return BulkResult with one item per input, in input order
+     */
+    public static <I> BulkResult<I> execute(String operation, List<I> inputs, int parallelism, Function<I, Response> call) {
+        int workers = Math.max(1, Math.min(Math.min(parallelism, MAX_PARALLELISM), inputs.size()));
+        logger.info("Starting bulk {}: {} items, parallelism {}", operation, inputs.size(), workers);
+
+        ClientContext context = ClientContext.current();
+        String identity = TokenManager.getInstance().getThreadIdentity();
+        AtomicReferenceArray<BulkItemResult<I>> results = new AtomicReferenceArray<>(inputs.size());
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(workers);
+        long start = System.nanoTime();
+
+        // Wrapped on the calling thread so workers record exchanges into its capture buffer
+        Runnable drain = ExchangeCapture.propagate(() -> {
+            int index;
+            while (!cancelled.get() && (index = nextIndex.getAndIncrement()) < inputs.size()) {
+                results.set(index, executeItem(index, inputs.get(index), call));
+            }
+        });
+        Runnable worker = () -> {
+            try {
+                context.run(identity != null ? () -> TokenManager.getInstance().runAs(identity, drain) : drain);
+            } finally {
+                done.countDown();
+            }
+        };
+        if (inputs.isEmpty()) {
+            done.countDown();
+        } else {
+            for (int i = 0; i < workers; i++) {
+                EXECUTOR.execute(worker);
+            }
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            // Stop taking new items; calls already in flight finish on their own
+            cancelled.set(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during bulk " + operation, e);
+        }
+
+        List<BulkItemResult<I>> items = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            BulkItemResult<I> item = results.get(i);
+            items.add(item != null ? item : new BulkItemResult<>(i, inputs.get(i), null,
+                    new CancellationException("Bulk " + operation + " was cancelled"), 0));
+        }
+        BulkResult<I> result = new BulkResult<>(operation, items, workers, (System.nanoTime() - start) / 1_000_000);
+        if (result.isAllSucceeded()) {
+            logger.info("Completed bulk {}", result);
+        } else {
+            logger.warn("Completed bulk {} - failures: {}", result, result.getFailures());
+        }
+        return result;
+    }
+
+    /**
+     * Execute one item, capturing its latency and any exception
+     */
+    private static <I> BulkItemResult<I> executeItem(int index, I input, Function<I, Response> call) {
+        long start = System.nanoTime();
+        try {
+            Response response = call.apply(input);
+            return new BulkItemResult<>(index, input, response, null, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception | AssertionError e) {
+            // AssertionError covers ResponseValidator checks inside the call
+            return new BulkItemResult<>(index, input, null, e, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
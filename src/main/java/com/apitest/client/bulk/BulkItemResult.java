@@ -0,0 +1,50 @@
+package com.apitest.client.bulk;
+
+import io.restassured.response.Response;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of one item of a bulk operation
+ * @param <I> Input type (e.g. LocationCreateRequest)
+ */
+@Getter
+@AllArgsConstructor
+public class BulkItemResult<I> {
+
+    // Position in the input list
+    private final int index;
+
+    private final I input;
+
+    // Null if the call threw
+    private final Response response;
+
+    // Exception thrown by the call, or null
+    private final Throwable error;
+
+    // Wall time of the call, including any rate limit wait or retries
+    private final long latencyMillis;
+
+    /**
+     * Check whether the call returned a 2xx response
+     * @return true on success
+     */
+    public boolean isSuccess() {
+        return error == null && response != null && response.getStatusCode() >= 200 && response.getStatusCode() < 300;
+    }
+
+    /**
+     * Get HTTP status code
+     * @return Status code, or -1 if the call threw
+     */
+    public int getStatusCode() {
+        return response != null ? response.getStatusCode() : -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("#%d %s in %dms", index,
+                error != null ? "failed: " + error.getMessage() : "status " + getStatusCode(), latencyMillis);
+    }
+}
@@ -0,0 +1,91 @@
+package com.apitest.client.bulk;
+
+import io.restassured.response.Response;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Results of a bulk operation in input order, with total and per-item latency
+ * @param <I> Input type
+ */
+@Getter
+@AllArgsConstructor
+public class BulkResult<I> {
+
+    // Operation description used in logs (e.g. POST /hotels/{hotelId}/locations)
+    private final String operation;
+
+    // One result per input, in input order
+    private final List<BulkItemResult<I>> items;
+
+    private final int parallelism;
+
+    // Wall time of the whole operation
+    private final long totalMillis;
+
+    /**
+     * Get responses in input order
+     * @return Responses (null for items whose call threw)
+     */
+    public List<Response> getResponses() {
+        return items.stream().map(BulkItemResult::getResponse).collect(Collectors.toList());
+    }
+
+    /**
+     * Get items that threw or returned a non-2xx status
+     * @return Failed items in input order
+     */
+    public List<BulkItemResult<I>> getFailures() {
+        return items.stream().filter(item -> !item.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * Check whether every item succeeded
+     * @return true if all calls returned 2xx
+     */
+    public boolean isAllSucceeded() {
+        return items.stream().allMatch(BulkItemResult::isSuccess);
+    }
+
+    /**
+     * Get number of successful items
+     * @return Success count
+     */
+    public long getSuccessCount() {
+        return items.stream().filter(BulkItemResult::isSuccess).count();
+    }
+
+    /**
+     * Get average per-item latency
+     * @return Average latency in milliseconds
+     */
+    public double getAverageLatencyMillis() {
+        return items.stream().mapToLong(BulkItemResult::getLatencyMillis).average().orElse(0);
+    }
+
+    /**
+     * Get slowest per-item latency
+     * @return Max latency in milliseconds
+     */
+    public long getMaxLatencyMillis() {
+        return items.stream().mapToLong(BulkItemResult::getLatencyMillis).max().orElse(0);
+    }
+
+    /**
+     * Get sum of per-item latencies, i.e. the time the items would have taken sequentially
+     * @return Summed latency in milliseconds
+     */
+    public long getSequentialMillis() {
+        return items.stream().mapToLong(BulkItemResult::getLatencyMillis).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d items, parallelism %d, %d succeeded, %d failed in %dms (avg %.0fms, max %dms per item, %dms sequential)",
+                operation, items.size(), parallelism, getSuccessCount(), items.size() - getSuccessCount(), totalMillis,
+                getAverageLatencyMillis(), getMaxLatencyMillis(), getSequentialMillis());
+    }
+}
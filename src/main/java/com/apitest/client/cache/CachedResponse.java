@@ -0,0 +1,29 @@
+package com.apitest.client.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached GET response: validators plus the decoded body and headers
+ */
+class CachedResponse {
+
+    final String path;
+    final String etag;
+    final String lastModified;
+    final String statusLine;
+    final int statusCode;
+    final Map<String, List<String>> headers;
+    final byte[] body;
+
+    CachedResponse(String path, String etag, String lastModified, String statusLine, int statusCode,
+                   Map<String, List<String>> headers, byte[] body) {
+        this.path = path;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.statusLine = statusLine;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+    }
+}
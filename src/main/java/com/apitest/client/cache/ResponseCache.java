@@ -0,0 +1,176 @@
+package com.apitest.client.cache;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Client-side HTTP cache using conditional GETs.
+ * Stores ETag / Last-Modified validators with the decoded body, sends If-None-Match / If-Modified-Since
+ * on repeat GETs and serves the cached body when the server answers 304 Not Modified.
+ * Entries are keyed by base URI, path and Authorization header, so identities never share cached bodies.
+ */
+public class ResponseCache {
+
+    private static final Logger logger = LogManager.getLogger(ResponseCache.class);
+
+    private final ResponseCacheConfig config;
+
+    // Access-ordered map gives LRU eviction; guarded by this
+    private final LinkedHashMap<String, CachedResponse> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder staleEntries = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create response cache
+     * @param config ResponseCacheConfig
+     */
+    public ResponseCache(ResponseCacheConfig config) {
+        this.config = config;
+        this.entries = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                if (size() > config.getMaxEntries()) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Execute request through the cache: GETs are revalidated, other methods invalidate matching entries
+     * @param request ApiRequest
+     * @param next Executes the request
+     * @return Response (rebuilt from the cache on 304)
+     */
+    public Response execute(ApiRequest request, Function<ApiRequest, Response> next) {
+        String path = request.resolvePathAndQuery();
+        if (!"GET".equalsIgnoreCase(request.getMethod())) {
+            Response response = next.apply(request);
+            invalidate(path);
+            return response;
+        }
+
+        String key = request.resourceKey();
+        CachedResponse cached;
+        synchronized (this) {
+            cached = entries.get(key);
+        }
+
+        if (cached == null) {
+            misses.increment();
+        } else {
+            revalidations.increment();
+            if (cached.etag != null) {
+                request.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                request.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        Response response = next.apply(request);
+
+        if (cached != null && response.getStatusCode() == 304) {
+            hits.increment();
+            logger.debug("Serving cached body for {} (304 Not Modified)", path);
+            return RestAssuredResponses.create(cached.statusLine, cached.statusCode, cached.headers, cached.body,
+                    response.getTime());
+        }
+        if (cached != null) {
+            staleEntries.increment();
+        }
+        store(key, path, response);
+        return response;
+    }
+
+    /**
+     * Cache a 200 response that carries a validator
+     */
+    private void store(String key, String path, Response response) {
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+        byte[] body = response.getStatusCode() == 200 ? response.asByteArray() : null;
+        // An uncacheable response also drops the previous entry, which no longer describes the resource
+        if (body == null || (etag == null && lastModified == null) || body.length > config.getMaxBodyBytes()) {
+            synchronized (this) {
+                entries.remove(key);
+            }
+            return;
+        }
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            // The stored body is already decoded, so wire encoding and length would not match it on replay
+            if (header.getName().equalsIgnoreCase("Content-Encoding")
+                    || header.getName().equalsIgnoreCase("Content-Length")) {
+                continue;
+            }
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        synchronized (this) {
+            entries.put(key, new CachedResponse(path, etag, lastModified, response.getStatusLine(),
+                    response.getStatusCode(), headers, body));
+        }
+    }
+
+    /**
+     * Drop cached entries affected by a change to a path: the resource itself,
+     * anything beneath it and the collections above it
+     * @param changedPath Path that was modified (without query string)
+     */
+    public synchronized void invalidate(String changedPath) {
+        String changed = stripQuery(changedPath);
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            String cachedPath = stripQuery(iterator.next().path);
+            if (cachedPath.equals(changed) || cachedPath.startsWith(changed + "/") || changed.startsWith(cachedPath + "/")) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove all entries
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get cache counters
+     * @return ResponseCacheStats snapshot
+     */
+    public ResponseCacheStats getStats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new ResponseCacheStats(hits.sum(), misses.sum(), revalidations.sum(), staleEntries.sum(),
+                invalidations.sum(), evictions.sum(), size);
+    }
+
+    private static String stripQuery(String path) {
+        int queryStart = path.indexOf('?');
+        return queryStart >= 0 ? path.substring(0, queryStart) : path;
+    }
+}
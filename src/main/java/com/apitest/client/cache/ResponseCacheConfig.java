@@ -0,0 +1,27 @@
+package com.apitest.client.cache;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Configuration for the conditional GET response cache
+ * Defaults can be overridden with -Dapi.cache.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class ResponseCacheConfig {
+
+    // Maximum number of cached responses; least recently used entries are evicted first
+    private int maxEntries = Integer.getInteger("api.cache.maxEntries", 256);
+
+    // Responses with larger bodies are not cached
+    private int maxBodyBytes = Integer.getInteger("api.cache.maxBodyBytes", 1024 * 1024);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return ResponseCacheConfig
+     */
+    public static ResponseCacheConfig fromSystemProperties() {
+        return new ResponseCacheConfig();
+    }
+}
@@ -0,0 +1,47 @@
+package com.apitest.client.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot of response cache counters
+ */
+@Getter
+@AllArgsConstructor
+public class ResponseCacheStats {
+
+    // 304 responses answered with the cached body
+    private final long hits;
+
+    // GETs with no cached entry
+    private final long misses;
+
+    // Conditional GETs sent (If-None-Match / If-Modified-Since)
+    private final long revalidations;
+
+    // Conditional GETs that returned a new body instead of 304
+    private final long staleEntries;
+
+    // Entries removed by PUT/PATCH/DELETE/POST through the client
+    private final long invalidations;
+
+    // Entries removed to stay within maxEntries
+    private final long evictions;
+
+    private final int size;
+
+    /**
+     * Get share of revalidations answered from the cache
+     * @return Hit ratio (0-1)
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses + staleEntries;
+        return lookups > 0 ? (double) hits / lookups : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits %d, misses %d, revalidations %d, stale %d, invalidations %d, evictions %d, size %d (hit ratio %.1f%%)",
+                hits, misses, revalidations, staleEntries, invalidations, evictions, size, getHitRatio() * 100);
+    }
+}
@@ -0,0 +1,106 @@
+package com.apitest.client.capture;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * One reusable ring buffer slot: raw request/response bytes in a pre-sized buffer
+ * plus references to immutable metadata. Formatting happens only in format()
+ */
+class CapturedExchange {
+
+    private final byte[] buffer;
+
+    private String method;
+    private String uri;
+    private Map<String, String> requestHeaders;
+    private int requestBodyLength;
+    private int requestBodyTotal;
+    private int statusCode;
+    private long timeMillis;
+    private Headers responseHeaders;
+    private int responseBodyLength;
+    private int responseBodyTotal;
+
+    // Set instead of the response fields when the exchange failed without a response
+    private String failure;
+
+    CapturedExchange(int bufferBytes) {
+        this.buffer = new byte[bufferBytes];
+    }
+
+    /**
+     * Overwrite this slot with a new exchange (bodies are copied up to the buffer size;
+     * the request body gets at most half so the response always has room)
+     */
+    void set(String method, String uri, Map<String, String> requestHeaders, byte[] requestBody,
+             int statusCode, long timeMillis, Headers responseHeaders, byte[] responseBody) {
+        this.method = method;
+        this.uri = uri;
+        this.requestHeaders = requestHeaders;
+        this.statusCode = statusCode;
+        this.timeMillis = timeMillis;
+        this.responseHeaders = responseHeaders;
+        this.failure = null;
+
+        requestBodyTotal = requestBody != null ? requestBody.length : 0;
+        requestBodyLength = Math.min(requestBodyTotal, buffer.length / 2);
+        if (requestBodyLength > 0) {
+            System.arraycopy(requestBody, 0, buffer, 0, requestBodyLength);
+        }
+
+        responseBodyTotal = responseBody != null ? responseBody.length : 0;
+        responseBodyLength = Math.min(responseBodyTotal, buffer.length - requestBodyLength);
+        if (responseBodyLength > 0) {
+            System.arraycopy(responseBody, 0, buffer, requestBodyLength, responseBodyLength);
+        }
+    }
+
+    /**
+     * Overwrite this slot with an exchange that failed without a response
+     */
+    void setFailed(String method, String uri, Map<String, String> requestHeaders, byte[] requestBody,
+                   String failure) {
+        set(method, uri, requestHeaders, requestBody, 0, 0, null, null);
+        this.failure = failure;
+    }
+
+    /**
+     * Format the exchange for logging (Authorization header values are masked)
+     * @param out Target builder
+     */
+    void format(StringBuilder out) {
+        out.append("Request: ").append(method).append(' ').append(uri).append('\n');
+        if (requestHeaders != null) {
+            requestHeaders.forEach((name, value) -> out.append("  ").append(name).append(": ")
+                    .append("Authorization".equalsIgnoreCase(name) ? "Bearer ***" : value).append('\n'));
+        }
+        appendBody(out, 0, requestBodyLength, requestBodyTotal);
+
+        if (failure != null) {
+            out.append("No response: ").append(failure).append('\n');
+            return;
+        }
+        out.append("Response: ").append(statusCode).append(" (").append(timeMillis).append("ms)\n");
+        if (responseHeaders != null) {
+            for (Header header : responseHeaders) {
+                out.append("  ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+            }
+        }
+        appendBody(out, requestBodyLength, responseBodyLength, responseBodyTotal);
+    }
+
+    private void appendBody(StringBuilder out, int offset, int length, int total) {
+        if (total == 0) {
+            return;
+        }
+        out.append("  Body: ").append(new String(buffer, offset, length, StandardCharsets.UTF_8));
+        if (length < total) {
+            out.append(" ... [truncated ").append(total - length).append(" of ").append(total).append(" bytes]");
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,170 @@
+package com.apitest.client.capture;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.utils.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Failure-only exchange logging.
+ * While enabled for a client context, ApiClient stops logging every request/response of that context and
+ * instead keeps the last N exchanges per thread in a ring buffer. They are formatted and logged only when
+ * flush() is called (on a ResponseValidator assertion failure or a failed TestNG test), so green runs do
+ * almost no logging I/O. Enable with -Dapi.capture.enabled=true or ApiClient.setCaptureMode(true)
+ */
+public class ExchangeCapture {
+
+    private static final Logger logger = LogManager.getLogger(ExchangeCapture.class);
+
+    // Compact mapper for request bodies (JsonUtils' shared mapper pretty-prints)
+    private static final ObjectMapper objectMapper = JsonUtils.getObjectMapper().copy()
+            .disable(SerializationFeature.INDENT_OUTPUT);
+
+    private static volatile ExchangeCaptureConfig config = ExchangeCaptureConfig.fromSystemProperties();
+
+    private static volatile ThreadLocal<ExchangeRingBuffer> buffers = newBuffers();
+
+    // Buffer of the thread a worker runs for (e.g. a bulk worker); null means the worker's own buffer
+    private static final ThreadLocal<ExchangeRingBuffer> callerBuffer = new ThreadLocal<>();
+
+    private static ThreadLocal<ExchangeRingBuffer> newBuffers() {
+        ExchangeCaptureConfig current = config;
+        return ThreadLocal.withInitial(() -> new ExchangeRingBuffer(current));
+    }
+
+    /**
+     * Replace the capture configuration (buffers are re-allocated lazily per thread)
+     * @param newConfig ExchangeCaptureConfig
+     */
+    public static synchronized void configure(ExchangeCaptureConfig newConfig) {
+        config = newConfig;
+        buffers = newBuffers();
+    }
+
+    /**
+     * Record a completed exchange into the current thread's ring buffer (called by contexts in capture mode)
+     * @param request Request that was sent
+     * @param response Response received
+     */
+    public static void record(ApiRequest request, Response response) {
+        String uri = uri(request);
+        byte[] requestBody = requestBodyBytes(request);
+        byte[] responseBody = response.asByteArray();
+        ExchangeRingBuffer buffer = buffer();
+        synchronized (buffer) {
+            buffer.nextSlot().set(request.getMethod(), uri, request.getHeaders(), requestBody,
+                    response.getStatusCode(), response.getTime(), response.getHeaders(), responseBody);
+        }
+    }
+
+    /**
+     * Record an exchange that failed without a response (e.g. a timeout, an open circuit or a connection error)
+     * @param request Request that was sent
+     * @param error Failure thrown instead of a response
+     */
+    public static void record(ApiRequest request, Throwable error) {
+        String uri = uri(request);
+        byte[] requestBody = requestBodyBytes(request);
+        ExchangeRingBuffer buffer = buffer();
+        synchronized (buffer) {
+            buffer.nextSlot().setFailed(request.getMethod(), uri, request.getHeaders(), requestBody,
+                    error.getClass().getSimpleName() + ": " + error.getMessage());
+        }
+    }
+
+    private static String uri(ApiRequest request) {
+        String uri = (request.getBaseUri() != null ? request.getBaseUri() : "") + request.resolvePath();
+        if (request.getQueryParams() != null && !request.getQueryParams().isEmpty()) {
+            uri += " " + request.getQueryParams();
+        }
+        return uri;
+    }
+
+    /**
+     * Wrap a task handed to another thread so the exchanges it records land in the current thread's buffer
+     * and are flushed when the current thread's validation or test fails
+     * @param task Task run on a worker thread
+     * @return Task recording into the current thread's buffer
+     */
+    public static Runnable propagate(Runnable task) {
+        ExchangeRingBuffer target = buffer();
+        return () -> {
+            ExchangeRingBuffer previous = callerBuffer.get();
+            callerBuffer.set(target);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    callerBuffer.set(previous);
+                } else {
+                    callerBuffer.remove();
+                }
+            }
+        };
+    }
+
+    private static ExchangeRingBuffer buffer() {
+        ExchangeRingBuffer target = callerBuffer.get();
+        return target != null ? target : buffers.get();
+    }
+
+    /**
+     * Log and discard the current thread's captured exchanges
+     * @param reason Why the exchanges are being flushed (e.g. the assertion message)
+     */
+    public static void flush(String reason) {
+        ExchangeRingBuffer buffer = buffers.get();
+        String exchanges;
+        synchronized (buffer) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            exchanges = buffer.format();
+            buffer.clear();
+        }
+        logger.error("{}\nLast captured exchanges on thread {}:\n{}", reason, Thread.currentThread().getName(),
+                exchanges);
+    }
+
+    /**
+     * Discard the current thread's captured exchanges without logging them
+     */
+    public static void clear() {
+        ExchangeRingBuffer buffer = buffers.get();
+        synchronized (buffer) {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Serialize request body for capture (multipart uploads record only a description of their parts)
+     * @param request ApiRequest
+     * @return Body bytes or null
+     */
+    private static byte[] requestBodyBytes(ApiRequest request) {
+        if (request.isMultipart()) {
+            return request.getMultipart().describe().getBytes(StandardCharsets.UTF_8);
+        }
+        Object body = request.getBody();
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            return ("<unserializable body: " + e.getMessage() + ">").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
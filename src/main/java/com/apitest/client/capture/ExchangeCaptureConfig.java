@@ -0,0 +1,27 @@
+package com.apitest.client.capture;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Configuration for failure-only exchange capture
+ * Defaults can be overridden with -Dapi.capture.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class ExchangeCaptureConfig {
+
+    // Number of most recent exchanges kept per thread
+    private int exchangesPerThread = Integer.getInteger("api.capture.exchanges", 20);
+
+    // Bytes reserved per exchange for request and response bodies; longer bodies are truncated
+    private int bufferBytes = Integer.getInteger("api.capture.bufferBytes", 16384);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return ExchangeCaptureConfig
+     */
+    public static ExchangeCaptureConfig fromSystemProperties() {
+        return new ExchangeCaptureConfig();
+    }
+}
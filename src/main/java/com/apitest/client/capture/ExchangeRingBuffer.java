@@ -0,0 +1,55 @@
+package com.apitest.client.capture;
+
+/**
+ * Fixed-size ring of pre-allocated exchange slots owned by a single thread
+ * Workers recording on the owner's behalf (see ExchangeCapture.propagate) synchronize on the buffer
+ */
+class ExchangeRingBuffer {
+
+    private final CapturedExchange[] slots;
+    private int next;
+    private int size;
+
+    ExchangeRingBuffer(ExchangeCaptureConfig config) {
+        slots = new CapturedExchange[Math.max(1, config.getExchangesPerThread())];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new CapturedExchange(Math.max(0, config.getBufferBytes()));
+        }
+    }
+
+    /**
+     * Claim the slot for the next exchange, overwriting the oldest one when full
+     * @return Slot to fill
+     */
+    CapturedExchange nextSlot() {
+        CapturedExchange slot = slots[next];
+        next = (next + 1) % slots.length;
+        if (size < slots.length) {
+            size++;
+        }
+        return slot;
+    }
+
+    /**
+     * Format all retained exchanges, oldest first
+     * @return Formatted exchanges, or empty string if none were captured
+     */
+    String format() {
+        StringBuilder out = new StringBuilder();
+        int start = (next - size + slots.length) % slots.length;
+        for (int i = 0; i < size; i++) {
+            out.append("---- Exchange ").append(i + 1).append('/').append(size).append(" ----\n");
+            slots[(start + i) % slots.length].format(out);
+        }
+        return out.toString();
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        next = 0;
+        size = 0;
+    }
+}
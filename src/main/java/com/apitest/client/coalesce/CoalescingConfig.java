@@ -0,0 +1,37 @@
+package com.apitest.client.coalesce;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Configuration for single-flight coalescing of identical concurrent GETs
+ * Defaults can be overridden with -Dapi.coalesce.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class CoalescingConfig {
+
+    // Longest a follower waits for the shared response before failing
+    private long maxWaitMillis = Long.getLong("api.coalesce.maxWaitMillis", 60000L);
+
+    // Endpoint templates to coalesce; empty means every GET
+    private Set<String> endpointTemplates = new LinkedHashSet<>();
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return CoalescingConfig
+     */
+    public static CoalescingConfig fromSystemProperties() {
+        CoalescingConfig config = new CoalescingConfig();
+        // Comma-separated endpoint templates, e.g. /hotels,/events/rrule-examples
+        for (String template : System.getProperty("api.coalesce.endpoints", "").split(",")) {
+            if (!template.isBlank()) {
+                config.getEndpointTemplates().add(template.trim());
+            }
+        }
+        return config;
+    }
+}
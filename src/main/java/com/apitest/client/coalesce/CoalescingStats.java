@@ -0,0 +1,35 @@
+package com.apitest.client.coalesce;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Coalescing counters for one endpoint template
+ */
+@Getter
+@AllArgsConstructor
+public class CoalescingStats {
+
+    // Coalescing-eligible GET requests
+    private final long requests;
+
+    // Requests that went to the network
+    private final long executed;
+
+    // Requests that received another in-flight request's response
+    private final long coalesced;
+
+    /**
+     * Get share of requests that were served by an in-flight duplicate
+     * @return Coalescing ratio (0-1)
+     */
+    public double getCoalescingRatio() {
+        return requests > 0 ? (double) coalesced / requests : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests %d, executed %d, coalesced %d (ratio %.1f%%)",
+                requests, executed, coalesced, getCoalescingRatio() * 100);
+    }
+}
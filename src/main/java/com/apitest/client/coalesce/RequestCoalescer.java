@@ -0,0 +1,165 @@
+package com.apitest.client.coalesce;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Single-flight coalescing: while a GET is in flight, identical GETs (same base URI, path, query
+ * and Authorization header) wait for it instead of sending their own request.
+ * Each waiting caller receives its own copy of the response; a failure is rethrown to every caller.
+ */
+public class RequestCoalescer {
+
+    private static final Logger logger = LogManager.getLogger(RequestCoalescer.class);
+
+    private final CoalescingConfig config;
+
+    private final Map<String, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<String, Counters> countersByEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * Create request coalescer
+     * @param config CoalescingConfig
+     */
+    public RequestCoalescer(CoalescingConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Execute request, sharing the response of an identical in-flight GET when there is one
+     * @param request ApiRequest (endpoint template should be set)
+     * @param next Executes the request
+     * @return Response
+     */
+    public Response execute(ApiRequest request, Function<ApiRequest, Response> next) {
+        if (!isCoalescable(request)) {
+            return next.apply(request);
+        }
+
+        Counters counters = countersByEndpoint.computeIfAbsent(
+                String.valueOf(request.getEndpointTemplate()), template -> new Counters());
+        counters.requests.increment();
+
+        String key = request.resourceKey();
+        CompletableFuture<Response> leader = new CompletableFuture<>();
+        CompletableFuture<Response> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            counters.coalesced.increment();
+            logger.debug("Coalesced GET {} with an in-flight request", request.getEndpoint());
+            return copy(await(existing, request));
+        }
+
+        counters.executed.increment();
+        try {
+            Response response = next.apply(request);
+            // Read the body before publishing so followers never race the leader's stream
+            response.asByteArray();
+            leader.complete(response);
+            return response;
+        } catch (Throwable t) {
+            // RestAssured rethrows checked IOExceptions undeclared; followers must see those too
+            leader.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * Get coalescing counters per endpoint template
+     * @return Map of endpoint template to CoalescingStats
+     */
+    public Map<String, CoalescingStats> getStats() {
+        Map<String, CoalescingStats> stats = new TreeMap<>();
+        countersByEndpoint.forEach((template, counters) -> stats.put(template, new CoalescingStats(
+                counters.requests.sum(), counters.executed.sum(), counters.coalesced.sum())));
+        return stats;
+    }
+
+    /**
+     * Get number of distinct requests currently in flight
+     * @return In-flight count
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Get coalescing configuration
+     * @return CoalescingConfig
+     */
+    public CoalescingConfig getConfig() {
+        return config;
+    }
+
+    private boolean isCoalescable(ApiRequest request) {
+        return "GET".equalsIgnoreCase(request.getMethod())
+                && (config.getEndpointTemplates().isEmpty()
+                    || config.getEndpointTemplates().contains(request.getEndpointTemplate()));
+    }
+
+    /**
+     * Wait for the leader's response
+     * @param shared Leader future
+     * @param request Follower request (for error messages)
+     * @return Shared response
+     */
+    private Response await(CompletableFuture<Response> shared, ApiRequest request) {
+        try {
+            return shared.get(config.getMaxWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for coalesced GET " + request.getEndpoint(), e);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Timed out after " + config.getMaxWaitMillis()
+                    + "ms waiting for coalesced GET " + request.getEndpoint(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Coalesced GET " + request.getEndpoint() + " failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Build an independent response for a follower
+     * @param response Leader response
+     * @return Copy with the same status line, headers and body
+     */
+    private static Response copy(Response response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        return RestAssuredResponses.create(response.getStatusLine(), response.getStatusCode(), headers,
+                response.asByteArray(), response.getTime());
+    }
+
+    private static final class Counters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+    }
+}
@@ -0,0 +1,296 @@
+package com.apitest.client.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * multipart/form-data body streamed part by part instead of being assembled in memory
+ * File parts are read from a FileChannel in config.bufferBytes chunks while the request is sent;
+ * ByteBuffer parts are handed to the transport without copying.
+ * The body can be sent more than once (e.g. on retry): every subscription reopens its files.
+ */
+public class MultipartBody {
+
+    private static volatile MultipartConfig defaultConfig = MultipartConfig.fromSystemProperties();
+
+    private final MultipartConfig config;
+
+    private final String boundary = "----ApiTestBoundary" + UUID.randomUUID().toString().replace("-", "");
+
+    // Header, content and trailing CRLF of every part followed by the closing boundary;
+    // each segment is either a read-only ByteBuffer or a Path
+    private final List<Object> segments = new ArrayList<>();
+
+    private final List<String> descriptions = new ArrayList<>();
+
+    /**
+     * Create body with the default configuration
+     */
+    public MultipartBody() {
+        this(defaultConfig);
+    }
+
+    /**
+     * Create body
+     * @param config MultipartConfig with chunk size and transfer mode
+     */
+    public MultipartBody(MultipartConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Replace the default configuration used by new bodies
+     * @param newConfig MultipartConfig
+     */
+    public static void configure(MultipartConfig newConfig) {
+        defaultConfig = newConfig;
+    }
+
+    /**
+     * Get the default configuration used by new bodies
+     * @return MultipartConfig
+     */
+    public static MultipartConfig getDefaultConfig() {
+        return defaultConfig;
+    }
+
+    /**
+     * Add a file part; the content type is probed from the file name
+     * @param name Form field name
+     * @param file File to stream
+     * @return this body
+     */
+    public MultipartBody addFile(String name, Path file) {
+        String contentType;
+        try {
+            contentType = Files.probeContentType(file);
+        } catch (IOException e) {
+            contentType = null;
+        }
+        return addFile(name, file, contentType != null ? contentType : "application/octet-stream");
+    }
+
+    /**
+     * Add a file part
+     * @param name Form field name
+     * @param file File to stream
+     * @param contentType Part content type
+     * @return this body
+     */
+    public MultipartBody addFile(String name, Path file, String contentType) {
+        if (!Files.isReadable(file)) {
+            throw new RuntimeException("Multipart file is not readable: " + file);
+        }
+        addPart(name, String.valueOf(file.getFileName()), contentType, file);
+        descriptions.add(name + "=<file: " + file + ">");
+        return this;
+    }
+
+    /**
+     * Add an in-memory part; the buffer's remaining bytes are sent without copying
+     * @param name Form field name
+     * @param filename File name reported to the server
+     * @param content Part content (position/limit are not modified)
+     * @param contentType Part content type
+     * @return this body
+     */
+    public MultipartBody addBuffer(String name, String filename, ByteBuffer content, String contentType) {
+        ByteBuffer readOnly = content.asReadOnlyBuffer();
+        addPart(name, filename, contentType, readOnly);
+        descriptions.add(name + "=<" + readOnly.remaining() + " bytes: " + filename + ">");
+        return this;
+    }
+
+    /**
+     * Add a plain form field
+     * @param name Form field name
+     * @param value Field value
+     * @return this body
+     */
+    public MultipartBody addField(String name, String value) {
+        addPart(name, null, null, ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer());
+        descriptions.add(name + "=" + value);
+        return this;
+    }
+
+    /**
+     * Append part header, content and trailing CRLF
+     * @param name Form field name
+     * @param filename File name or null for plain fields
+     * @param contentType Content type or null for plain fields
+     * @param content ByteBuffer or Path
+     */
+    private void addPart(String name, String filename, String contentType, Object content) {
+        StringBuilder header = new StringBuilder()
+                .append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append('"');
+        if (filename != null) {
+            header.append("; filename=\"").append(filename).append('"');
+        }
+        header.append("\r\n");
+        if (contentType != null) {
+            header.append("Content-Type: ").append(contentType).append("\r\n");
+        }
+        header.append("\r\n");
+        segments.add(ascii(header.toString()));
+        segments.add(content);
+        segments.add(ascii("\r\n"));
+    }
+
+    private static ByteBuffer ascii(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Get all segments including the closing boundary
+     * @return Read-only ByteBuffers and Paths in wire order
+     */
+    List<Object> segments() {
+        List<Object> all = new ArrayList<>(segments);
+        all.add(ascii("--" + boundary + "--\r\n"));
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Get Content-Type header value including the boundary
+     * @return Content type
+     */
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * Get configuration this body was created with
+     * @return MultipartConfig
+     */
+    public MultipartConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Compute total body length (file sizes are read now)
+     * @return Body length in bytes
+     */
+    public long contentLength() {
+        long length = 0;
+        for (Object segment : segments()) {
+            if (segment instanceof ByteBuffer) {
+                length += ((ByteBuffer) segment).remaining();
+            } else {
+                try {
+                    length += Files.size((Path) segment);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to read multipart file size: " + segment, e);
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Create a JDK body publisher that streams the parts
+     * Sent chunked unless config.chunked is false, in which case Content-Length is precomputed
+     * @return BodyPublisher
+     */
+    public HttpRequest.BodyPublisher bodyPublisher() {
+        MultipartPublisher publisher = new MultipartPublisher(segments(), config.getBufferBytes());
+        return config.isChunked()
+                ? HttpRequest.BodyPublishers.fromPublisher(publisher)
+                : HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength());
+    }
+
+    /**
+     * Open the body as an InputStream for transports that consume streams (files are opened lazily)
+     * @return InputStream over the whole body
+     */
+    public InputStream openStream() {
+        Iterator<Object> iterator = segments().iterator();
+        Enumeration<InputStream> streams = new Enumeration<InputStream>() {
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                Object segment = iterator.next();
+                if (segment instanceof ByteBuffer) {
+                    return new ByteBufferInputStream(((ByteBuffer) segment).duplicate());
+                }
+                try {
+                    return Channels.newInputStream(FileChannel.open((Path) segment, StandardOpenOption.READ));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to open multipart file: " + segment, e);
+                }
+            }
+        };
+        return new SequenceInputStream(streams) {
+            // Request loggers print the body object; show the part summary instead of the stream identity
+            @Override
+            public String toString() {
+                return describe();
+            }
+        };
+    }
+
+    /**
+     * Describe parts for logs and exchange capture (content is not included)
+     * @return Description
+     */
+    public String describe() {
+        return descriptions.stream().collect(Collectors.joining(", ", "<multipart: ", ">"));
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    /**
+     * InputStream view of a ByteBuffer
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
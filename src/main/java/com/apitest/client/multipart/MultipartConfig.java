@@ -0,0 +1,27 @@
+package com.apitest.client.multipart;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Streaming multipart upload settings
+ * Defaults can be overridden with -Dapi.multipart.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class MultipartConfig {
+
+    // Size of each chunk read from a file part and handed to the transport
+    private int bufferBytes = Integer.getInteger("api.multipart.bufferBytes", 64 * 1024);
+
+    // Send with Transfer-Encoding: chunked; false sends a precomputed Content-Length instead
+    private boolean chunked = Boolean.parseBoolean(System.getProperty("api.multipart.chunked", "true"));
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return MultipartConfig
+     */
+    public static MultipartConfig fromSystemProperties() {
+        return new MultipartConfig();
+    }
+}
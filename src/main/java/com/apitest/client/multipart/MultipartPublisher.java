@@ -0,0 +1,151 @@
+package com.apitest.client.multipart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flow.Publisher emitting multipart segments on demand
+ * In-memory segments are emitted as duplicates of the original buffers; file segments are read
+ * from a FileChannel one chunk at a time, so at most the requested number of chunks is in memory
+ */
+class MultipartPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final List<Object> segments;
+
+    private final int bufferBytes;
+
+    /**
+     * Create publisher
+     * @param segments Read-only ByteBuffers and Paths in wire order
+     * @param bufferBytes Chunk size for file reads
+     */
+    MultipartPublisher(List<Object> segments, int bufferBytes) {
+        this.segments = segments;
+        this.bufferBytes = Math.max(1024, bufferBytes);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new SegmentSubscription(subscriber));
+    }
+
+    /**
+     * Subscription draining segments while there is demand; reentrant request() calls are trampolined
+     */
+    private final class SegmentSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+        private final Iterator<Object> remaining = segments.iterator();
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger workInProgress = new AtomicInteger();
+
+        private FileChannel channel;
+
+        private volatile boolean cancelled;
+
+        private boolean done;
+
+        SegmentSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                drain();
+                subscriber.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!cancelled && !done && demand.get() > 0) {
+                    ByteBuffer next;
+                    try {
+                        next = nextChunk();
+                    } catch (IOException e) {
+                        done = true;
+                        closeChannel();
+                        subscriber.onError(e);
+                        break;
+                    }
+                    if (next == null) {
+                        done = true;
+                        subscriber.onComplete();
+                        break;
+                    }
+                    demand.decrementAndGet();
+                    subscriber.onNext(next);
+                }
+                if (cancelled) {
+                    closeChannel();
+                }
+            } while (workInProgress.decrementAndGet() != 0);
+        }
+
+        /**
+         * Read the next chunk
+         * @return ByteBuffer ready for reading, or null when all segments were emitted
+         */
+        private ByteBuffer nextChunk() throws IOException {
+            while (true) {
+                if (channel != null) {
+                    ByteBuffer chunk = ByteBuffer.allocate(bufferBytes);
+                    int read = channel.read(chunk);
+                    if (read >= 0) {
+                        chunk.flip();
+                        return chunk;
+                    }
+                    closeChannel();
+                }
+                if (!remaining.hasNext()) {
+                    return null;
+                }
+                Object segment = remaining.next();
+                if (segment instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) segment).duplicate();
+                    if (buffer.hasRemaining()) {
+                        return buffer;
+                    }
+                } else {
+                    channel = FileChannel.open((Path) segment, StandardOpenOption.READ);
+                }
+            }
+        }
+
+        private void closeChannel() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // Nothing left to release
+                }
+                channel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.apitest.client.pool;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Configuration for the pooled keep-alive HTTP connection manager used by ApiClient
+ * Defaults can be overridden with -Dapi.pool.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class ConnectionPoolConfig {
+
+    // Maximum number of open connections across all routes
+    private int maxTotal = Integer.getInteger("api.pool.maxTotal", 50);
+
+    // Maximum number of open connections to a single route (host)
+    private int maxPerRoute = Integer.getInteger("api.pool.maxPerRoute", 20);
+
+    // Connections idle for longer than this are evicted from the pool
+    private long idleTimeoutMillis = Long.getLong("api.pool.idleTimeoutMillis", 30000L);
+
+    // Keep-alive duration used when the server does not send a Keep-Alive header
+    private long keepAliveMillis = Long.getLong("api.pool.keepAliveMillis", 30000L);
+
+    // Hard time-to-live for any pooled connection, regardless of keep-alive
+    private long timeToLiveMillis = Long.getLong("api.pool.timeToLiveMillis", 300000L);
+
+    // How often the background evictor checks for expired and idle connections
+    private long evictionIntervalMillis = Long.getLong("api.pool.evictionIntervalMillis", 5000L);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return ConnectionPoolConfig
+     */
+    public static ConnectionPoolConfig fromSystemProperties() {
+        return new ConnectionPoolConfig();
+    }
+}
@@ -0,0 +1,148 @@
+package com.apitest.client.pool;
+
+import com.apitest.client.timeout.DeadlineHttpClient;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.pool.PoolStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled keep-alive connection manager for RestAssured
+ * Holds a single HttpClient backed by a pooling connection manager with per-route limits,
+ * keep-alive TTL and background eviction of expired and idle connections
+ */
+@SuppressWarnings("deprecation") // RestAssured 5.x still requires the AbstractHttpClient API
+public class ConnectionPoolManager {
+
+    private static final Logger logger = LogManager.getLogger(ConnectionPoolManager.class);
+
+    private final ConnectionPoolConfig config;
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+
+    // Clients with their own connect / read timeouts, keyed by both values; all share the connection manager
+    private final Map<String, DefaultHttpClient> timeoutClients = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+
+    /**
+     * Create a connection pool from configuration
+     * @param config ConnectionPoolConfig
+     */
+    public ConnectionPoolManager(ConnectionPoolConfig config) {
+        this.config = config;
+
+        // System default SSLContext: its TLS session cache is shared with the JDK transports and warm-up,
+        // so new pooled connections resume sessions instead of doing full handshakes
+        this.connectionManager = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createSystemDefault(), config.getTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(config.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxPerRoute());
+
+        this.httpClient = newHttpClient();
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictConnections,
+                config.getEvictionIntervalMillis(), config.getEvictionIntervalMillis(), TimeUnit.MILLISECONDS);
+
+        logger.info("Connection pool created - maxTotal: {}, maxPerRoute: {}, keepAlive: {}ms, ttl: {}ms",
+                config.getMaxTotal(), config.getMaxPerRoute(), config.getKeepAliveMillis(), config.getTimeToLiveMillis());
+    }
+
+    /**
+     * Honour the server's Keep-Alive header, falling back to the configured duration
+     * @param defaultKeepAliveMillis Keep-alive used when the server sends none
+     * @return ConnectionKeepAliveStrategy
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long defaultKeepAliveMillis) {
+        return (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? serverKeepAlive : defaultKeepAliveMillis;
+        };
+    }
+
+    /**
+     * Close expired connections and connections idle beyond the configured timeout
+     */
+    private void evictConnections() {
+        try {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(config.getIdleTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.warn("Connection pool eviction failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Create client on the pooled connection manager; it can be aborted by the request deadline
+     * @return DefaultHttpClient
+     */
+    private DefaultHttpClient newHttpClient() {
+        DefaultHttpClient client = new DeadlineHttpClient(connectionManager);
+        client.setKeepAliveStrategy(keepAliveStrategy(config.getKeepAliveMillis()));
+        return client;
+    }
+
+    /**
+     * HttpClient factory method for RestAssured's HttpClientConfig
+     * @return Shared pooled HttpClient
+     */
+    public HttpClient createHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * HttpClient factory method for specifications with their own timeouts
+     * RestAssured writes timeout params into the client it is given, so each timeout pair gets its own
+     * client instance; connections still come from the shared pool
+     * @param connectTimeoutMillis TCP connect timeout (0 for the HttpClient default)
+     * @param readTimeoutMillis Socket read timeout (0 for no timeout)
+     * @return Pooled HttpClient for these timeouts
+     */
+    public HttpClient createHttpClient(int connectTimeoutMillis, int readTimeoutMillis) {
+        if (connectTimeoutMillis <= 0 && readTimeoutMillis <= 0) {
+            return httpClient;
+        }
+        return timeoutClients.computeIfAbsent(connectTimeoutMillis + "/" + readTimeoutMillis, key -> newHttpClient());
+    }
+
+    /**
+     * Get current pool statistics
+     * @return ConnectionPoolStats snapshot
+     */
+    public ConnectionPoolStats getStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    /**
+     * Get pool configuration
+     * @return ConnectionPoolConfig
+     */
+    public ConnectionPoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Stop the evictor and close all pooled connections
+     */
+    public void shutdown() {
+        logger.info("Shutting down connection pool - final stats: {}", getStats());
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+}
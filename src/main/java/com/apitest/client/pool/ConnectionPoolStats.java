@@ -0,0 +1,32 @@
+package com.apitest.client.pool;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Point-in-time snapshot of connection pool usage
+ */
+@Getter
+@AllArgsConstructor
+public class ConnectionPoolStats {
+
+    // Connections currently handed out to in-flight requests
+    private final int leased;
+
+    // Idle connections kept alive and ready for reuse
+    private final int available;
+
+    // Requests waiting for a connection to become available
+    private final int pending;
+
+    // Configured maximum number of connections
+    private final int max;
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats{leased=" + leased +
+                ", available=" + available +
+                ", pending=" + pending +
+                ", max=" + max + '}';
+    }
+}
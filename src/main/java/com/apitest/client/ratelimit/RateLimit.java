@@ -0,0 +1,22 @@
+package com.apitest.client.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Token bucket limit for one endpoint group
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class RateLimit {
+
+    // Sustained rate at which tokens are refilled
+    private double permitsPerSecond;
+
+    // Bucket capacity: requests that may be sent back to back after an idle period
+    private int burst;
+}
@@ -0,0 +1,69 @@
+package com.apitest.client.ratelimit;
+
+import com.apitest.client.EndpointTemplates;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limiter configuration: one token bucket per endpoint group
+ * Defaults can be overridden with -Dapi.ratelimit.* system properties,
+ * e.g. -Dapi.ratelimit.auth.permitsPerSecond=2 -Dapi.ratelimit.auth.burst=4
+ */
+@Data
+@Accessors(chain = true)
+public class RateLimitConfig {
+
+    private static final String[] GROUPS = {
+            EndpointTemplates.AUTH, EndpointTemplates.USERS, EndpointTemplates.HOTELS,
+            EndpointTemplates.EVENTS, EndpointTemplates.COMMENTS};
+
+    // Limits keyed by endpoint group; groups without a limit are not throttled
+    private Map<String, RateLimit> groupLimits = new ConcurrentHashMap<>();
+
+    // Callers waiting longer than this for a token fail with RateLimitExceededException
+    private long maxWaitMillis = Long.getLong("api.ratelimit.maxWaitMillis", 60000L);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * Auth defaults to 5 requests/s (burst 5); other groups default to 20 requests/s (burst 20)
+     * @return RateLimitConfig
+     */
+    public static RateLimitConfig fromSystemProperties() {
+        RateLimitConfig config = new RateLimitConfig();
+        for (String group : GROUPS) {
+            int defaultRate = EndpointTemplates.AUTH.equals(group) ? 5 : 20;
+            double permitsPerSecond = Double.parseDouble(System.getProperty(
+                    "api.ratelimit." + group + ".permitsPerSecond", String.valueOf(defaultRate)));
+            int burst = Integer.getInteger("api.ratelimit." + group + ".burst", defaultRate);
+            if (permitsPerSecond > 0) {
+                config.setGroupLimit(group, permitsPerSecond, burst);
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Set the limit for one endpoint group
+     * @param group Endpoint group (see EndpointTemplates)
+     * @param permitsPerSecond Sustained request rate
+     * @param burst Bucket capacity
+     * @return this config
+     */
+    public RateLimitConfig setGroupLimit(String group, double permitsPerSecond, int burst) {
+        groupLimits.put(group, new RateLimit(permitsPerSecond, Math.max(1, burst)));
+        return this;
+    }
+
+    /**
+     * Remove the limit for one endpoint group
+     * @param group Endpoint group
+     * @return this config
+     */
+    public RateLimitConfig removeGroupLimit(String group) {
+        groupLimits.remove(group);
+        return this;
+    }
+}
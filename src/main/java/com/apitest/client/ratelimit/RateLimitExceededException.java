@@ -0,0 +1,21 @@
+package com.apitest.client.ratelimit;
+
+/**
+ * Thrown instead of sending a request when the wait for a rate limit token would exceed maxWaitMillis
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String group;
+
+    public RateLimitExceededException(String group, long maxWaitMillis) {
+        super("Rate limit for endpoint group '" + group + "' would delay the request by more than "
+                + maxWaitMillis + "ms");
+        this.group = group;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+}
@@ -0,0 +1,43 @@
+package com.apitest.client.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rate limiter counters for one endpoint group
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitStats {
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    // Requests that acquired a token
+    private final long requests;
+
+    // Requests that had to wait for a token
+    private final long throttled;
+
+    // Requests rejected because the wait would exceed maxWaitMillis
+    private final long rejected;
+
+    private final long totalWaitMillis;
+
+    private final long maxWaitMillis;
+
+    /**
+     * Get average wait per request
+     * @return Average wait in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        return requests > 0 ? (double) totalWaitMillis / requests : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("limit %.1f/s (burst %d), requests %d, throttled %d, rejected %d, wait avg %.1fms max %dms total %dms",
+                permitsPerSecond, burst, requests, throttled, rejected, getAverageWaitMillis(), maxWaitMillis, totalWaitMillis);
+    }
+}
@@ -0,0 +1,121 @@
+package com.apitest.client.ratelimit;
+
+import com.apitest.client.EndpointTemplates;
+import com.apitest.client.transport.ApiRequest;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Client-side rate limiter with one token bucket per endpoint group (auth, users, hotels, events, comments)
+ * Callers block in arrival order until their group has a token, keeping parallel runs under server limits
+ */
+public class RateLimiter {
+
+    private static final Logger logger = LogManager.getLogger(RateLimiter.class);
+
+    private final RateLimitConfig config;
+
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+
+    // Wait of the last call on this thread, for tests that want to report it
+    private final ThreadLocal<Long> lastWaitMillis = ThreadLocal.withInitial(() -> 0L);
+
+    /**
+     * Create rate limiter
+     * @param config RateLimitConfig
+     */
+    public RateLimiter(RateLimitConfig config) {
+        this.config = config;
+        config.getGroupLimits().forEach((group, limit) -> groups.put(group, new Group(new TokenBucket(limit))));
+    }
+
+    /**
+     * Wait for a token of the request's endpoint group, then execute the request
+     * @param request ApiRequest
+     * @param next Executes the request
+     * @return Response
+     * @throws RateLimitExceededException if the wait would exceed maxWaitMillis
+     */
+    public Response execute(ApiRequest request, Function<ApiRequest, Response> next) {
+        String groupName = EndpointTemplates.group(request.getEndpoint());
+        Group group = groupName != null ? groups.get(groupName) : null;
+        if (group == null) {
+            lastWaitMillis.set(0L);
+            return next.apply(request);
+        }
+
+        long waitNanos = group.bucket.reserve(TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMillis()));
+        if (waitNanos < 0) {
+            group.rejected.increment();
+            throw new RateLimitExceededException(groupName, config.getMaxWaitMillis());
+        }
+        if (waitNanos > 0) {
+            logger.debug("Rate limit for '{}' delays {} {} by {}ms", groupName, request.getMethod(),
+                    request.getEndpoint(), TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for rate limit of " + groupName, e);
+            }
+            group.throttled.increment();
+        }
+
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        group.requests.increment();
+        group.totalWaitMillis.add(waitMillis);
+        group.maxWaitMillis.accumulate(waitMillis);
+        lastWaitMillis.set(waitMillis);
+        return next.apply(request);
+    }
+
+    /**
+     * Get time the current thread's last request waited for a token
+     * @return Wait in milliseconds
+     */
+    public long getLastWaitMillis() {
+        return lastWaitMillis.get();
+    }
+
+    /**
+     * Get limits, throttled calls and wait times per endpoint group
+     * @return Map of endpoint group to RateLimitStats
+     */
+    public Map<String, RateLimitStats> getStats() {
+        Map<String, RateLimitStats> stats = new TreeMap<>();
+        groups.forEach((name, group) -> stats.put(name, new RateLimitStats(
+                group.bucket.getPermitsPerSecond(), group.bucket.getBurst(), group.requests.sum(),
+                group.throttled.sum(), group.rejected.sum(), group.totalWaitMillis.sum(), group.maxWaitMillis.get())));
+        return stats;
+    }
+
+    /**
+     * Get rate limiter configuration
+     * @return RateLimitConfig
+     */
+    public RateLimitConfig getConfig() {
+        return config;
+    }
+
+    private static final class Group {
+        private final TokenBucket bucket;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalWaitMillis = new LongAdder();
+        private final LongAccumulator maxWaitMillis = new LongAccumulator(Math::max, 0);
+
+        Group(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+}
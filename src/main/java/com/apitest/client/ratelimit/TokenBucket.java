@@ -0,0 +1,71 @@
+package com.apitest.client.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket with fair, first-come-first-served reservations.
+ * Each caller reserves the next free slot under a fair lock and then sleeps outside the lock
+ * until its slot, so waiting callers are released in arrival order at the configured rate.
+ */
+class TokenBucket {
+
+    private final double permitsPerSecond;
+
+    private final double maxPermits;
+
+    private final double nanosPerPermit;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    // Guarded by lock
+    private double storedPermits;
+    private long nextFreeNanos;
+
+    /**
+     * Create a full bucket
+     * @param limit RateLimit
+     */
+    TokenBucket(RateLimit limit) {
+        this.permitsPerSecond = limit.getPermitsPerSecond();
+        this.maxPermits = limit.getBurst();
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.storedPermits = maxPermits;
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * Reserve one token
+     * @param maxWaitNanos Longest acceptable wait
+     * @return Nanoseconds the caller must wait before sending, or -1 if that would exceed maxWaitNanos
+     */
+    long reserve(long maxWaitNanos) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (now > nextFreeNanos) {
+                storedPermits = Math.min(maxPermits, storedPermits + (now - nextFreeNanos) / nanosPerPermit);
+                nextFreeNanos = now;
+            }
+            // A caller without a stored token waits until its own token has been refilled
+            long readyAt = nextFreeNanos + (long) (Math.max(0, 1 - storedPermits) * nanosPerPermit);
+            long waitNanos = readyAt - now;
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            storedPermits = Math.max(0, storedPermits - 1);
+            nextFreeNanos = readyAt;
+            return waitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    int getBurst() {
+        return (int) maxPermits;
+    }
+}
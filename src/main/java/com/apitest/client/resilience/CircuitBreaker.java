@@ -0,0 +1,159 @@
+package com.apitest.client.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Circuit breaker for a single endpoint template
+ * CLOSED: calls pass, outcomes are recorded in a count-based sliding window.
+ * OPEN: calls are rejected until openDurationMillis has elapsed.
+ * HALF_OPEN: a few trial calls pass; all succeeding closes the circuit, any failure re-opens it.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String endpointTemplate;
+    private final CircuitBreakerConfig config;
+
+    // Sliding window of outcomes: bit 0 = failed, bit 1 = slow
+    private final byte[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long rejectedCalls;
+    private long timesOpened;
+
+    CircuitBreaker(String endpointTemplate, CircuitBreakerConfig config) {
+        this.endpointTemplate = endpointTemplate;
+        this.config = config;
+        this.window = new byte[Math.max(1, config.getWindowSize())];
+    }
+
+    /**
+     * Acquire permission to call the endpoint
+     * @throws CircuitOpenException if the circuit is open
+     */
+    synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            long elapsed = System.currentTimeMillis() - openedAtMillis;
+            if (elapsed < config.getOpenDurationMillis()) {
+                rejectedCalls++;
+                throw new CircuitOpenException(endpointTemplate, config.getOpenDurationMillis() - elapsed);
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                rejectedCalls++;
+                throw new CircuitOpenException(endpointTemplate, 0);
+            }
+            halfOpenPermits--;
+        }
+    }
+
+    /**
+     * Return the permission of a call that ended without an outcome (e.g. a cancelled hedge),
+     * so a half-open circuit can still complete its trial calls; no-op in other states
+     */
+    synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits = Math.min(halfOpenPermits + 1, config.getHalfOpenCalls() - halfOpenSuccesses);
+        }
+    }
+
+    /**
+     * Record the outcome of a permitted call
+     * @param failed true if the call failed (5xx or transport error)
+     * @param durationMillis Call duration
+     */
+    synchronized void onResult(boolean failed, long durationMillis) {
+        boolean slow = durationMillis > config.getSlowCallThresholdMillis();
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                logger.warn("Circuit breaker trial call to {} {} ({}ms)", endpointTemplate,
+                        failed ? "failed" : "was slow", durationMillis);
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        record(failed, slow);
+        if (bufferedCalls >= config.getMinimumCalls()) {
+            int failureRate = failedCalls * 100 / bufferedCalls;
+            int slowCallRate = slowCalls * 100 / bufferedCalls;
+            if (failureRate >= config.getFailureRateThreshold() || slowCallRate >= config.getSlowCallRateThreshold()) {
+                logger.warn("Circuit breaker for {} tripped: failure rate {}%, slow call rate {}% over {} calls",
+                        endpointTemplate, failureRate, slowCallRate, bufferedCalls);
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (bufferedCalls == window.length) {
+            byte evicted = window[windowIndex];
+            failedCalls -= evicted & 1;
+            slowCalls -= (evicted >> 1) & 1;
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = (byte) ((failed ? 1 : 0) | (slow ? 2 : 0));
+        failedCalls += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State newState) {
+        logger.warn("Circuit breaker for {} changed state: {} -> {}", endpointTemplate, state, newState);
+        state = newState;
+        switch (newState) {
+            case OPEN:
+                openedAtMillis = System.currentTimeMillis();
+                timesOpened++;
+                break;
+            case HALF_OPEN:
+                halfOpenPermits = config.getHalfOpenCalls();
+                halfOpenSuccesses = 0;
+                break;
+            case CLOSED:
+                bufferedCalls = 0;
+                failedCalls = 0;
+                slowCalls = 0;
+                windowIndex = 0;
+                break;
+        }
+    }
+
+    /**
+     * Get current state
+     * @return State
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Get breaker statistics
+     * @return CircuitBreakerStats snapshot
+     */
+    public synchronized CircuitBreakerStats getStats() {
+        int failureRate = bufferedCalls > 0 ? failedCalls * 100 / bufferedCalls : 0;
+        int slowCallRate = bufferedCalls > 0 ? slowCalls * 100 / bufferedCalls : 0;
+        return new CircuitBreakerStats(endpointTemplate, state, failureRate, slowCallRate, bufferedCalls,
+                rejectedCalls, timesOpened);
+    }
+}
@@ -0,0 +1,42 @@
+package com.apitest.client.resilience;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Configuration for per-endpoint circuit breakers
+ * Defaults can be overridden with -Dapi.breaker.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class CircuitBreakerConfig {
+
+    // Number of most recent calls in the sliding window
+    private int windowSize = Integer.getInteger("api.breaker.windowSize", 20);
+
+    // Calls required in the window before rates are evaluated
+    private int minimumCalls = Integer.getInteger("api.breaker.minimumCalls", 10);
+
+    // Open when this percentage of calls in the window failed (5xx or transport error)
+    private int failureRateThreshold = Integer.getInteger("api.breaker.failureRateThreshold", 50);
+
+    // Calls slower than this count as slow
+    private long slowCallThresholdMillis = Long.getLong("api.breaker.slowCallThresholdMillis", 10000L);
+
+    // Open when this percentage of calls in the window were slow
+    private int slowCallRateThreshold = Integer.getInteger("api.breaker.slowCallRateThreshold", 80);
+
+    // How long an open circuit rejects calls before allowing trial calls
+    private long openDurationMillis = Long.getLong("api.breaker.openDurationMillis", 30000L);
+
+    // Trial calls allowed in half-open state; all must succeed to close the circuit
+    private int halfOpenCalls = Integer.getInteger("api.breaker.halfOpenCalls", 3);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return CircuitBreakerConfig
+     */
+    public static CircuitBreakerConfig fromSystemProperties() {
+        return new CircuitBreakerConfig();
+    }
+}
@@ -0,0 +1,85 @@
+package com.apitest.client.resilience;
+
+import com.apitest.client.transport.ApiRequest;
+import io.restassured.response.Response;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Circuit breakers keyed by endpoint template (e.g. /hotels/{hotelId})
+ * so a dead API fails fast instead of every test waiting out its timeout
+ */
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerConfig config;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * Create registry
+     * @param config CircuitBreakerConfig shared by all endpoints
+     */
+    public CircuitBreakerRegistry(CircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Execute request through the circuit breaker for its endpoint template
+     * @param request ApiRequest (endpoint template should be set)
+     * @param next Executes the request
+     * @return Response
+     * @throws CircuitOpenException if the circuit is open
+     */
+    public Response execute(ApiRequest request, Function<ApiRequest, Response> next) {
+        CircuitBreaker breaker = getBreaker(request.getEndpointTemplate());
+        breaker.acquirePermission();
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = next.apply(request);
+        } catch (Throwable t) {
+            // Also catches checked I/O exceptions RestAssured surfaces without declaring them, and errors,
+            // so a HALF_OPEN trial permit is always returned or recorded.
+            // Deliberately cancelled attempts (e.g. losing hedged requests) are not failures
+            if (Thread.currentThread().isInterrupted()) {
+                breaker.releasePermission();
+            } else {
+                breaker.onResult(true, (System.nanoTime() - start) / 1_000_000);
+            }
+            throw t;
+        }
+        breaker.onResult(response.getStatusCode() >= 500, (System.nanoTime() - start) / 1_000_000);
+        return response;
+    }
+
+    /**
+     * Get or create the breaker for an endpoint template
+     * @param endpointTemplate Endpoint template
+     * @return CircuitBreaker
+     */
+    public CircuitBreaker getBreaker(String endpointTemplate) {
+        return breakers.computeIfAbsent(endpointTemplate, template -> new CircuitBreaker(template, config));
+    }
+
+    /**
+     * Get statistics for all endpoints seen so far
+     * @return Map of endpoint template to CircuitBreakerStats
+     */
+    public Map<String, CircuitBreakerStats> getStats() {
+        Map<String, CircuitBreakerStats> stats = new TreeMap<>();
+        breakers.forEach((template, breaker) -> stats.put(template, breaker.getStats()));
+        return stats;
+    }
+
+    /**
+     * Get breaker configuration
+     * @return CircuitBreakerConfig
+     */
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+}
@@ -0,0 +1,35 @@
+package com.apitest.client.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot of one endpoint's circuit breaker
+ */
+@Getter
+@AllArgsConstructor
+public class CircuitBreakerStats {
+
+    private final String endpointTemplate;
+
+    private final CircuitBreaker.State state;
+
+    // Failure and slow-call percentages over the current window
+    private final int failureRate;
+    private final int slowCallRate;
+
+    // Calls currently in the window
+    private final int bufferedCalls;
+
+    // Calls rejected while open
+    private final long rejectedCalls;
+
+    // Number of transitions into OPEN
+    private final long timesOpened;
+
+    @Override
+    public String toString() {
+        return state + " (failures " + failureRate + "%, slow " + slowCallRate
+                + "%, calls " + bufferedCalls + ", rejected " + rejectedCalls + ", opened " + timesOpened + "x)";
+    }
+}
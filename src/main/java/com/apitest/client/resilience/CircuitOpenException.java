@@ -0,0 +1,21 @@
+package com.apitest.client.resilience;
+
+/**
+ * Thrown instead of sending a request while the circuit for its endpoint is open
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String endpointTemplate;
+
+    public CircuitOpenException(String endpointTemplate, long retryInMillis) {
+        super("Circuit breaker OPEN for " + endpointTemplate + " - failing fast without calling the API"
+                + " (next trial call in " + retryInMillis + "ms)");
+        this.endpointTemplate = endpointTemplate;
+    }
+
+    public String getEndpointTemplate() {
+        return endpointTemplate;
+    }
+}
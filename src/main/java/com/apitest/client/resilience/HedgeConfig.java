@@ -0,0 +1,46 @@
+package com.apitest.client.resilience;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Configuration for hedged GET requests
+ * Defaults can be overridden with -Dapi.hedge.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class HedgeConfig {
+
+    // Send the hedge once the first attempt is slower than this percentile of recent latency
+    private int percentile = Integer.getInteger("api.hedge.percentile", 95);
+
+    // Recent latencies kept per endpoint template
+    private int windowSize = Integer.getInteger("api.hedge.windowSize", 100);
+
+    // Samples required before an endpoint is hedged
+    private int minSamples = Integer.getInteger("api.hedge.minSamples", 20);
+
+    // Lower bound for the hedge delay
+    private long minDelayMillis = Long.getLong("api.hedge.minDelayMillis", 50L);
+
+    // Endpoint templates to hedge; empty means every GET
+    private Set<String> endpointTemplates = new LinkedHashSet<>();
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return HedgeConfig
+     */
+    public static HedgeConfig fromSystemProperties() {
+        HedgeConfig config = new HedgeConfig();
+        // Comma-separated endpoint templates, e.g. /hotels/{hotelId},/users/me
+        for (String template : System.getProperty("api.hedge.endpoints", "").split(",")) {
+            if (!template.isBlank()) {
+                config.getEndpointTemplates().add(template.trim());
+            }
+        }
+        return config;
+    }
+}
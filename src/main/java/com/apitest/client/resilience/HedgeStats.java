@@ -0,0 +1,46 @@
+package com.apitest.client.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Hedging counters for one endpoint template
+ */
+@Getter
+@AllArgsConstructor
+public class HedgeStats {
+
+    // Hedge-eligible GET requests
+    private final long requests;
+
+    // Requests where a second attempt was sent
+    private final long hedged;
+
+    // Hedged requests where the second attempt answered first
+    private final long hedgeWins;
+
+    // Current hedge delay, or -1 while still collecting samples
+    private final long currentDelayMillis;
+
+    /**
+     * Get share of requests that were hedged
+     * @return Hedge rate (0-1)
+     */
+    public double getHedgeRate() {
+        return requests > 0 ? (double) hedged / requests : 0;
+    }
+
+    /**
+     * Get share of hedges that beat the first attempt
+     * @return Win rate (0-1)
+     */
+    public double getWinRate() {
+        return hedged > 0 ? (double) hedgeWins / hedged : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests %d, hedge rate %.1f%%, win rate %.1f%%, delay %dms",
+                requests, getHedgeRate() * 100, getWinRate() * 100, currentDelayMillis);
+    }
+}
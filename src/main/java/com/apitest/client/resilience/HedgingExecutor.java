@@ -0,0 +1,277 @@
+package com.apitest.client.resilience;
+
+import com.apitest.client.timeout.RequestDeadline;
+import com.apitest.client.transport.ApiRequest;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Hedged GET requests: if the first attempt has not answered within a percentile of recent
+ * latency for its endpoint, a second attempt is sent, the first acceptable response wins and the other is aborted
+ */
+public class HedgingExecutor {
+
+    private static final Logger logger = LogManager.getLogger(HedgingExecutor.class);
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final HedgeConfig config;
+
+    // Sends hedges once their delay has passed; the hedge itself runs on the executor
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "api-hedge-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "api-hedge-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, EndpointHedge> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Create hedging executor
+     * @param config HedgeConfig
+     */
+    public HedgingExecutor(HedgeConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Execute request, hedging eligible GETs
+     * The first attempt runs on the calling thread, so its Allure attachments and logs belong to the
+     * running test; the hedge runs on a worker thread without reporting. The first acceptable response
+     * wins and the other attempt is aborted; a 5xx or 429 only wins if the other attempt does no better.
+     * @param request ApiRequest (endpoint template should be set)
+     * @param next Executes a single attempt
+     * @return Winning response
+     */
+    public Response execute(ApiRequest request, Function<ApiRequest, Response> next) {
+        if (!isHedgeable(request)) {
+            return next.apply(request);
+        }
+
+        EndpointHedge endpoint = endpoints.computeIfAbsent(request.getEndpointTemplate(),
+                template -> new EndpointHedge(config.getWindowSize()));
+        endpoint.requests.increment();
+        long percentileDelay = endpoint.latencies.percentile(config.getPercentile(), config.getMinSamples());
+        long start = System.nanoTime();
+
+        if (percentileDelay < 0) {
+            Response response = next.apply(request);
+            endpoint.latencies.record((System.nanoTime() - start) / 1_000_000);
+            return response;
+        }
+
+        long delay = Math.max(config.getMinDelayMillis(), percentileDelay);
+        RequestDeadline primaryScope = RequestDeadline.startAbortable();
+        HedgeAttempt hedge = new HedgeAttempt();
+        ScheduledFuture<?> hedgeTimer = TIMER.schedule(() -> executor.execute(() -> {
+            if (hedge.start(endpoint)) {
+                logger.debug("Hedging GET {} after {}ms", request.getEndpointTemplate(), delay);
+                hedge.run(request.copy().setReporting(false), next, primaryScope);
+            }
+        }), delay, TimeUnit.MILLISECONDS);
+
+        Response response = null;
+        Throwable error = null;
+        try {
+            response = next.apply(request);
+        } catch (Throwable t) {
+            // Includes checked IOExceptions RestAssured rethrows undeclared
+            error = t;
+        }
+        boolean primaryAborted = primaryScope.finish();
+        hedgeTimer.cancel(false);
+
+        if (hedge.close()) {
+            // Hedge in flight or done: keep the primary if it is good, otherwise take the hedge if it is better
+            if (!primaryAborted && error == null && isAcceptable(response)) {
+                hedge.abort();
+            } else {
+                // The primary is only aborted by an acceptable hedge response
+                Response hedgeResponse = hedge.await(request);
+                if (hedgeResponse != null && (primaryAborted || isAcceptable(hedgeResponse) || error != null)) {
+                    endpoint.hedgeWins.increment();
+                    endpoint.latencies.record((System.nanoTime() - start) / 1_000_000);
+                    return hedgeResponse;
+                }
+            }
+        }
+
+        endpoint.latencies.record((System.nanoTime() - start) / 1_000_000);
+        if (error != null) {
+            throw HedgingExecutor.<RuntimeException>rethrow(error);
+        }
+        return response;
+    }
+
+    /**
+     * Get hedge rate and win rate per endpoint template
+     * @return Map of endpoint template to HedgeStats
+     */
+    public Map<String, HedgeStats> getStats() {
+        Map<String, HedgeStats> stats = new TreeMap<>();
+        endpoints.forEach((template, endpoint) -> stats.put(template, new HedgeStats(
+                endpoint.requests.sum(), endpoint.hedged.sum(), endpoint.hedgeWins.sum(),
+                endpoint.latencies.percentile(config.getPercentile(), config.getMinSamples()))));
+        return stats;
+    }
+
+    /**
+     * Stop hedge worker threads
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean isHedgeable(ApiRequest request) {
+        return "GET".equalsIgnoreCase(request.getMethod())
+                && (config.getEndpointTemplates().isEmpty()
+                    || config.getEndpointTemplates().contains(request.getEndpointTemplate()));
+    }
+
+    /**
+     * Check whether a response may win the race
+     * @param response Response
+     * @return false for 5xx and 429, which the other attempt may still beat
+     */
+    private static boolean isAcceptable(Response response) {
+        int status = response.getStatusCode();
+        return status < 500 && status != 429;
+    }
+
+    /**
+     * Rethrow an attempt's failure unchanged, including undeclared checked exceptions
+     * @param error Failure
+     * @return Never returns
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T rethrow(Throwable error) throws T {
+        throw (T) error;
+    }
+
+    /**
+     * Hedge attempt running on a worker thread
+     */
+    private static final class HedgeAttempt {
+
+        // Guarded by this
+        private boolean started;
+        private boolean closed;
+        private RequestDeadline scope;
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Response response;
+
+        /**
+         * Claim the hedge slot unless the primary attempt has already finished
+         * @param endpoint Counters of the endpoint
+         * @return true if the hedge should be sent
+         */
+        synchronized boolean start(EndpointHedge endpoint) {
+            if (closed) {
+                return false;
+            }
+            started = true;
+            scope = RequestDeadline.startAbortable();
+            endpoint.hedged.increment();
+            return true;
+        }
+
+        /**
+         * Send the hedge and abort the primary attempt if the hedge answers acceptably first
+         * @param request Hedge request
+         * @param next Executes a single attempt
+         * @param primaryScope Scope of the primary attempt
+         */
+        void run(ApiRequest request, Function<ApiRequest, Response> next, RequestDeadline primaryScope) {
+            try {
+                Response result = next.apply(request);
+                response = result;
+                if (isAcceptable(result)) {
+                    primaryScope.abort();
+                }
+            } catch (Throwable t) {
+                // The primary attempt's outcome is used instead
+                logger.debug("Hedge for GET {} failed: {}", request.getEndpoint(), t.toString());
+            } finally {
+                scope.finish();
+                done.countDown();
+            }
+        }
+
+        /**
+         * Stop a hedge from starting once the primary attempt has finished
+         * @return true if the hedge was already started
+         */
+        synchronized boolean close() {
+            closed = true;
+            return started;
+        }
+
+        /**
+         * Abort the hedge because the primary attempt won
+         */
+        void abort() {
+            RequestDeadline current;
+            synchronized (this) {
+                current = scope;
+            }
+            if (current != null) {
+                current.abort();
+            }
+        }
+
+        /**
+         * Wait for the hedge to finish
+         * @param request Primary request (for error messages)
+         * @return Hedge response, or null if the hedge failed
+         */
+        Response await(ApiRequest request) {
+            if (done.getCount() == 0) {
+                // Finished: no need to wait, even if the caller has an interrupt pending
+                return response;
+            }
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                abort();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for hedged GET " + request.getEndpoint(), e);
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Latency window and counters for one endpoint template
+     */
+    private static class EndpointHedge {
+        private final LatencyWindow latencies;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder hedged = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+
+        EndpointHedge(int windowSize) {
+            latencies = new LatencyWindow(windowSize);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.apitest.client.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size window of recent call latencies for one endpoint
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private int index;
+    private int count;
+
+    LatencyWindow(int size) {
+        samples = new long[Math.max(1, size)];
+    }
+
+    synchronized void record(long millis) {
+        samples[index] = millis;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    /**
+     * Get a latency percentile over the window
+     * @param percentile Percentile (1-100)
+     * @param minSamples Samples required
+     * @return Latency in milliseconds, or -1 if there are not enough samples
+     */
+    synchronized long percentile(int percentile, int minSamples) {
+        if (count < Math.max(1, minSamples)) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, rank))];
+    }
+}
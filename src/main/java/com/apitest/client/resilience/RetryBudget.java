@@ -0,0 +1,53 @@
+package com.apitest.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global token bucket limiting retries to a fraction of overall traffic,
+ * so a real outage does not turn into a retry storm
+ */
+class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxMilliTokens;
+    private final AtomicLong milliTokens;
+
+    RetryBudget(double ratio, int maxTokens) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxMilliTokens = maxTokens * SCALE;
+        this.milliTokens = new AtomicLong(maxMilliTokens);
+    }
+
+    /**
+     * Earn retry credit for an original (non-retry) request
+     */
+    void onRequest() {
+        milliTokens.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxMilliTokens, current + deposit));
+    }
+
+    /**
+     * Spend one token for a retry
+     * @return true if the retry is allowed
+     */
+    boolean tryAcquireRetry() {
+        while (true) {
+            long current = milliTokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (milliTokens.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Get remaining whole retry tokens
+     * @return Tokens
+     */
+    long getAvailableTokens() {
+        return milliTokens.get() / SCALE;
+    }
+}
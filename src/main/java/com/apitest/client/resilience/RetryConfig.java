@@ -0,0 +1,83 @@
+package com.apitest.client.resilience;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retry engine configuration: default policy, per-endpoint overrides and the global retry budget
+ * Defaults can be overridden with -Dapi.retry.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class RetryConfig {
+
+    private RetryPolicy defaultPolicy = RetryPolicy.fromSystemProperties();
+
+    // Overrides keyed by "METHOD template" (e.g. "POST /auth/verify") or by template alone
+    private Map<String, RetryPolicy> endpointPolicies = new ConcurrentHashMap<>();
+
+    // Retry tokens earned per original request; caps retries at this fraction of traffic
+    private double budgetRatio = Double.parseDouble(System.getProperty("api.retry.budgetRatio", "0.2"));
+
+    // Token reserve available at start and upper bound on accumulated tokens
+    private int budgetMaxTokens = Integer.getInteger("api.retry.budgetMaxTokens", 20);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return RetryConfig
+     */
+    public static RetryConfig fromSystemProperties() {
+        RetryConfig config = new RetryConfig();
+        // Comma-separated POST endpoint templates opted into retries, e.g. /auth/initiate,/auth/verify
+        for (String template : System.getProperty("api.retry.postEndpoints", "").split(",")) {
+            if (!template.isBlank()) {
+                config.allowPost(template.trim());
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Override the policy for one method and endpoint template
+     * @param method HTTP method, or null for all methods
+     * @param endpointTemplate Endpoint template (e.g. /hotels/{hotelId})
+     * @param policy RetryPolicy
+     * @return this config
+     */
+    public RetryConfig setEndpointPolicy(String method, String endpointTemplate, RetryPolicy policy) {
+        endpointPolicies.put(key(method, endpointTemplate), policy);
+        return this;
+    }
+
+    /**
+     * Opt a POST endpoint into retries using the default policy settings
+     * @param endpointTemplate Endpoint template (e.g. /auth/verify)
+     * @return this config
+     */
+    public RetryConfig allowPost(String endpointTemplate) {
+        RetryPolicy policy = defaultPolicy.copy();
+        policy.getRetryableMethods().add("POST");
+        return setEndpointPolicy("POST", endpointTemplate, policy);
+    }
+
+    /**
+     * Resolve the policy for a request
+     * @param method HTTP method
+     * @param endpointTemplate Endpoint template
+     * @return Most specific matching policy
+     */
+    public RetryPolicy policyFor(String method, String endpointTemplate) {
+        RetryPolicy policy = endpointPolicies.get(key(method, endpointTemplate));
+        if (policy == null) {
+            policy = endpointPolicies.get(key(null, endpointTemplate));
+        }
+        return policy != null ? policy : defaultPolicy;
+    }
+
+    private static String key(String method, String endpointTemplate) {
+        return method != null ? method.toUpperCase() + " " + endpointTemplate : endpointTemplate;
+    }
+}
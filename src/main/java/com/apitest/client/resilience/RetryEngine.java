@@ -0,0 +1,196 @@
+package com.apitest.client.resilience;
+
+import com.apitest.client.transport.ApiRequest;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Policy-driven retries for transient failures (429/502/503/504 and I/O errors)
+ * Uses decorrelated-jitter backoff, honours Retry-After and draws from a global retry budget
+ */
+public class RetryEngine {
+
+    private static final Logger logger = LogManager.getLogger(RetryEngine.class);
+
+    private final RetryConfig config;
+    private final RetryBudget budget;
+
+    private final Map<String, LongAdder> retriesByEndpoint = new ConcurrentHashMap<>();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetRejected = new LongAdder();
+
+    /**
+     * Create retry engine
+     * @param config RetryConfig
+     */
+    public RetryEngine(RetryConfig config) {
+        this.config = config;
+        this.budget = new RetryBudget(config.getBudgetRatio(), config.getBudgetMaxTokens());
+    }
+
+    /**
+     * Execute request, retrying transient failures according to the matching policy
+     * @param request ApiRequest (endpoint template should be set)
+     * @param next Executes a single attempt
+     * @return Final response
+     */
+    public Response execute(ApiRequest request, Function<ApiRequest, Response> next) {
+        budget.onRequest();
+        RetryPolicy policy = config.policyFor(request.getMethod(), request.getEndpointTemplate());
+        if (!policy.isRetryable(request.getMethod())) {
+            return next.apply(request);
+        }
+
+        String key = request.getMethod() + " " + request.getEndpointTemplate();
+        long previousDelay = policy.getBaseDelayMillis();
+        for (int attempt = 1; ; attempt++) {
+            Response response;
+            try {
+                response = next.apply(request);
+            } catch (Exception e) {
+                if (attempt >= policy.getMaxAttempts() || !isRetryable(e) || !acquireRetry(key)) {
+                    countExhausted(attempt, policy);
+                    throw e;
+                }
+                previousDelay = nextDelay(policy, previousDelay);
+                logger.warn("{} attempt {}/{} failed: {}. Retrying in {}ms",
+                        key, attempt, policy.getMaxAttempts(), e.getMessage(), previousDelay);
+                sleep(previousDelay);
+                continue;
+            }
+
+            if (!policy.getRetryableStatusCodes().contains(response.getStatusCode())
+                    || attempt >= policy.getMaxAttempts()) {
+                countExhausted(attempt, policy, response);
+                return response;
+            }
+
+            long retryAfter = parseRetryAfter(response.getHeader("Retry-After"));
+            if (retryAfter > policy.getMaxRetryAfterMillis()) {
+                logger.warn("{} returned {} with Retry-After {}ms above limit; not retrying",
+                        key, response.getStatusCode(), retryAfter);
+                return response;
+            }
+            if (!acquireRetry(key)) {
+                return response;
+            }
+            previousDelay = nextDelay(policy, previousDelay);
+            long delay = Math.max(previousDelay, retryAfter);
+            logger.warn("{} attempt {}/{} returned {}. Retrying in {}ms",
+                    key, attempt, policy.getMaxAttempts(), response.getStatusCode(), delay);
+            sleep(delay);
+        }
+    }
+
+    /**
+     * Get retry counters
+     * @return RetryStats snapshot
+     */
+    public RetryStats getStats() {
+        Map<String, Long> retries = new TreeMap<>();
+        retriesByEndpoint.forEach((key, count) -> retries.put(key, count.sum()));
+        return new RetryStats(retries, exhausted.sum(), budgetRejected.sum(), budget.getAvailableTokens());
+    }
+
+    /**
+     * Get retry configuration
+     * @return RetryConfig
+     */
+    public RetryConfig getConfig() {
+        return config;
+    }
+
+    private boolean acquireRetry(String key) {
+        if (!budget.tryAcquireRetry()) {
+            budgetRejected.increment();
+            logger.warn("Retry budget exhausted; not retrying {}", key);
+            return false;
+        }
+        retriesByEndpoint.computeIfAbsent(key, k -> new LongAdder()).increment();
+        return true;
+    }
+
+    private void countExhausted(int attempt, RetryPolicy policy) {
+        if (attempt >= policy.getMaxAttempts()) {
+            exhausted.increment();
+        }
+    }
+
+    private void countExhausted(int attempt, RetryPolicy policy, Response response) {
+        if (policy.getRetryableStatusCodes().contains(response.getStatusCode())) {
+            countExhausted(attempt, policy);
+        }
+    }
+
+    /**
+     * Decorrelated jitter: random between base and three times the previous delay, capped
+     * @param policy RetryPolicy
+     * @param previousDelay Previous delay in milliseconds
+     * @return Next delay in milliseconds
+     */
+    static long nextDelay(RetryPolicy policy, long previousDelay) {
+        long base = policy.getBaseDelayMillis();
+        long upper = Math.max(base + 1, previousDelay * 3);
+        return Math.min(policy.getMaxDelayMillis(), ThreadLocalRandom.current().nextLong(base, upper));
+    }
+
+    /**
+     * Parse Retry-After as delta-seconds or HTTP-date
+     * @param value Header value or null
+     * @return Delay in milliseconds, 0 if absent or unparseable
+     */
+    static long parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+            } catch (RuntimeException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Transient transport errors are retried; unknown hosts are not
+     * @param error Exception thrown by the transport
+     * @return true if retryable
+     */
+    private static boolean isRetryable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnknownHostException) {
+                return false;
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting to retry", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.apitest.client.resilience;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Retry policy for one HTTP method / endpoint combination
+ * Defaults can be overridden with -Dapi.retry.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class RetryPolicy {
+
+    // Total attempts including the first call
+    private int maxAttempts = Integer.getInteger("api.retry.maxAttempts", 3);
+
+    // Lower bound for decorrelated-jitter backoff
+    private long baseDelayMillis = Long.getLong("api.retry.baseDelayMillis", 200L);
+
+    // Upper bound for decorrelated-jitter backoff
+    private long maxDelayMillis = Long.getLong("api.retry.maxDelayMillis", 5000L);
+
+    // Retry-After values above this are not waited for; the response is returned instead
+    private long maxRetryAfterMillis = Long.getLong("api.retry.maxRetryAfterMillis", 30000L);
+
+    // Status codes treated as transient
+    private Set<Integer> retryableStatusCodes = new LinkedHashSet<>(Arrays.asList(429, 502, 503, 504));
+
+    // Methods retried by default (idempotent only; POST/PATCH must be opted in per endpoint)
+    private Set<String> retryableMethods = new LinkedHashSet<>(Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE"));
+
+    /**
+     * Create policy from system properties (falls back to defaults)
+     * @return RetryPolicy
+     */
+    public static RetryPolicy fromSystemProperties() {
+        return new RetryPolicy();
+    }
+
+    /**
+     * Create an independent copy of this policy
+     * @return RetryPolicy
+     */
+    public RetryPolicy copy() {
+        return new RetryPolicy()
+                .setMaxAttempts(maxAttempts)
+                .setBaseDelayMillis(baseDelayMillis)
+                .setMaxDelayMillis(maxDelayMillis)
+                .setMaxRetryAfterMillis(maxRetryAfterMillis)
+                .setRetryableStatusCodes(new LinkedHashSet<>(retryableStatusCodes))
+                .setRetryableMethods(new LinkedHashSet<>(retryableMethods));
+    }
+
+    /**
+     * Check whether a method may be retried under this policy
+     * @param method HTTP method
+     * @return true if retryable
+     */
+    public boolean isRetryable(String method) {
+        return maxAttempts > 1 && retryableMethods.contains(method.toUpperCase());
+    }
+}
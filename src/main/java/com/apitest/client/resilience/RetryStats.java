@@ -0,0 +1,32 @@
+package com.apitest.client.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Snapshot of retry engine counters
+ */
+@Getter
+@AllArgsConstructor
+public class RetryStats {
+
+    // Retries performed, keyed by "METHOD template"
+    private final Map<String, Long> retriesByEndpoint;
+
+    // Calls that still failed after using all attempts
+    private final long exhausted;
+
+    // Retries skipped because the global budget was empty
+    private final long budgetRejected;
+
+    // Whole retry tokens currently available
+    private final long availableBudget;
+
+    @Override
+    public String toString() {
+        return "retries=" + retriesByEndpoint + ", exhausted=" + exhausted
+                + ", budgetRejected=" + budgetRejected + ", availableBudget=" + availableBudget;
+    }
+}
@@ -0,0 +1,97 @@
+package com.apitest.client.timeout;
+
+import com.apitest.client.transport.HttpCompression;
+import org.apache.http.ConnectionReuseStrategy;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.AbortableHttpRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.ProxySelectorRoutePlanner;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.ProxySelector;
+
+/**
+ * Apache HttpClient that can be aborted by the current RequestDeadline
+ * Registers request.abort() before executing, which cancels a pending connection lease,
+ * shuts down a connecting socket or closes the connection while the response is being read.
+ * Like RestAssured's default SystemDefaultHttpClient it routes through the JVM ProxySelector
+ * (http.proxyHost, https.proxyHost, http.nonProxyHosts) and honours http.keepAlive.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5.x still requires the AbstractHttpClient API
+public class DeadlineHttpClient extends DefaultHttpClient {
+
+    /**
+     * Create client with its own single-connection manager (RestAssured default handling)
+     * Uses the system default SSLContext, so its TLS sessions resume from the JVM-wide session cache
+     * primed by warm-up instead of a client-private one
+     */
+    public DeadlineHttpClient() {
+        super(new BasicClientConnectionManager(SchemeRegistryFactory.createSystemDefault()));
+        addProgressInterceptors();
+    }
+
+    /**
+     * Create client on a shared connection manager
+     * @param connectionManager Pooling connection manager
+     */
+    public DeadlineHttpClient(ClientConnectionManager connectionManager) {
+        super(connectionManager);
+        addProgressInterceptors();
+    }
+
+    @Override
+    protected HttpRoutePlanner createHttpRoutePlanner() {
+        return new ProxySelectorRoutePlanner(getConnectionManager().getSchemeRegistry(), ProxySelector.getDefault());
+    }
+
+    @Override
+    protected ConnectionReuseStrategy createConnectionReuseStrategy() {
+        return "true".equalsIgnoreCase(System.getProperty("http.keepAlive", "true"))
+                ? new DefaultConnectionReuseStrategy()
+                : new NoConnectionReuseStrategy();
+    }
+
+    /**
+     * Record request sent / headers received on the current deadline for timeout reports,
+     * and count raw response body bytes before RestAssured's decoders wrap the entity
+     */
+    private void addProgressInterceptors() {
+        addRequestInterceptor((request, context) -> {
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline != null) {
+                deadline.markRequestSent();
+            }
+        });
+        addResponseInterceptor((response, context) -> {
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline != null) {
+                deadline.markHeadersReceived();
+            }
+            HttpCompression.countResponseBytes(response);
+        });
+    }
+
+    @Override
+    public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+        RequestDeadline.onAbort(request::abort);
+        return super.execute(request, context);
+    }
+
+    @Override
+    public CloseableHttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+        if (request instanceof AbortableHttpRequest) {
+            RequestDeadline.onAbort(((AbortableHttpRequest) request)::abort);
+        }
+        return super.execute(target, request, context);
+    }
+}
@@ -0,0 +1,25 @@
+package com.apitest.client.timeout;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * Connect, read and total timeouts for one endpoint group
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class EndpointTimeout {
+
+    // TCP connect timeout
+    private long connectTimeoutMillis;
+
+    // Longest silence on the socket while waiting for response data
+    private long readTimeoutMillis;
+
+    // Deadline for the whole attempt; the request is aborted when it passes
+    private long totalTimeoutMillis;
+}
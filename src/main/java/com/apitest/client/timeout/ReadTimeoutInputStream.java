@@ -0,0 +1,71 @@
+package com.apitest.client.timeout;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+
+/**
+ * Response body stream that fails a read once it has waited longer than the read timeout
+ * The JDK HttpClient only bounds the time until response headers arrive, so a streamed body would
+ * otherwise block forever on a stalled server. Each read runs under its own RequestDeadline, whose
+ * watchdog interrupts the blocked reader; the interrupted read surfaces as a SocketTimeoutException.
+ */
+public class ReadTimeoutInputStream extends FilterInputStream {
+
+    private final long readTimeoutMillis;
+
+    /**
+     * Wrap a body stream
+     * @param in Raw response body stream
+     * @param readTimeoutMillis Longest wait for data of a single read
+     */
+    public ReadTimeoutInputStream(InputStream in, long readTimeoutMillis) {
+        super(in);
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return (int) timed(() -> in.read());
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        return (int) timed(() -> in.read(buffer, offset, length));
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return timed(() -> in.skip(n));
+    }
+
+    /**
+     * Run a blocking read under the read timeout
+     * @param read Read on the wrapped stream
+     * @return Result of the read
+     * @throws SocketTimeoutException if no data arrived within the read timeout
+     */
+    private long timed(BlockingRead read) throws IOException {
+        RequestDeadline deadline = RequestDeadline.start(readTimeoutMillis);
+        try {
+            return read.run();
+        } catch (IOException e) {
+            if (deadline.finish()) {
+                SocketTimeoutException timeout = new SocketTimeoutException(
+                        "Read timed out after " + readTimeoutMillis + "ms");
+                timeout.initCause(e);
+                throw timeout;
+            }
+            throw e;
+        } finally {
+            // Clears the watchdog's interrupt if it fired just as data arrived
+            deadline.finish();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockingRead {
+        long run() throws IOException;
+    }
+}
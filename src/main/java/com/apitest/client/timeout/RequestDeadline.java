@@ -0,0 +1,220 @@
+package com.apitest.client.timeout;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Total deadline of the request attempt running on the current thread
+ * Transports register how to abort their in-flight exchange (closing the socket or cancelling the
+ * future); when the deadline passes a watchdog thread runs that action, so the caller is released
+ * even if the server stops sending data. Without a registered action the caller thread is interrupted.
+ * An abortable scope (no deadline) lets another thread abort the attempt instead, e.g. when a hedge wins;
+ * abort actions registered by nested attempts are registered on every enclosing scope of the thread.
+ */
+public final class RequestDeadline {
+
+    private static final Logger logger = LogManager.getLogger(RequestDeadline.class);
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "api-timeout-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private enum State {
+        RUNNING, FINISHED, EXPIRED, ABORTED
+    }
+
+    private final Thread owner;
+    private final RequestDeadline previous;
+    private final long startNanos = System.nanoTime();
+    // null for an abortable scope without a deadline
+    private final ScheduledFuture<?> timer;
+
+    // Guarded by this
+    private State state = State.RUNNING;
+    private Runnable abortAction;
+    private boolean ownerInterrupted;
+
+    private volatile long requestSentNanos;
+    private volatile long headersReceivedNanos;
+
+    private RequestDeadline(long totalMillis) {
+        this.owner = Thread.currentThread();
+        this.previous = CURRENT.get();
+        this.timer = totalMillis > 0 ? WATCHDOG.schedule(this::expire, totalMillis, TimeUnit.MILLISECONDS) : null;
+    }
+
+    /**
+     * Start a deadline for the current thread
+     * @param totalMillis Time allowed for the attempt
+     * @return RequestDeadline (must be finished by the caller)
+     */
+    static RequestDeadline start(long totalMillis) {
+        RequestDeadline deadline = new RequestDeadline(totalMillis);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * Start a scope without a deadline for the current thread that another thread can abort
+     * @return RequestDeadline (must be finished by the caller)
+     */
+    public static RequestDeadline startAbortable() {
+        return start(0);
+    }
+
+    /**
+     * Get the deadline of the current thread
+     * @return RequestDeadline or null if no timeout applies
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Register how to abort the exchange in flight on the current thread (replaces a previous action)
+     * Runs immediately if the deadline has already passed
+     * @param action Abort action (must not block)
+     */
+    public static void onAbort(Runnable action) {
+        boolean stopped = false;
+        for (RequestDeadline deadline = CURRENT.get(); deadline != null; deadline = deadline.previous) {
+            synchronized (deadline) {
+                if (deadline.state == State.EXPIRED || deadline.state == State.ABORTED) {
+                    stopped = true;
+                } else if (deadline.state == State.RUNNING) {
+                    deadline.abortAction = action;
+                }
+            }
+        }
+        if (stopped) {
+            action.run();
+        }
+    }
+
+    /**
+     * Record that the connection is established and the request is being sent
+     */
+    public void markRequestSent() {
+        requestSentNanos = System.nanoTime();
+    }
+
+    /**
+     * Record that response headers have arrived
+     */
+    public void markHeadersReceived() {
+        headersReceivedNanos = System.nanoTime();
+    }
+
+    /**
+     * Abort the exchange when the deadline passes (watchdog thread)
+     */
+    private void expire() {
+        stop(State.EXPIRED, false);
+    }
+
+    /**
+     * Abort the attempt from another thread (e.g. the attempt lost a hedge race)
+     * The owner thread is also interrupted, so layers such as the circuit breaker treat the
+     * attempt as cancelled rather than failed; finish() clears that interrupt
+     * @return true if the attempt was still running
+     */
+    public boolean abort() {
+        return stop(State.ABORTED, true);
+    }
+
+    /**
+     * Stop a running attempt and run its abort action
+     * @param reason EXPIRED or ABORTED
+     * @param interrupt true to interrupt the owner even if an abort action is registered
+     * @return true if the attempt was still running
+     */
+    private boolean stop(State reason, boolean interrupt) {
+        Runnable action;
+        synchronized (this) {
+            if (state != State.RUNNING) {
+                return false;
+            }
+            state = reason;
+            action = abortAction;
+            // An interrupt already pending on the owner came from its caller: leave it for the caller
+            // instead of taking it over, so finish() does not clear it
+            if ((action == null || interrupt) && !owner.isInterrupted()) {
+                ownerInterrupted = true;
+                owner.interrupt();
+            }
+        }
+        if (action != null) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to abort {} request: {}", reason == State.EXPIRED ? "timed out" : "cancelled",
+                        e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop the watchdog and detach the deadline from the current thread (idempotent)
+     * Clears an interrupt raised by the watchdog or abort() so it does not leak into the caller;
+     * interrupts from anywhere else are kept
+     * @return true if the deadline passed or the attempt was aborted before it finished
+     */
+    public boolean finish() {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        if (CURRENT.get() == this) {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        synchronized (this) {
+            if (state == State.RUNNING) {
+                state = State.FINISHED;
+            }
+            if (ownerInterrupted) {
+                ownerInterrupted = false;
+                Thread.interrupted();
+            }
+            return state == State.EXPIRED || state == State.ABORTED;
+        }
+    }
+
+    /**
+     * Get time since the attempt started
+     * @return Elapsed milliseconds
+     */
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Get time until the request was sent
+     * @return Milliseconds, or -1 if the request was not sent
+     */
+    public long getRequestSentMillis() {
+        long sent = requestSentNanos;
+        return sent != 0 ? (sent - startNanos) / 1_000_000 : -1;
+    }
+
+    /**
+     * Get time until response headers arrived
+     * @return Milliseconds, or -1 if no headers arrived
+     */
+    public long getHeadersReceivedMillis() {
+        long received = headersReceivedNanos;
+        return received != 0 ? (received - startNanos) / 1_000_000 : -1;
+    }
+}
@@ -0,0 +1,80 @@
+package com.apitest.client.timeout;
+
+/**
+ * Thrown when a request overruns its connect, read or total timeout
+ * Carries the phase that timed out and how far the exchange got before it was cancelled
+ */
+public class RequestTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Timeout that fired
+     */
+    public enum Phase {
+        CONNECT, READ, TOTAL
+    }
+
+    private final Phase phase;
+    private final String group;
+    private final long elapsedMillis;
+    private final long requestSentMillis;
+    private final long headersReceivedMillis;
+    private final EndpointTimeout timeout;
+
+    /**
+     * Create timeout exception
+     * @param phase Timeout that fired
+     * @param method HTTP method
+     * @param endpoint Resolved endpoint path
+     * @param group Endpoint group
+     * @param elapsedMillis Time from start of the attempt until it was cancelled
+     * @param requestSentMillis Time until the connection was ready and the request was sent (-1 if never)
+     * @param headersReceivedMillis Time until response headers arrived (-1 if never)
+     * @param timeout Timeouts that applied
+     * @param cause Underlying transport exception
+     */
+    public RequestTimeoutException(Phase phase, String method, String endpoint, String group, long elapsedMillis,
+                                   long requestSentMillis, long headersReceivedMillis, EndpointTimeout timeout,
+                                   Throwable cause) {
+        super(String.format("%s %s timed out (%s) after %dms - request sent: %s, headers received: %s"
+                        + " - limits for '%s': connect %dms, read %dms, total %dms",
+                method, endpoint, phase, elapsedMillis, describe(requestSentMillis), describe(headersReceivedMillis),
+                group, timeout.getConnectTimeoutMillis(), timeout.getReadTimeoutMillis(),
+                timeout.getTotalTimeoutMillis()), cause);
+        this.phase = phase;
+        this.group = group;
+        this.elapsedMillis = elapsedMillis;
+        this.requestSentMillis = requestSentMillis;
+        this.headersReceivedMillis = headersReceivedMillis;
+        this.timeout = timeout;
+    }
+
+    private static String describe(long millis) {
+        return millis >= 0 ? millis + "ms" : "not observed";
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRequestSentMillis() {
+        return requestSentMillis;
+    }
+
+    public long getHeadersReceivedMillis() {
+        return headersReceivedMillis;
+    }
+
+    public EndpointTimeout getTimeout() {
+        return timeout;
+    }
+}
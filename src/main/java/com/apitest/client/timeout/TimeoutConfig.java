@@ -0,0 +1,88 @@
+package com.apitest.client.timeout;
+
+import com.apitest.client.AuthApiClient;
+import com.apitest.client.CommentApiClient;
+import com.apitest.client.EndpointTemplates;
+import com.apitest.client.EventApiClient;
+import com.apitest.client.HotelApiClient;
+import com.apitest.client.UserApiClient;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint-group timeouts derived from the domain clients' response time limits (SLA)
+ * Defaults can be overridden with -Dapi.timeout.* system properties,
+ * e.g. -Dapi.timeout.hotels.readMillis=5000 -Dapi.timeout.auth.totalMillis=20000
+ */
+@Data
+@Accessors(chain = true)
+public class TimeoutConfig {
+
+    // TCP connect timeout for every group unless overridden
+    private long connectTimeoutMillis = Long.getLong("api.timeout.connectMillis", 5000L);
+
+    // Read and total timeouts default to SLA limit x multiplier, so slow responses still reach validateResponseTime
+    private double slaMultiplier = Double.parseDouble(System.getProperty("api.timeout.slaMultiplier", "2"));
+
+    // Timeouts keyed by endpoint group
+    private Map<String, EndpointTimeout> groupTimeouts = new ConcurrentHashMap<>();
+
+    // Used for endpoints outside the known groups (and every group of a config without group timeouts)
+    private EndpointTimeout defaultTimeout = fromSla("api.timeout.default", 10000L);
+
+    /**
+     * Create configuration from the SLA constants and system properties
+     * @return TimeoutConfig
+     */
+    public static TimeoutConfig fromSystemProperties() {
+        TimeoutConfig config = new TimeoutConfig();
+        Map<String, Long> slaLimits = new LinkedHashMap<>();
+        slaLimits.put(EndpointTemplates.AUTH, AuthApiClient.getAuthResponseTimeLimit());
+        slaLimits.put(EndpointTemplates.USERS, UserApiClient.getUserResponseTimeLimit());
+        slaLimits.put(EndpointTemplates.HOTELS, HotelApiClient.getHotelResponseTimeLimit());
+        slaLimits.put(EndpointTemplates.EVENTS, EventApiClient.getEventResponseTimeLimit());
+        slaLimits.put(EndpointTemplates.COMMENTS, CommentApiClient.getCommentResponseTimeLimit());
+
+        slaLimits.forEach((group, slaMillis) -> config.getGroupTimeouts().put(group, config.fromSla("api.timeout." + group, slaMillis)));
+        return config;
+    }
+
+    /**
+     * Build timeouts from an SLA limit, applying property overrides
+     * @param prefix System property prefix (e.g. api.timeout.hotels)
+     * @param slaMillis Response time limit of the group
+     * @return EndpointTimeout
+     */
+    private EndpointTimeout fromSla(String prefix, long slaMillis) {
+        long derived = (long) (slaMillis * slaMultiplier);
+        return new EndpointTimeout(
+                Long.getLong(prefix + ".connectMillis", connectTimeoutMillis),
+                Long.getLong(prefix + ".readMillis", derived),
+                Long.getLong(prefix + ".totalMillis", derived));
+    }
+
+    /**
+     * Set timeouts for one endpoint group
+     * @param group Endpoint group (see EndpointTemplates)
+     * @param timeout EndpointTimeout
+     * @return this config
+     */
+    public TimeoutConfig setGroupTimeout(String group, EndpointTimeout timeout) {
+        groupTimeouts.put(group, timeout);
+        return this;
+    }
+
+    /**
+     * Resolve timeouts for an endpoint group
+     * @param group Endpoint group or null
+     * @return Group timeouts, or the default timeouts
+     */
+    public EndpointTimeout timeoutFor(String group) {
+        EndpointTimeout timeout = group != null ? groupTimeouts.get(group) : null;
+        return timeout != null ? timeout : defaultTimeout;
+    }
+}
@@ -0,0 +1,228 @@
+package com.apitest.client.timeout;
+
+import com.apitest.client.EndpointTemplates;
+import com.apitest.client.transport.ApiRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Applies per-endpoint-group connect, read and total timeouts to each request attempt
+ * Connect and read timeouts are passed to the transport on the ApiRequest; the total deadline is
+ * enforced by RequestDeadline, which aborts the exchange when it passes. Any of the three surfaces
+ * as a RequestTimeoutException with the phase that fired and the timing reached so far.
+ * Multipart uploads get connect and read timeouts only: a large streamed upload can legitimately
+ * take longer than the group's total deadline.
+ * Async requests fail their future when the total timeout passes; streaming requests get the total
+ * deadline until headers arrive and the read timeout for every body read.
+ */
+public class TimeoutEnforcer {
+
+    private static final Logger logger = LogManager.getLogger(TimeoutEnforcer.class);
+
+    private final TimeoutConfig config;
+
+    private final Map<String, GroupCounters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Create timeout enforcer
+     * @param config TimeoutConfig
+     */
+    public TimeoutEnforcer(TimeoutConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Execute one attempt within the timeouts of its endpoint group
+     * @param request ApiRequest
+     * @param next Executes the request (e.g. returns a Response or an open StreamingResponse)
+     * @param <T> Result type
+     * @return Result of next
+     * @throws RequestTimeoutException if a connect, read or total timeout fired
+     */
+    public <T> T execute(ApiRequest request, Function<ApiRequest, T> next) {
+        String group = EndpointTemplates.group(request.getEndpoint());
+        EndpointTimeout timeout = config.timeoutFor(group);
+        if (timeout == null) {
+            return next.apply(request);
+        }
+        GroupCounters groupCounters = applyTimeouts(request, group, timeout);
+
+        long start = System.nanoTime();
+        RequestDeadline deadline = request.isMultipart() ? null : RequestDeadline.start(timeout.getTotalTimeoutMillis());
+        try {
+            return next.apply(request);
+        } catch (Exception e) {
+            // RestAssured rethrows checked IOExceptions (e.g. SocketTimeoutException) undeclared
+            boolean expired = deadline != null && deadline.finish();
+            RequestTimeoutException.Phase phase = expired ? RequestTimeoutException.Phase.TOTAL : timeoutPhase(e);
+            if (phase == null) {
+                throw e;
+            }
+            groupCounters.record(phase);
+            RequestTimeoutException timeoutException = deadline != null
+                    ? new RequestTimeoutException(phase, request.getMethod(), request.resolvePath(), group,
+                            deadline.getElapsedMillis(), deadline.getRequestSentMillis(),
+                            deadline.getHeadersReceivedMillis(), timeout, e)
+                    : new RequestTimeoutException(phase, request.getMethod(), request.resolvePath(), group,
+                            (System.nanoTime() - start) / 1_000_000, -1, -1, timeout, e);
+            logger.warn(timeoutException.getMessage());
+            throw timeoutException;
+        } finally {
+            if (deadline != null) {
+                deadline.finish();
+            }
+        }
+    }
+
+    /**
+     * Execute one non-blocking attempt within the timeouts of its endpoint group
+     * The total timeout completes the future exceptionally; the transport cancels the exchange when
+     * its future completes that way. Multipart uploads again get connect and read timeouts only.
+     * @param request ApiRequest
+     * @param next Sends the request
+     * @param <T> Result type
+     * @return Future failing with RequestTimeoutException if a connect, read or total timeout fired
+     */
+    public <T> CompletableFuture<T> executeAsync(ApiRequest request, Function<ApiRequest, CompletableFuture<T>> next) {
+        String group = EndpointTemplates.group(request.getEndpoint());
+        EndpointTimeout timeout = config.timeoutFor(group);
+        if (timeout == null) {
+            return next.apply(request);
+        }
+        GroupCounters groupCounters = applyTimeouts(request, group, timeout);
+
+        long start = System.nanoTime();
+        CompletableFuture<T> exchange = next.apply(request);
+        if (!request.isMultipart() && timeout.getTotalTimeoutMillis() > 0) {
+            exchange.orTimeout(timeout.getTotalTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        exchange.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            RequestTimeoutException.Phase phase = cause instanceof TimeoutException
+                    ? RequestTimeoutException.Phase.TOTAL : timeoutPhase(cause);
+            if (phase == null) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            groupCounters.record(phase);
+            RequestTimeoutException timeoutException = new RequestTimeoutException(phase, request.getMethod(),
+                    request.resolvePath(), group, (System.nanoTime() - start) / 1_000_000, -1, -1, timeout, cause);
+            logger.warn(timeoutException.getMessage());
+            result.completeExceptionally(timeoutException);
+        });
+        // Cancelling the returned future cancels the exchange
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Count the request and pass the group's connect and read timeouts to the transport
+     * Explicit per-request timeouts take precedence over the group configuration
+     * @param request ApiRequest
+     * @param group Endpoint group or null
+     * @param timeout Timeouts of the group
+     * @return Counters of the group
+     */
+    private GroupCounters applyTimeouts(ApiRequest request, String group, EndpointTimeout timeout) {
+        GroupCounters groupCounters = counters.computeIfAbsent(group, key -> new GroupCounters(timeout));
+        groupCounters.requests.increment();
+        if (request.getConnectTimeoutMillis() <= 0) {
+            request.setConnectTimeoutMillis(timeout.getConnectTimeoutMillis());
+        }
+        if (request.getReadTimeoutMillis() <= 0) {
+            request.setReadTimeoutMillis(timeout.getReadTimeoutMillis());
+        }
+        return groupCounters;
+    }
+
+    /**
+     * Find a connect or read timeout in the exception chain
+     * @param error Transport exception
+     * @return CONNECT, READ or null if the failure was not a timeout
+     */
+    private static RequestTimeoutException.Phase timeoutPhase(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectTimeoutException || cause instanceof HttpConnectTimeoutException) {
+                return RequestTimeoutException.Phase.CONNECT;
+            }
+            if (cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException) {
+                return RequestTimeoutException.Phase.READ;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get configured timeouts
+     * @return TimeoutConfig
+     */
+    public TimeoutConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get requests and timeouts per endpoint group
+     * @return Map of endpoint group to TimeoutStats
+     */
+    public Map<String, TimeoutStats> getStats() {
+        Map<String, TimeoutStats> stats = new TreeMap<>();
+        counters.forEach((group, groupCounters) -> stats.put(group, groupCounters.snapshot()));
+        return stats;
+    }
+
+    /**
+     * Counters for one endpoint group
+     */
+    private static final class GroupCounters {
+        private final EndpointTimeout timeout;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder connectTimeouts = new LongAdder();
+        private final LongAdder readTimeouts = new LongAdder();
+        private final LongAdder totalTimeouts = new LongAdder();
+
+        private GroupCounters(EndpointTimeout timeout) {
+            this.timeout = timeout;
+        }
+
+        private void record(RequestTimeoutException.Phase phase) {
+            switch (phase) {
+                case CONNECT:
+                    connectTimeouts.increment();
+                    break;
+                case READ:
+                    readTimeouts.increment();
+                    break;
+                default:
+                    totalTimeouts.increment();
+            }
+        }
+
+        private TimeoutStats snapshot() {
+            return new TimeoutStats(timeout, requests.sum(), connectTimeouts.sum(), readTimeouts.sum(),
+                    totalTimeouts.sum());
+        }
+    }
+}
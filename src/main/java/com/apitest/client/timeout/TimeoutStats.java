@@ -0,0 +1,30 @@
+package com.apitest.client.timeout;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Timeout counters for one endpoint group
+ */
+@Getter
+@AllArgsConstructor
+public class TimeoutStats {
+
+    private final EndpointTimeout timeout;
+
+    private final long requests;
+
+    private final long connectTimeouts;
+
+    private final long readTimeouts;
+
+    // Attempts aborted at the total deadline
+    private final long totalTimeouts;
+
+    @Override
+    public String toString() {
+        return String.format("connect %dms / read %dms / total %dms, requests %d, timeouts: connect %d, read %d, total %d",
+                timeout.getConnectTimeoutMillis(), timeout.getReadTimeoutMillis(), timeout.getTotalTimeoutMillis(),
+                requests, connectTimeouts, readTimeouts, totalTimeouts);
+    }
+}
@@ -0,0 +1,140 @@
+package com.apitest.client.transport;
+
+import com.apitest.client.multipart.MultipartBody;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Transport-neutral description of a single API request
+ * Built by ApiClient and executed by an HttpTransport implementation
+ */
+@Data
+@Accessors(chain = true)
+public class ApiRequest {
+
+    // HTTP method (GET, POST, PUT, PATCH, DELETE)
+    private String method;
+
+    // Base URI the endpoint is resolved against
+    private String baseUri;
+
+    // Endpoint path, optionally containing {placeholders} and a query string
+    private String endpoint;
+
+    // Endpoint template used for per-endpoint policies and metrics (e.g. /hotels/{hotelId})
+    private String endpointTemplate;
+
+    private Map<String, Object> pathParams = new LinkedHashMap<>();
+
+    private Map<String, Object> queryParams = new LinkedHashMap<>();
+
+    // Extra request headers (e.g. Authorization)
+    private Map<String, String> headers = new LinkedHashMap<>();
+
+    // JSON body object or pre-serialized JSON string
+    private Object body;
+
+    // Streamed multipart/form-data body (file and in-memory parts)
+    private MultipartBody multipart;
+
+    // Per-request connect / read timeouts set by the timeout layer (0 means transport default);
+    // the JDK transports apply the read timeout only, their connect timeout is fixed per client
+    private long connectTimeoutMillis;
+    private long readTimeoutMillis;
+
+    // Negotiate gzip/deflate responses (set from the client context's CompressionConfig)
+    private boolean responseCompression = true;
+
+    // Byte counters of the client context sending the request (null: not counted)
+    private CompressionCounters compressionCounters;
+
+    // false to skip Allure attachments and full logging (e.g. a hedge attempt on a worker thread)
+    private boolean reporting = true;
+
+    /**
+     * Add a request header
+     * @param name Header name
+     * @param value Header value
+     * @return this request
+     */
+    public ApiRequest header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * Create an independent copy (parameter and header maps are copied, the body is shared)
+     * @return Copy of this request
+     */
+    public ApiRequest copy() {
+        return new ApiRequest()
+                .setMethod(method)
+                .setBaseUri(baseUri)
+                .setEndpoint(endpoint)
+                .setEndpointTemplate(endpointTemplate)
+                .setPathParams(pathParams != null ? new LinkedHashMap<>(pathParams) : null)
+                .setQueryParams(queryParams != null ? new LinkedHashMap<>(queryParams) : null)
+                .setHeaders(new LinkedHashMap<>(headers))
+                .setBody(body)
+                .setMultipart(multipart)
+                .setConnectTimeoutMillis(connectTimeoutMillis)
+                .setReadTimeoutMillis(readTimeoutMillis)
+                .setResponseCompression(responseCompression)
+                .setCompressionCounters(compressionCounters)
+                .setReporting(reporting);
+    }
+
+    /**
+     * Check whether this is a multipart upload
+     * @return true if a multipart body is attached
+     */
+    public boolean isMultipart() {
+        return multipart != null;
+    }
+
+    /**
+     * Resolve endpoint path parameters (without base URI or query params)
+     * @return Endpoint with {placeholders} replaced
+     */
+    public String resolvePath() {
+        String path = endpoint;
+        if (pathParams == null) {
+            return path;
+        }
+        for (Map.Entry<String, Object> entry : pathParams.entrySet()) {
+            path = path.replace("{" + entry.getKey() + "}", String.valueOf(entry.getValue()));
+        }
+        return path;
+    }
+
+    /**
+     * Resolve endpoint path parameters and append the URL-encoded query parameters sorted by name (without base URI)
+     * @return Path and query string identifying the resource regardless of query parameter order
+     */
+    public String resolvePathAndQuery() {
+        String path = resolvePath();
+        if (queryParams == null || queryParams.isEmpty()) {
+            return path;
+        }
+        return path + (path.indexOf('?') >= 0 ? "&" : "?") + new TreeMap<>(queryParams).entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(String.valueOf(entry.getValue()), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    /**
+     * Build a key identifying the resource and the identity requesting it
+     * Used by the response cache and request coalescing, so identities never share responses
+     * @return Authorization header, base URI and path with sorted query parameters
+     */
+    public String resourceKey() {
+        return headers.getOrDefault("Authorization", "") + " " + baseUri + resolvePathAndQuery();
+    }
+}
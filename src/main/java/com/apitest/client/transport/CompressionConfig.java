@@ -0,0 +1,30 @@
+package com.apitest.client.transport;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * HTTP compression settings shared by all transports
+ * Defaults can be overridden with -Dapi.compression.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class CompressionConfig {
+
+    // Send Accept-Encoding: gzip, deflate and decode compressed responses
+    private boolean responseCompression = Boolean.parseBoolean(System.getProperty("api.compression.response", "true"));
+
+    // Gzip request bodies (Content-Encoding: gzip); the server must support it
+    private boolean requestCompression = Boolean.getBoolean("api.compression.request");
+
+    // Request bodies smaller than this are sent uncompressed
+    private int requestThresholdBytes = Integer.getInteger("api.compression.thresholdBytes", 1024);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return CompressionConfig
+     */
+    public static CompressionConfig fromSystemProperties() {
+        return new CompressionConfig();
+    }
+}
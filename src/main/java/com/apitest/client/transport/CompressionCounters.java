@@ -0,0 +1,55 @@
+package com.apitest.client.transport;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compressed and uncompressed byte counts per endpoint template for one client context
+ * Attached to each ApiRequest so transports record into the counters of the context that sent it
+ */
+public class CompressionCounters {
+
+    private final Map<String, Counters> countersByEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * Get compressed and uncompressed byte counts per endpoint template
+     * @return Map of endpoint template to CompressionStats
+     */
+    public Map<String, CompressionStats> getStats() {
+        Map<String, CompressionStats> stats = new TreeMap<>();
+        countersByEndpoint.forEach((template, c) -> stats.put(template, new CompressionStats(
+                c.responses.sum(), c.compressedResponses.sum(), c.responseWireBytes.sum(), c.responseDecodedBytes.sum(),
+                c.requests.sum(), c.compressedRequests.sum(), c.requestRawBytes.sum(), c.requestWireBytes.sum())));
+        return stats;
+    }
+
+    /**
+     * Reset all byte counters
+     */
+    public void reset() {
+        countersByEndpoint.clear();
+    }
+
+    /**
+     * Get counters for the request's endpoint template
+     * @param request ApiRequest
+     * @return Counters
+     */
+    Counters forRequest(ApiRequest request) {
+        String key = request.getEndpointTemplate() != null ? request.getEndpointTemplate() : request.getEndpoint();
+        return countersByEndpoint.computeIfAbsent(key, k -> new Counters());
+    }
+
+    static final class Counters {
+        final LongAdder responses = new LongAdder();
+        final LongAdder compressedResponses = new LongAdder();
+        final LongAdder responseWireBytes = new LongAdder();
+        final LongAdder responseDecodedBytes = new LongAdder();
+        final LongAdder requests = new LongAdder();
+        final LongAdder compressedRequests = new LongAdder();
+        final LongAdder requestRawBytes = new LongAdder();
+        final LongAdder requestWireBytes = new LongAdder();
+    }
+}
@@ -0,0 +1,43 @@
+package com.apitest.client.transport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Compressed vs uncompressed byte counts for one endpoint template
+ */
+@Getter
+@AllArgsConstructor
+public class CompressionStats {
+
+    // Responses received, and how many of them were compressed
+    private final long responses;
+    private final long compressedResponses;
+
+    // Response bytes on the wire and after decoding (wire size is only known when measurable)
+    private final long responseWireBytes;
+    private final long responseDecodedBytes;
+
+    // Request bodies sent, and how many were gzipped
+    private final long requests;
+    private final long compressedRequests;
+
+    // Request body bytes before and after compression
+    private final long requestRawBytes;
+    private final long requestWireBytes;
+
+    /**
+     * Get bytes saved on responses and requests
+     * @return Saved bytes
+     */
+    public long getSavedBytes() {
+        return (responseDecodedBytes - responseWireBytes) + (requestRawBytes - requestWireBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "responses " + responses + " (" + compressedResponses + " compressed, " + responseWireBytes
+                + " wire / " + responseDecodedBytes + " decoded bytes), requests " + requests + " ("
+                + compressedRequests + " compressed, " + requestWireBytes + " wire / " + requestRawBytes + " raw bytes)";
+    }
+}
@@ -0,0 +1,34 @@
+package com.apitest.client.transport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot of how HTTP/2 streams were spread over a single connection
+ */
+@Getter
+@AllArgsConstructor
+public class ConnectionStreamStats {
+
+    private final int connectionIndex;
+
+    // Streams currently in flight on this connection
+    private final int activeStreams;
+
+    // Highest number of concurrent streams observed
+    private final int peakStreams;
+
+    // Total streams (requests) carried by this connection
+    private final long totalStreams;
+
+    // Responses actually negotiated as HTTP/2 (others fell back to HTTP/1.1)
+    private final long http2Responses;
+
+    @Override
+    public String toString() {
+        return "connection[" + connectionIndex + "]{active=" + activeStreams +
+                ", peak=" + peakStreams +
+                ", total=" + totalStreams +
+                ", http2=" + http2Responses + '}';
+    }
+}
@@ -0,0 +1,27 @@
+package com.apitest.client.transport;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Configuration for the HTTP/2 multiplexed transport
+ * Defaults can be overridden with -Dapi.http2.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class Http2Config {
+
+    // Number of HTTP/2 connections requests are multiplexed over
+    private int connections = Integer.getInteger("api.http2.connections", 2);
+
+    // Maximum concurrent streams (in-flight requests) per connection
+    private int maxConcurrentStreams = Integer.getInteger("api.http2.maxStreams", 100);
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return Http2Config
+     */
+    public static Http2Config fromSystemProperties() {
+        return new Http2Config();
+    }
+}
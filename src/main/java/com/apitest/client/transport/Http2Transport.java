@@ -0,0 +1,196 @@
+package com.apitest.client.transport;
+
+import com.apitest.client.ApiResponse;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP/2 transport that multiplexes concurrent requests over a small, fixed set of connections
+ * Each connection is a dedicated JDK HttpClient (one HTTP/2 connection per origin) with a cap on
+ * concurrent streams; requests go to the least-loaded connection and wait when all are saturated
+ */
+public class Http2Transport implements HttpTransport {
+
+    private static final Logger logger = LogManager.getLogger(Http2Transport.class);
+
+    private final Http2Config config;
+    private final List<Connection> connections = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Create HTTP/2 transport from system property configuration
+     */
+    public Http2Transport() {
+        this(Http2Config.fromSystemProperties());
+    }
+
+    /**
+     * Create HTTP/2 transport
+     * @param config Http2Config with connection count and max concurrent streams
+     */
+    public Http2Transport(Http2Config config) {
+        this(config, null, null);
+    }
+
+    /**
+     * Create HTTP/2 transport with explicit timeouts
+     * Every connection uses this connect timeout; per-request read timeouts set by the timeout layer
+     * still take precedence
+     * @param config Http2Config with connection count and max concurrent streams
+     * @param connectTimeout TCP connect timeout, or null for the default
+     * @param requestTimeout Time allowed until response headers arrive, or null for none
+     */
+    public Http2Transport(Http2Config config, Duration connectTimeout, Duration requestTimeout) {
+        this.config = config;
+        for (int i = 0; i < config.getConnections(); i++) {
+            connections.add(new Connection(i, new JdkHttpTransport(HttpClient.Version.HTTP_2, connectTimeout,
+                    requestTimeout), config.getMaxConcurrentStreams()));
+        }
+        logger.info("HTTP/2 transport created - connections: {}, maxConcurrentStreams: {}",
+                config.getConnections(), config.getMaxConcurrentStreams());
+    }
+
+    @Override
+    public Response execute(ApiRequest request) {
+        Connection connection = acquireStream();
+        try {
+            return connection.transport.execute(request);
+        } finally {
+            connection.releaseStream();
+        }
+    }
+
+    /**
+     * Execute request without blocking on the response
+     * Blocks only while every connection is at its stream limit (backpressure)
+     * @param request ApiRequest to send
+     * @return Future completed with the response
+     */
+    public CompletableFuture<ApiResponse> executeAsync(ApiRequest request) {
+        Connection connection = acquireStream();
+        return connection.transport.executeAsync(request)
+                .whenComplete((response, error) -> connection.releaseStream());
+    }
+
+    /**
+     * Reserve a stream on the least-loaded connection, waiting if all connections are saturated
+     * @return Connection with a reserved stream
+     */
+    private Connection acquireStream() {
+        if (closed) {
+            throw new IllegalStateException("HTTP/2 transport is closed");
+        }
+        Connection leastLoaded = connections.get(0);
+        for (Connection connection : connections) {
+            if (connection.streams.availablePermits() > leastLoaded.streams.availablePermits()) {
+                leastLoaded = connection;
+            }
+        }
+
+        if (!leastLoaded.streams.tryAcquire()) {
+            try {
+                leastLoaded.streams.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for an HTTP/2 stream", e);
+            }
+        }
+        if (closed) {
+            // Pass the permit on so the next waiter also wakes up and fails
+            leastLoaded.streams.release();
+            throw new IllegalStateException("HTTP/2 transport is closed");
+        }
+        leastLoaded.onStreamOpened();
+        return leastLoaded;
+    }
+
+    /**
+     * Get how streams are spread across connections
+     * @return Per-connection stream statistics
+     */
+    public List<ConnectionStreamStats> getStreamDistribution() {
+        List<ConnectionStreamStats> stats = new ArrayList<>();
+        for (Connection connection : connections) {
+            stats.add(new ConnectionStreamStats(connection.index, connection.active.get(), connection.peak.get(),
+                    connection.total.sum(), connection.transport.getResponseCount(HttpClient.Version.HTTP_2)));
+        }
+        return stats;
+    }
+
+    /**
+     * Log current stream distribution
+     */
+    public void logStreamDistribution() {
+        logger.info("HTTP/2 stream distribution: {}", getStreamDistribution());
+    }
+
+    /**
+     * Get transport configuration
+     * @return Http2Config
+     */
+    public Http2Config getConfig() {
+        return config;
+    }
+
+    @Override
+    public String getName() {
+        return "jdk-http_2";
+    }
+
+    /**
+     * Fail requests waiting for a stream, then close every connection's client
+     * (in-flight requests are left to complete)
+     */
+    @Override
+    public void close() {
+        closed = true;
+        logStreamDistribution();
+        for (Connection connection : connections) {
+            connection.streams.release();
+        }
+        for (Connection connection : connections) {
+            connection.transport.close();
+        }
+    }
+
+    /**
+     * A single HTTP/2 connection with its stream limit and counters
+     */
+    private static class Connection {
+
+        private final int index;
+        private final JdkHttpTransport transport;
+        private final Semaphore streams;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+        private final LongAdder total = new LongAdder();
+
+        Connection(int index, JdkHttpTransport transport, int maxConcurrentStreams) {
+            this.index = index;
+            this.transport = transport;
+            this.streams = new Semaphore(maxConcurrentStreams, true);
+        }
+
+        void onStreamOpened() {
+            int current = active.incrementAndGet();
+            peak.accumulateAndGet(current, Math::max);
+            total.increment();
+        }
+
+        void releaseStream() {
+            active.decrementAndGet();
+            streams.release();
+        }
+    }
+}
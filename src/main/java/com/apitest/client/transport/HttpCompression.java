@@ -0,0 +1,242 @@
+package com.apitest.client.transport;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * gzip/deflate support for request and response bodies plus per-endpoint byte accounting
+ * RestAssured negotiates and decodes responses itself; the JDK transports use decode() here.
+ * Byte counts go to the CompressionCounters attached to the request (none for requests sent outside a context)
+ */
+public class HttpCompression {
+
+    private static final Logger logger = LogManager.getLogger(HttpCompression.class);
+
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    // Raw entity of the last Apache HttpClient response on this thread, counted before content decoding
+    private static final ThreadLocal<CountingEntity> lastResponseEntity = new ThreadLocal<>();
+
+    private HttpCompression() {
+    }
+
+    /**
+     * Gzip the request body when request compression is enabled and it exceeds the threshold.
+     * The body is replaced by compressed bytes and Content-Encoding: gzip is added.
+     * @param request ApiRequest
+     * @param config Compression configuration of the client context
+     */
+    public static void compressRequest(ApiRequest request, CompressionConfig config) {
+        if (request.getBody() == null || request.isMultipart()) {
+            return;
+        }
+        if (!config.isRequestCompression()) {
+            return;
+        }
+
+        CompressionCounters.Counters counters = counters(request);
+        byte[] raw = JdkHttpTransport.serializeBody(request.getBody());
+        if (raw.length < config.getRequestThresholdBytes()) {
+            if (counters != null) {
+                counters.requests.increment();
+                counters.requestRawBytes.add(raw.length);
+                counters.requestWireBytes.add(raw.length);
+            }
+            request.setBody(raw);
+            return;
+        }
+
+        byte[] compressed = gzip(raw);
+        if (counters != null) {
+            counters.requests.increment();
+            counters.requestRawBytes.add(raw.length);
+            counters.compressedRequests.increment();
+            counters.requestWireBytes.add(compressed.length);
+        }
+        request.setBody(compressed).header("Content-Encoding", "gzip");
+        logger.debug("Compressed {} request body for {}: {} -> {} bytes",
+                request.getMethod(), request.getEndpointTemplate(), raw.length, compressed.length);
+    }
+
+    /**
+     * Wrap a response body stream with the decoder for its Content-Encoding
+     * @param body Raw body stream
+     * @param contentEncoding Content-Encoding header value or null
+     * @return Decoding stream (or the original stream for identity encoding)
+     */
+    public static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        switch (contentEncoding.trim().toLowerCase()) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(body, 8192);
+            case "deflate":
+                return new InflaterInputStream(body);
+            default:
+                return body;
+        }
+    }
+
+    /**
+     * Decode a fully received response body and record wire vs decoded sizes
+     * @param request ApiRequest the response belongs to
+     * @param body Body bytes as received
+     * @param contentEncoding Content-Encoding header value or null
+     * @return Decoded body bytes
+     */
+    static byte[] decode(ApiRequest request, byte[] body, String contentEncoding) {
+        byte[] decoded = body;
+        if (contentEncoding != null && body.length > 0) {
+            try (InputStream in = decode(new ByteArrayInputStream(body), contentEncoding)) {
+                decoded = in.readAllBytes();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to decode " + contentEncoding + " response body: " + e.getMessage(), e);
+            }
+        }
+        recordResponse(request, body.length, decoded.length, contentEncoding != null);
+        return decoded;
+    }
+
+    /**
+     * Record response sizes for an endpoint
+     * @param request ApiRequest the response belongs to
+     * @param wireBytes Bytes received on the wire, or -1 if unknown
+     * @param decodedBytes Bytes after decoding
+     * @param compressed true if the response carried a Content-Encoding
+     */
+    static void recordResponse(ApiRequest request, long wireBytes, long decodedBytes, boolean compressed) {
+        CompressionCounters.Counters counters = counters(request);
+        if (counters == null) {
+            return;
+        }
+        counters.responses.increment();
+        if (compressed) {
+            counters.compressedResponses.increment();
+        }
+        // Sizes are only comparable when both are known; never substitute the decoded size for the wire size
+        if (wireBytes >= 0) {
+            counters.responseWireBytes.add(wireBytes);
+            counters.responseDecodedBytes.add(decodedBytes);
+        }
+    }
+
+    /**
+     * Count the raw body bytes of an Apache HttpClient response as they are read
+     * Must run before RestAssured's content decoding interceptors wrap the entity
+     * @param response Response whose entity is about to be consumed on this thread
+     */
+    public static void countResponseBytes(HttpResponse response) {
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            lastResponseEntity.remove();
+            return;
+        }
+        CountingEntity counting = new CountingEntity(entity);
+        response.setEntity(counting);
+        lastResponseEntity.set(counting);
+    }
+
+    /**
+     * Take the raw body size counted for the last Apache HttpClient response on this thread
+     * @return Bytes read from the wire (after transfer decoding, before content decoding), or -1 if not counted
+     */
+    static long takeResponseWireBytes() {
+        CountingEntity counting = lastResponseEntity.get();
+        lastResponseEntity.remove();
+        return counting != null ? counting.bytesRead.sum() : -1;
+    }
+
+    /**
+     * Find the Content-Encoding of a response
+     * @param headers Response headers
+     * @return Encoding, or null for identity
+     */
+    static String contentEncoding(Map<String, List<String>> headers) {
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if ("Content-Encoding".equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty()) {
+                String encoding = entry.getValue().get(0);
+                return "identity".equalsIgnoreCase(encoding) ? null : encoding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gzip bytes
+     * @param raw Uncompressed bytes
+     * @return Compressed bytes
+     */
+    static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to gzip request body", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static CompressionCounters.Counters counters(ApiRequest request) {
+        CompressionCounters counters = request.getCompressionCounters();
+        return counters != null ? counters.forRequest(request) : null;
+    }
+
+    /**
+     * Entity wrapper counting the bytes read from the wrapped (still encoded) content
+     */
+    private static final class CountingEntity extends HttpEntityWrapper {
+        private final LongAdder bytesRead = new LongAdder();
+
+        private CountingEntity(HttpEntity wrapped) {
+            super(wrapped);
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        bytesRead.increment();
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n > 0) {
+                        bytesRead.add(n);
+                    }
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = getContent()) {
+                in.transferTo(out);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.apitest.client.transport;
+
+import io.restassured.response.Response;
+
+/**
+ * Transport SPI behind ApiClient
+ * Implementations execute an ApiRequest and return a RestAssured Response so that
+ * domain clients and tests work unchanged regardless of the underlying HTTP engine
+ */
+public interface HttpTransport {
+
+    /**
+     * Execute request
+     * @param request ApiRequest to send
+     * @return Response
+     */
+    Response execute(ApiRequest request);
+
+    /**
+     * Get transport name for logging and reports
+     * @return Transport name
+     */
+    String getName();
+
+    /**
+     * Release resources held by the transport (connections, threads)
+     */
+    default void close() {
+    }
+}
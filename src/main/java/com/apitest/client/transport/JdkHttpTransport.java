@@ -0,0 +1,332 @@
+package com.apitest.client.transport;
+
+import com.apitest.client.ApiResponse;
+import com.apitest.client.StreamingResponse;
+import com.apitest.client.timeout.ReadTimeoutInputStream;
+import com.apitest.client.timeout.RequestDeadline;
+import com.apitest.utils.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Lightweight transport backed by the JDK java.net.http.HttpClient
+ * Avoids RestAssured's Groovy-based request pipeline; intended for performance measurement runs
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    private static final Logger logger = LogManager.getLogger(JdkHttpTransport.class);
+
+    // Compact mapper for request bodies (JsonUtils' shared mapper pretty-prints)
+    private static final ObjectMapper objectMapper = JsonUtils.getObjectMapper().copy()
+            .disable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    // The JDK fixes the connect timeout per client, so per-request connect timeouts are not applied;
+    // the owner builds the transport with the connect timeout it needs
+    private final HttpClient httpClient;
+
+    // Per-request timeout (null means none)
+    private final Duration requestTimeout;
+
+    // Responses per negotiated protocol version (HTTP/2 may fall back to HTTP/1.1)
+    private final Map<HttpClient.Version, LongAdder> responsesByVersion = new EnumMap<>(HttpClient.Version.class);
+
+    /**
+     * Create HTTP/1.1 transport with default settings
+     */
+    public JdkHttpTransport() {
+        this(HttpClient.Version.HTTP_1_1);
+    }
+
+    /**
+     * Create transport for a preferred protocol version with default settings
+     * @param version HTTP_1_1, or HTTP_2 to negotiate HTTP/2 via ALPN
+     */
+    public JdkHttpTransport(HttpClient.Version version) {
+        this(version, null, null);
+    }
+
+    /**
+     * Create transport for a preferred protocol version with explicit timeouts
+     * @param version HTTP_1_1, or HTTP_2 to negotiate HTTP/2 via ALPN
+     * @param connectTimeout TCP connect timeout, or null for the default
+     * @param requestTimeout Time allowed until response headers arrive, or null for none
+     */
+    public JdkHttpTransport(HttpClient.Version version, Duration connectTimeout, Duration requestTimeout) {
+        this(HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout != null ? connectTimeout : DEFAULT_CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build(), requestTimeout);
+    }
+
+    /**
+     * Create transport around an existing HttpClient
+     * @param httpClient Configured JDK HttpClient
+     */
+    public JdkHttpTransport(HttpClient httpClient) {
+        this(httpClient, null);
+    }
+
+    /**
+     * Create transport around an existing HttpClient
+     * @param httpClient Configured JDK HttpClient
+     * @param requestTimeout Time allowed until response headers arrive, or null for none
+     */
+    public JdkHttpTransport(HttpClient httpClient, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.requestTimeout = requestTimeout;
+        for (HttpClient.Version version : HttpClient.Version.values()) {
+            responsesByVersion.put(version, new LongAdder());
+        }
+    }
+
+    @Override
+    public Response execute(ApiRequest request) {
+        ApiResponse response;
+        CompletableFuture<ApiResponse> future = executeAsync(request);
+        // Lets the total request deadline cancel the exchange and release this thread
+        RequestDeadline.onAbort(() -> future.cancel(true));
+        try {
+            response = future.get();
+        } catch (CancellationException e) {
+            throw new RuntimeException(request.getMethod() + " " + request.getEndpoint() + " was cancelled", e);
+        } catch (InterruptedException e) {
+            // Interrupting the caller (e.g. a losing hedged request) cancels the exchange
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(request.getMethod() + " " + request.getEndpoint() + " was cancelled", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(request.getMethod() + " " + request.getEndpoint() + " failed: "
+                    + cause.getMessage(), cause);
+        }
+        return RestAssuredResponses.create(RestAssuredResponses.statusLine(response.getVersion(),
+                response.getStatusCode()), response.getStatusCode(), response.getHeaders(),
+                response.getBody(), response.getTime());
+    }
+
+    /**
+     * Execute request without blocking
+     * @param request ApiRequest to send
+     * @return Future completed with the response once the body is fully received
+     */
+    public CompletableFuture<ApiResponse> executeAsync(ApiRequest request) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = buildRequest(request);
+        } catch (RuntimeException e) {
+            CompletableFuture<ApiResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+
+        logger.debug("Sending {} request to: {}", request.getMethod(), httpRequest.uri());
+        long start = System.nanoTime();
+
+        RequestDeadline deadline = RequestDeadline.current();
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(httpRequest, responseInfo -> {
+            if (deadline != null) {
+                deadline.markHeadersReceived();
+            }
+            return HttpResponse.BodyHandlers.ofByteArray().apply(responseInfo);
+        });
+        CompletableFuture<ApiResponse> result = exchange
+                .thenApply(httpResponse -> {
+                    long timeMillis = (System.nanoTime() - start) / 1_000_000;
+                    responsesByVersion.get(httpResponse.version()).increment();
+                    logger.debug("{} request to {} completed. Status code: {}, Time: {}ms",
+                            request.getMethod(), httpRequest.uri(), httpResponse.statusCode(), timeMillis);
+                    byte[] body = HttpCompression.decode(request, httpResponse.body(),
+                            HttpCompression.contentEncoding(httpResponse.headers().map()));
+                    return new ApiResponse(httpResponse.version(), httpResponse.statusCode(),
+                            httpResponse.headers().map(), body, timeMillis);
+                });
+        // Propagate cancellation or a timeout completing the result to the underlying exchange
+        // (honoured by JDK 16+ HttpClient); cancelling a completed exchange has no effect
+        result.whenComplete((response, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Execute request and return as soon as headers arrive, leaving the body unread
+     * so large payloads can be deserialized incrementally
+     * @param request ApiRequest to send
+     * @return StreamingResponse (caller must close it)
+     */
+    public StreamingResponse openStream(ApiRequest request) {
+        HttpRequest httpRequest = buildRequest(request);
+        logger.debug("Opening streaming {} request to: {}", request.getMethod(), httpRequest.uri());
+        long start = System.nanoTime();
+
+        HttpResponse<InputStream> httpResponse;
+        try {
+            httpResponse = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new RuntimeException(request.getMethod() + " " + request.getEndpoint() + " failed: "
+                    + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while sending " + request.getMethod() + " "
+                    + request.getEndpoint(), e);
+        }
+
+        long timeMillis = (System.nanoTime() - start) / 1_000_000;
+        responsesByVersion.get(httpResponse.version()).increment();
+        logger.debug("Streaming {} request to {} opened. Status code: {}, Time to headers: {}ms",
+                request.getMethod(), httpRequest.uri(), httpResponse.statusCode(), timeMillis);
+        // The request timeout ends with the headers; the read timeout also bounds every body read
+        long readTimeoutMillis = request.getReadTimeoutMillis() > 0 ? request.getReadTimeoutMillis()
+                : requestTimeout != null ? requestTimeout.toMillis() : 0;
+        InputStream rawBody = readTimeoutMillis > 0
+                ? new ReadTimeoutInputStream(httpResponse.body(), readTimeoutMillis)
+                : httpResponse.body();
+        InputStream body;
+        try {
+            // Decompress incrementally while the caller reads
+            body = HttpCompression.decode(rawBody,
+                    HttpCompression.contentEncoding(httpResponse.headers().map()));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open compressed response body: " + e.getMessage(), e);
+        }
+        return new StreamingResponse(httpResponse.statusCode(), httpResponse.headers().map(), body, timeMillis);
+    }
+
+    /**
+     * Build JDK HttpRequest from ApiRequest
+     * @param request ApiRequest
+     * @return HttpRequest
+     */
+    private HttpRequest buildRequest(ApiRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(buildUri(request))
+                .header("Accept", "application/json");
+        // The per-request timeout bounds time to headers, which includes sending the body,
+        // so streamed multipart uploads are left unbounded rather than cut off mid-upload
+        if (request.isMultipart()) {
+            logger.debug("No request timeout for multipart upload to {}", request.getEndpoint());
+        } else if (request.getReadTimeoutMillis() > 0) {
+            builder.timeout(Duration.ofMillis(request.getReadTimeoutMillis()));
+        } else if (requestTimeout != null) {
+            builder.timeout(requestTimeout);
+        }
+        if (request.isResponseCompression()) {
+            builder.header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
+        }
+
+        HttpRequest.BodyPublisher bodyPublisher;
+        if (request.isMultipart()) {
+            // Parts are streamed from disk / caller buffers while the request is written
+            builder.header("Content-Type", request.getMultipart().getContentType());
+            bodyPublisher = request.getMultipart().bodyPublisher();
+        } else {
+            builder.header("Content-Type", "application/json");
+            bodyPublisher = request.getBody() != null
+                    ? HttpRequest.BodyPublishers.ofByteArray(serializeBody(request.getBody()))
+                    : HttpRequest.BodyPublishers.noBody();
+        }
+
+        request.getHeaders().forEach(builder::setHeader);
+        return builder.method(request.getMethod(), bodyPublisher).build();
+    }
+
+    /**
+     * Build absolute URI with path and query parameters
+     * @param request ApiRequest
+     * @return URI
+     */
+    private static URI buildUri(ApiRequest request) {
+        StringBuilder uri = new StringBuilder();
+        if (request.getBaseUri() != null) {
+            uri.append(request.getBaseUri());
+        }
+        uri.append(request.resolvePath());
+
+        Map<String, Object> queryParams = request.getQueryParams();
+        if (queryParams != null && !queryParams.isEmpty()) {
+            uri.append(uri.indexOf("?") >= 0 ? "&" : "?");
+            uri.append(queryParams.entrySet().stream()
+                    .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                            + URLEncoder.encode(String.valueOf(entry.getValue()), StandardCharsets.UTF_8))
+                    .collect(Collectors.joining("&")));
+        }
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * Serialize request body to JSON bytes (strings are sent as-is)
+     * @param requestBody Request body
+     * @return JSON bytes
+     */
+    static byte[] serializeBody(Object requestBody) {
+        if (requestBody instanceof String) {
+            return ((String) requestBody).getBytes(StandardCharsets.UTF_8);
+        }
+        if (requestBody instanceof byte[]) {
+            return (byte[]) requestBody;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(requestBody);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize request body: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get number of responses received over a given protocol version
+     * @param version HTTP protocol version
+     * @return Response count
+     */
+    public long getResponseCount(HttpClient.Version version) {
+        return responsesByVersion.get(version).sum();
+    }
+
+    @Override
+    public String getName() {
+        return "jdk-" + httpClient.version().name().toLowerCase();
+    }
+
+    /**
+     * Shut the HttpClient down once its in-flight exchanges complete (JDK 21+, where HttpClient is
+     * AutoCloseable); older runtimes release its connections and threads when the client is collected
+     */
+    @Override
+    public void close() {
+        if (httpClient instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) httpClient).close();
+            } catch (Exception e) {
+                logger.warn("Failed to close {} client: {}", getName(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.apitest.client.transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds RestAssured Response objects from raw HTTP data
+ * Lets non-RestAssured transports return responses that support then(), as(), jsonPath() and getTime()
+ */
+public class RestAssuredResponses {
+
+    private RestAssuredResponses() {
+    }
+
+    /**
+     * Create a RestAssured Response
+     * @param statusCode HTTP status code
+     * @param headers Response headers
+     * @param body Response body bytes
+     * @param timeMillis Response time in milliseconds
+     * @return RestAssured Response
+     */
+    public static Response create(int statusCode, Map<String, List<String>> headers, byte[] body, long timeMillis) {
+        return create(statusLine(HttpClient.Version.HTTP_1_1, statusCode), statusCode, headers, body, timeMillis);
+    }
+
+    /**
+     * Create a RestAssured Response with an explicit status line
+     * @param statusLine Status line as received, e.g. "HTTP/2 200"
+     * @param statusCode HTTP status code
+     * @param headers Response headers
+     * @param body Response body bytes
+     * @param timeMillis Response time in milliseconds
+     * @return RestAssured Response
+     */
+    public static Response create(String statusLine, int statusCode, Map<String, List<String>> headers, byte[] body,
+                                  long timeMillis) {
+        List<Header> headerList = new ArrayList<>();
+        String contentType = null;
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            if (entry.getKey() == null) {
+                continue;
+            }
+            for (String value : entry.getValue()) {
+                headerList.add(new Header(entry.getKey(), value));
+            }
+            if (entry.getKey().equalsIgnoreCase("Content-Type") && !entry.getValue().isEmpty()) {
+                contentType = entry.getValue().get(0);
+            }
+        }
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(new Headers(headerList))
+                .setBody(body);
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+
+        Response response = builder.build();
+        setResponseTime(response, timeMillis);
+        return response;
+    }
+
+    /**
+     * Build the status line for a response received over a given protocol version
+     * (the JDK client does not expose the reason phrase)
+     * @param version HTTP protocol version
+     * @param statusCode HTTP status code
+     * @return Status line, e.g. "HTTP/2 200"
+     */
+    public static String statusLine(HttpClient.Version version, int statusCode) {
+        return (version == HttpClient.Version.HTTP_2 ? "HTTP/2 " : "HTTP/1.1 ") + statusCode;
+    }
+
+    /**
+     * Record response time so that Response.getTime() reports it
+     * @param response Response built by ResponseBuilder
+     * @param timeMillis Response time in milliseconds
+     */
+    private static void setResponseTime(Response response, long timeMillis) {
+        if (response instanceof RestAssuredResponseImpl) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put(TimingFilter.RESPONSE_TIME_MILLISECONDS, timeMillis);
+            ((RestAssuredResponseImpl) response).getGroovyResponse().setFilterContextProperties(properties);
+        }
+    }
+}
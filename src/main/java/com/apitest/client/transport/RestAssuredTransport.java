@@ -0,0 +1,222 @@
+package com.apitest.client.transport;
+
+import com.apitest.client.pool.ConnectionPoolManager;
+import com.apitest.client.timeout.DeadlineHttpClient;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import lombok.Builder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default transport backed by RestAssured
+ * Keeps the existing behaviour: Allure reporting, full request/response logging
+ * and the optional pooled keep-alive connection manager
+ */
+public class RestAssuredTransport implements HttpTransport {
+
+    private static final Logger logger = LogManager.getLogger(RestAssuredTransport.class);
+
+    private final boolean highThroughputMode;
+
+    // false when exchanges are captured in memory and only logged on failure
+    private final boolean logExchanges;
+
+    private final ConnectionPoolManager connectionPool;
+    private final List<Filter> filters;
+    private final boolean responseCompression;
+
+    // Immutable base specification, built once per configuration and merged into every request
+    private final RequestSpecification baseSpecTemplate;
+
+    // Base specifications for requests carrying their own connect / read timeouts or reporting disabled,
+    // keyed by those values
+    private final Map<String, RequestSpecification> requestSpecTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Create RestAssured transport (use RestAssuredTransport.builder())
+     * @param highThroughputMode true to drop the Allure filter and full request/response logging
+     * @param captureMode true to skip full request/response logging (exchanges are captured in memory instead)
+     * @param connectionPool Pooled connection manager, or null for RestAssured default connection handling
+     * @param connectTimeoutMillis TCP connect timeout (0 for the HttpClient default)
+     * @param readTimeoutMillis Socket read timeout (0 for no timeout)
+     * @param filters Extra filters applied to every request, or null for none
+     * @param compression Compression settings of the owning client context, or null for the defaults
+     */
+    @Builder
+    private RestAssuredTransport(boolean highThroughputMode, boolean captureMode, ConnectionPoolManager connectionPool,
+                                 int connectTimeoutMillis, int readTimeoutMillis, List<Filter> filters,
+                                 CompressionConfig compression) {
+        this.highThroughputMode = highThroughputMode;
+        this.logExchanges = !captureMode && !highThroughputMode;
+        this.connectionPool = connectionPool;
+        this.filters = filters != null ? filters : Collections.emptyList();
+        this.responseCompression = (compression != null ? compression : new CompressionConfig()).isResponseCompression();
+        this.baseSpecTemplate = buildBaseSpecTemplate(highThroughputMode, this.logExchanges, connectionPool,
+                connectTimeoutMillis, readTimeoutMillis, this.filters, responseCompression);
+    }
+
+    /**
+     * Build the shared base specification for the given configuration
+     * @param highThroughputMode true to drop the Allure filter
+     * @param logExchanges true to log every request in full
+     * @param connectionPool Pooled connection manager or null
+     * @param connectTimeoutMillis TCP connect timeout or 0
+     * @param readTimeoutMillis Socket read timeout or 0
+     * @param filters Extra filters
+     * @param responseCompression true to negotiate and decode gzip/deflate responses
+     * @return Prebuilt RequestSpecification template
+     */
+    private static RequestSpecification buildBaseSpecTemplate(boolean highThroughputMode, boolean logExchanges,
+                                                              ConnectionPoolManager connectionPool,
+                                                              int connectTimeoutMillis, int readTimeoutMillis,
+                                                              List<Filter> filters, boolean responseCompression) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON);
+
+        if (!highThroughputMode) {
+            builder.addFilter(new AllureRestAssured());
+        }
+        if (logExchanges) {
+            builder.log(LogDetail.ALL);
+        }
+        filters.forEach(builder::addFilter);
+
+        // Per-spec instead of the global RestAssured.enableLoggingOfRequestAndResponseIfValidationFails()
+        RestAssuredConfig config = RestAssuredConfig.config()
+                .logConfig(LogConfig.logConfig().enableLoggingOfRequestAndResponseIfValidationFails());
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig();
+        if (connectTimeoutMillis > 0) {
+            httpClientConfig = httpClientConfig.setParam("http.connection.timeout", connectTimeoutMillis);
+        }
+        if (readTimeoutMillis > 0) {
+            httpClientConfig = httpClientConfig.setParam("http.socket.timeout", readTimeoutMillis);
+        }
+        // DeadlineHttpClient lets the total request deadline abort the exchange
+        if (connectionPool != null) {
+            httpClientConfig = httpClientConfig
+                    .reuseHttpClientInstance()
+                    .httpClientFactory(() -> connectionPool.createHttpClient(connectTimeoutMillis, readTimeoutMillis));
+        } else {
+            httpClientConfig = httpClientConfig.httpClientFactory(DeadlineHttpClient::new);
+        }
+        config = config.httpClient(httpClientConfig);
+        // RestAssured sends Accept-Encoding: gzip,deflate and decodes responses by default
+        if (!responseCompression) {
+            config = config.decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+        }
+        builder.setConfig(config);
+
+        logger.debug("Built base request specification template (high-throughput mode: {}, logging: {}, pooled: {})",
+                highThroughputMode, logExchanges, connectionPool != null);
+        return builder.build();
+    }
+
+    /**
+     * Get base specification for the request's timeouts and reporting
+     * @param request ApiRequest
+     * @return Shared template, or a cached template with the request's connect / read timeouts
+     *         and without Allure and logging if the request is not reported
+     */
+    private RequestSpecification specTemplate(ApiRequest request) {
+        if (request.getConnectTimeoutMillis() <= 0 && request.getReadTimeoutMillis() <= 0 && request.isReporting()) {
+            return baseSpecTemplate;
+        }
+        int connectTimeoutMillis = (int) request.getConnectTimeoutMillis();
+        int readTimeoutMillis = (int) request.getReadTimeoutMillis();
+        boolean reporting = request.isReporting();
+        return requestSpecTemplates.computeIfAbsent(connectTimeoutMillis + "/" + readTimeoutMillis + "/" + reporting,
+                key -> buildBaseSpecTemplate(highThroughputMode || !reporting, logExchanges && reporting,
+                        connectionPool, connectTimeoutMillis, readTimeoutMillis, filters, responseCompression));
+    }
+
+    @Override
+    public Response execute(ApiRequest request) {
+        RequestSpecification spec = RestAssured.given().spec(specTemplate(request));
+
+        if (request.getBaseUri() != null) {
+            spec.baseUri(request.getBaseUri());
+        }
+        request.getHeaders().forEach(spec::header);
+        if (request.getPathParams() != null && !request.getPathParams().isEmpty()) {
+            spec.pathParams(request.getPathParams());
+        }
+        if (request.getQueryParams() != null && !request.getQueryParams().isEmpty()) {
+            spec.queryParams(request.getQueryParams());
+        }
+        if (request.isMultipart()) {
+            // Pre-encoded multipart stream instead of multiPart(File), which buffers the whole body
+            spec.contentType(request.getMultipart().getContentType())
+                    .body(request.getMultipart().openStream());
+        } else if (request.getBody() != null) {
+            Object body = request.getBody();
+            if (body instanceof byte[]) {
+                // Pre-serialized (e.g. gzipped) JSON goes through the raw byte[] overload, not the object mapper
+                spec.body((byte[]) body);
+            } else {
+                spec.body(body);
+            }
+        }
+
+        Response response = spec.when().request(request.getMethod(), request.getEndpoint());
+
+        if (logExchanges && request.isReporting()) {
+            response.then().log().all();
+        }
+        recordCompression(request, response);
+        return response;
+    }
+
+    /**
+     * Record wire vs decoded body size; RestAssured has already decoded the body, so the wire size
+     * is the raw entity size counted by DeadlineHttpClient, falling back to Content-Length
+     * @param request ApiRequest
+     * @param response Response
+     */
+    private static void recordCompression(ApiRequest request, Response response) {
+        String contentEncoding = response.getHeader("Content-Encoding");
+        boolean compressed = contentEncoding != null && !"identity".equalsIgnoreCase(contentEncoding);
+        long decodedBytes = response.asByteArray().length;
+        long wireBytes = HttpCompression.takeResponseWireBytes();
+        if (wireBytes < 0) {
+            String contentLength = response.getHeader("Content-Length");
+            wireBytes = contentLength != null ? parseContentLength(contentLength) : compressed ? -1 : decodedBytes;
+        }
+        HttpCompression.recordResponse(request, wireBytes, decodedBytes, compressed);
+    }
+
+    /**
+     * Parse a Content-Length header value
+     * @param contentLength Header value
+     * @return Length, or -1 if the value is malformed (stats must never fail a valid response)
+     */
+    private static long parseContentLength(String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring malformed Content-Length '{}' in compression stats", contentLength);
+            return -1;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "restassured";
+    }
+}
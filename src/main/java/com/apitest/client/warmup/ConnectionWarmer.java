@@ -0,0 +1,212 @@
+package com.apitest.client.warmup;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.HttpTransport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Warm-up stage run before the first test: resolves and caches DNS, primes the TLS session cache
+ * shared by the transports, opens pooled connections in parallel and wakes the backend with
+ * lightweight requests. Requests go straight to the transport, so hedging windows, circuit
+ * breakers and other per-endpoint metrics never see warm-up latencies.
+ */
+public class ConnectionWarmer {
+
+    private static final Logger logger = LogManager.getLogger(ConnectionWarmer.class);
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final WarmUpConfig config;
+
+    /**
+     * Create connection warmer
+     * @param config WarmUpConfig
+     */
+    public ConnectionWarmer(WarmUpConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Run the warm-up stage; failures are recorded in the report instead of being thrown
+     * @param baseUri Base URI to warm up
+     * @param transport Transport whose connections should be opened (should skip reporting filters)
+     * @param pooledConnections Supplies idle pooled connections afterwards, or -1 without a pool
+     * @return WarmUpReport
+     */
+    public WarmUpReport warmUp(String baseUri, HttpTransport transport, IntSupplier pooledConnections) {
+        long start = System.nanoTime();
+        List<String> errors = new ArrayList<>();
+        URI uri = URI.create(baseUri);
+        String host = uri.getHost();
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (https ? 443 : 80);
+
+        // DNS: the cache policy is read on the first lookup, so set the TTL before resolving
+        if (config.getDnsCacheTtlSeconds() >= 0 && Security.getProperty("networkaddress.cache.ttl") == null) {
+            Security.setProperty("networkaddress.cache.ttl", String.valueOf(config.getDnsCacheTtlSeconds()));
+        }
+        List<String> addresses = Collections.emptyList();
+        long dnsStart = System.nanoTime();
+        try {
+            addresses = Arrays.stream(InetAddress.getAllByName(host))
+                    .map(InetAddress::getHostAddress)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            errors.add("DNS lookup of " + host + " failed: " + e.getMessage());
+        }
+        long dnsMillis = elapsedMillis(dnsStart);
+        if (addresses.isEmpty()) {
+            return report(host, addresses, dnsMillis, null, -1, -1, false, Collections.emptyList(),
+                    Collections.emptyList(), pooledConnections, start, errors);
+        }
+
+        // TLS: a full handshake followed by one that should resume from the shared session cache
+        String tlsProtocol = null;
+        long tlsMillis = -1;
+        long resumedMillis = -1;
+        boolean resumed = false;
+        if (https) {
+            try {
+                long handshakeStart = System.nanoTime();
+                SSLSession first = handshake(host, port);
+                tlsMillis = elapsedMillis(handshakeStart);
+                handshakeStart = System.nanoTime();
+                SSLSession second = handshake(host, port);
+                resumedMillis = elapsedMillis(handshakeStart);
+                tlsProtocol = first.getProtocol();
+                resumed = Arrays.equals(first.getId(), second.getId())
+                        || first.getCreationTime() == second.getCreationTime();
+            } catch (Exception e) {
+                errors.add("TLS handshake with " + host + ":" + port + " failed: " + e.getMessage());
+            }
+        }
+
+        // Wake-up rounds: each round sends one request per connection in parallel
+        List<Long> cold = new ArrayList<>();
+        List<Long> warm = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, config.getConnections()), runnable -> {
+            Thread thread = new Thread(runnable, "api-warmup-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int round = 0; round < config.getRounds(); round++) {
+                List<Long> latencies = runRound(baseUri, transport, executor, errors);
+                if (latencies.isEmpty()) {
+                    // Backend unreachable; further rounds would only repeat the same errors
+                    break;
+                }
+                (round == 0 ? cold : warm).addAll(latencies);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return report(host, addresses, dnsMillis, tlsProtocol, tlsMillis, resumedMillis, resumed, cold, warm,
+                pooledConnections, start, errors);
+    }
+
+    /**
+     * Send one wake-up request per connection in parallel, cycling through the endpoints
+     * @return Latencies of the successful requests
+     */
+    private List<Long> runRound(String baseUri, HttpTransport transport, ExecutorService executor, List<String> errors) {
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < config.getConnections(); i++) {
+            String endpoint = config.getEndpoints().get(i % config.getEndpoints().size());
+            futures.add(executor.submit(() -> {
+                long requestStart = System.nanoTime();
+                transport.execute(new ApiRequest().setMethod("GET").setBaseUri(baseUri).setEndpoint(endpoint));
+                return elapsedMillis(requestStart);
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMillis());
+        for (Future<Long> future : futures) {
+            try {
+                latencies.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.add("Interrupted during warm-up");
+                break;
+            } catch (ExecutionException e) {
+                errors.add("Wake-up request failed: " + e.getCause().getMessage());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                errors.add("Wake-up request timed out after " + config.getTimeoutMillis() + "ms");
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Perform a TLS handshake with the default SSLContext (the one whose session cache the transports use)
+     * @return Negotiated session
+     */
+    private SSLSession handshake(String host, int port) throws Exception {
+        int timeout = (int) config.getTimeoutMillis();
+        // The plain socket is closed even if connecting or layering TLS fails
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), timeout);
+            socket.setSoTimeout(timeout);
+            // Resumption is keyed by host and port, so layer TLS with them like the transports do
+            try (SSLSocket tls = (SSLSocket) SSLContext.getDefault().getSocketFactory()
+                    .createSocket(socket, host, port, true)) {
+                tls.startHandshake();
+                // TLS 1.3 delivers the resumption ticket after the handshake; a tiny exchange lets the client read it
+                tls.getOutputStream().write(("HEAD / HTTP/1.1\r\nHost: " + host + "\r\nConnection: close\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+                tls.getOutputStream().flush();
+                InputStream in = tls.getInputStream();
+                byte[] buffer = new byte[1024];
+                while (in.read(buffer) >= 0) {
+                    // Drain the response headers until the server closes the connection
+                }
+                return tls.getSession();
+            }
+        }
+    }
+
+    private WarmUpReport report(String host, List<String> addresses, long dnsMillis, String tlsProtocol,
+                                long tlsMillis, long resumedMillis, boolean resumed, List<Long> cold,
+                                List<Long> warm, IntSupplier pooledConnections, long start, List<String> errors) {
+        WarmUpReport report = new WarmUpReport(host, addresses, dnsMillis, tlsProtocol, tlsMillis, resumedMillis,
+                resumed, cold, warm, pooledConnections.getAsInt(), elapsedMillis(start), errors);
+        if (report.isSuccessful()) {
+            logger.info("{}", report);
+        } else {
+            logger.warn("{}", report);
+        }
+        return report;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,50 @@
+package com.apitest.client.warmup;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the suite-start warm-up stage
+ * Defaults can be overridden with -Dapi.warmup.* system properties
+ */
+@Data
+@Accessors(chain = true)
+public class WarmUpConfig {
+
+    // Connections opened in parallel (keep at or below api.pool.maxPerRoute so they stay pooled)
+    private int connections = Integer.getInteger("api.warmup.connections", 4);
+
+    // Wake-up rounds; the first round pays for connects and cold starts, later rounds show warm latency
+    private int rounds = Integer.getInteger("api.warmup.rounds", 2);
+
+    // Positive DNS cache TTL applied before the first lookup (-1 keeps the JVM default)
+    private int dnsCacheTtlSeconds = Integer.getInteger("api.warmup.dnsCacheTtlSeconds", 300);
+
+    // Connect/read timeout for the TLS probe and overall limit for the wake-up requests
+    private long timeoutMillis = Long.getLong("api.warmup.timeoutMillis", 30000L);
+
+    // Lightweight endpoints used to wake the backend; any HTTP status counts as awake
+    private List<String> endpoints = new ArrayList<>(List.of("/meta/users"));
+
+    /**
+     * Create configuration from system properties (falls back to defaults)
+     * @return WarmUpConfig
+     */
+    public static WarmUpConfig fromSystemProperties() {
+        WarmUpConfig config = new WarmUpConfig();
+        String endpoints = System.getProperty("api.warmup.endpoints");
+        if (endpoints != null) {
+            config.getEndpoints().clear();
+            // Comma-separated endpoints, e.g. /meta/users,/events/recurring/rrule-examples
+            for (String endpoint : endpoints.split(",")) {
+                if (!endpoint.isBlank()) {
+                    config.getEndpoints().add(endpoint.trim());
+                }
+            }
+        }
+        return config;
+    }
+}
@@ -0,0 +1,61 @@
+package com.apitest.client.warmup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Timings of one warm-up run, kept apart from test latencies
+ */
+@Getter
+@AllArgsConstructor
+public class WarmUpReport {
+
+    private final String host;
+
+    // Resolved addresses and lookup time (now cached by the JVM)
+    private final List<String> addresses;
+    private final long dnsMillis;
+
+    // Full TLS handshake and a second handshake resuming the cached session (-1 for plain HTTP)
+    private final String tlsProtocol;
+    private final long tlsHandshakeMillis;
+    private final long tlsResumedHandshakeMillis;
+    private final boolean tlsSessionResumed;
+
+    // Wake-up request latencies of the first round (connect + cold start) and of later rounds
+    private final List<Long> coldRequestMillis;
+    private final List<Long> warmRequestMillis;
+
+    // Connections idle in the pool after warm-up (-1 when pooling is disabled)
+    private final int pooledConnections;
+
+    private final long totalMillis;
+
+    // Problems encountered; warm-up never fails the run
+    private final List<String> errors;
+
+    /**
+     * Check whether every warm-up step succeeded
+     * @return true if no errors were recorded
+     */
+    public boolean isSuccessful() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Warm-up of %s in %dms%n"
+                        + "   DNS:         %dms -> %s%n"
+                        + "   TLS:         %s full handshake %dms, resumed handshake %dms (session resumed: %s)%n"
+                        + "   Cold round:  %s ms%n"
+                        + "   Warm rounds: %s ms%n"
+                        + "   Pooled connections: %s%s",
+                host, totalMillis, dnsMillis, addresses,
+                tlsProtocol != null ? tlsProtocol : "n/a", tlsHandshakeMillis, tlsResumedHandshakeMillis, tlsSessionResumed,
+                coldRequestMillis, warmRequestMillis,
+                pooledConnections >= 0 ? String.valueOf(pooledConnections) : "n/a (pool disabled)",
+                errors.isEmpty() ? "" : String.format("%n   Errors: %s", errors));
+    }
+}
@@ -1,5 +1,7 @@
 package com.apitest.models.response.auth;
 
+import com.apitest.utils.JwtUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -31,9 +33,22 @@ public class VerifyResponse {
     @JsonProperty("expiry_seconds")
     private int expirySeconds;
 
+    /**
+     * Check the access token's exp claim (decoded locally, no network call)
+     * @return true if the token carries an exp claim that has passed
+     */
     public boolean isExpired() {
-        // For simplicity, we'll consider token valid for the duration specified in expirySeconds
-        return false; // This should be implemented based on actual token expiration logic
+        long expiresAtMillis = getExpiresAtMillis();
+        return expiresAtMillis > 0 && System.currentTimeMillis() >= expiresAtMillis;
+    }
+
+    /**
+     * Get expiry from the access token's exp claim
+     * @return Expiry as epoch milliseconds, or -1 if the access token is not a JWT with exp
+     */
+    @JsonIgnore
+    public long getExpiresAtMillis() {
+        return JwtUtils.getExpiresAtMillis(accessToken);
     }
 
     public boolean isTokenValid() {
@@ -3,11 +3,19 @@ package com.apitest.service;
 import com.apitest.client.AuthApiClient;
 import com.apitest.models.response.auth.VerifyResponse;
 import com.apitest.models.response.auth.AuthResponse;
+import com.apitest.utils.JwtUtils;
 import com.apitest.utils.ResponseValidator;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Service class for handling 2-step authorization operations
  * Refactored to use AuthApiClient for better separation of concerns
@@ -16,6 +24,14 @@ public class AuthorizationService {
     
     private static final Logger logger = LogManager.getLogger(AuthorizationService.class);
 
+    // Used when the access token carries no exp claim
+    private static final int DEFAULT_EXPIRY_SECONDS = 3600;
+
+    // Logins in flight by normalized email and code; concurrent logins for the same key share one flow
+    private static final Map<String, CompletableFuture<VerifyResponse>> loginsInFlight = new ConcurrentHashMap<>();
+
+    private static final LongAdder coalescedLogins = new LongAdder();
+
     /**
      * Step 1: Initiate authorization by sending email
      * @param email User's email address
@@ -82,7 +98,7 @@ public class AuthorizationService {
                 authResponse.getAccessToken(),
                 authResponse.getRefreshToken(),
                 authResponse.getUserInfo(),
-                3600 // 1 hour default expiration
+                expirySeconds(authResponse.getAccessToken())
             );
             
             logger.info("Authorization verification successful for email: {}", email);
@@ -96,12 +112,85 @@ public class AuthorizationService {
 
     /**
      * Complete 2-step authorization flow
-     * Automatically stores the token in TokenManager
+     * Automatically stores the token in TokenManager and its identity pool;
+     * a repeat login with the same email and code reuses the pooled token without network calls,
+     * and concurrent logins with the same email and code wait for a single flow and share its token
      * @param email User's email address
      * @param code Verification code
      * @return Authorization token (also stored in TokenManager)
      */
     public static VerifyResponse completeAuthorization(String email, String code) {
+        TokenManager tokenManager = TokenManager.getInstance();
+        VerifyResponse pooledToken = tokenManager.getPooledToken(email, code);
+        if (pooledToken != null) {
+            tokenManager.setToken(pooledToken);
+            logger.info("Reusing pooled token for email: {}", email);
+            return pooledToken;
+        }
+
+        String key = email.trim().toLowerCase(Locale.ROOT) + " " + code;
+        CompletableFuture<VerifyResponse> leader = new CompletableFuture<>();
+        CompletableFuture<VerifyResponse> existing = loginsInFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalescedLogins.increment();
+            logger.info("Waiting for in-flight authorization flow for email: {}", email);
+            VerifyResponse sharedToken = await(existing);
+            tokenManager.setToken(sharedToken);
+            return sharedToken;
+        }
+
+        try {
+            // A flow that finished just before this one started has already pooled its token
+            VerifyResponse verifyResponse = tokenManager.getPooledToken(email, code);
+            if (verifyResponse != null) {
+                tokenManager.setToken(verifyResponse);
+            } else {
+                verifyResponse = runAuthorizationFlow(email, code);
+            }
+            leader.complete(verifyResponse);
+            return verifyResponse;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            loginsInFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * Get number of logins that were served by a concurrent identical login instead of their own flow
+     * @return Saved login count
+     */
+    public static long getCoalescedLogins() {
+        return coalescedLogins.sum();
+    }
+
+    /**
+     * Wait for an in-flight login and rethrow its failure
+     */
+    private static VerifyResponse await(CompletableFuture<VerifyResponse> login) {
+        try {
+            return login.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for in-flight authorization flow", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Complete authorization flow failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Run the 2-step flow and store the token in TokenManager and its identity pool
+     */
+    private static VerifyResponse runAuthorizationFlow(String email, String code) {
+        TokenManager tokenManager = TokenManager.getInstance();
         logger.info("Starting complete authorization flow for email: {}", email);
         
         try {
@@ -113,11 +202,12 @@ public class AuthorizationService {
                 authResponse.getAccessToken(),
                 authResponse.getRefreshToken(),
                 authResponse.getUserInfo(),
-                3600 // 1 hour default expiration
+                expirySeconds(authResponse.getAccessToken())
             );
             
             // Store token in TokenManager automatically
-            TokenManager.getInstance().setToken(verifyResponse);
+            tokenManager.setToken(verifyResponse);
+            tokenManager.putToken(email, code, verifyResponse);
             
             logger.info("Complete authorization flow successful for email: {} - Token stored", email);
             return verifyResponse;
@@ -166,7 +256,7 @@ public class AuthorizationService {
                 authResponse.getAccessToken(),
                 authResponse.getRefreshToken(),
                 authResponse.getUserInfo(),
-                3600 // 1 hour default expiration
+                expirySeconds(authResponse.getAccessToken())
             );
             
             logger.info("Token refresh successful");
@@ -215,6 +305,11 @@ public class AuthorizationService {
                 verifyResponse.invalidate();
             }
             return false;
+        } finally {
+            // Logged-out tokens must not be reused from the pool or the token cache
+            if (verifyResponse != null) {
+                TokenManager.getInstance().discardToken(verifyResponse);
+            }
         }
     }
 
@@ -240,6 +335,19 @@ public class AuthorizationService {
         return isValid;
     }
 
+    /**
+     * Get token lifetime from the access token's exp claim
+     * @param accessToken Access token (JWT)
+     * @return Seconds until expiry, or the 1 hour default if the token has no exp claim
+     */
+    private static int expirySeconds(String accessToken) {
+        long expiresAtMillis = JwtUtils.getExpiresAtMillis(accessToken);
+        if (expiresAtMillis <= 0) {
+            return DEFAULT_EXPIRY_SECONDS;
+        }
+        return (int) Math.max(0, (expiresAtMillis - System.currentTimeMillis()) / 1000);
+    }
+
     /**
      * Get auth response time limit from AuthApiClient
      * @return Response time limit in milliseconds
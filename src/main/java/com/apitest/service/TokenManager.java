@@ -4,18 +4,47 @@ import com.apitest.models.response.auth.VerifyResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
 /**
- * Singleton service for managing a single authorization token
- * Simple and clean - stores only one token at a time
- * When you call authorizeUserWithCredentials, it replaces the current token
+ * Singleton service for managing authorization tokens
+ * Holds the current token used for requests, plus a concurrent pool of authenticated tokens keyed by
+ * identity (user email), so tests can switch between users without repeating the 2-step auth.
+ * When you call authorizeUserWithCredentials, the current token is replaced; the previous identity
+ * stays in the pool and a repeat login for it is a lookup.
+ * Tokens with a JWT exp claim are refreshed in the background shortly before they expire.
+ * Tokens are held as immutable snapshots (token, precomputed header, expiry) that are swapped as a whole,
+ * so the per-request header lookup is lock-free and allocation-free.
+ * With -Dapi.auth.tokenCache=true pooled tokens are also kept in an encrypted file, so later runs skip the login.
  */
 public class TokenManager {
-    
+
     private static final Logger logger = LogManager.getLogger(TokenManager.class);
     private static volatile TokenManager instance;
-    
-    // Single token storage
-    private VerifyResponse currentToken;
+
+    // Identity selected for requests on the current thread (overrides the current token)
+    private static final ThreadLocal<String> THREAD_IDENTITY = new ThreadLocal<>();
+
+    // Set -Dapi.auth.tokenPool=false to always run the full login flow
+    private final boolean poolEnabled = !"false".equalsIgnoreCase(System.getProperty("api.auth.tokenPool"));
+
+    // Token used for requests without a thread identity (null when no token is set)
+    private final AtomicReference<TokenSnapshot> current = new AtomicReference<>();
+
+    // Authenticated tokens by normalized identity
+    private final Map<String, TokenSnapshot> tokenPool = new ConcurrentHashMap<>();
+
+    private final TokenRefresher refresher = new TokenRefresher(this);
+
+    // Encrypted on-disk copy of the pool (opt-in)
+    private final TokenStore store = new TokenStore();
 
     private TokenManager() {
         logger.debug("TokenManager initialized");
@@ -42,7 +71,8 @@ public class TokenManager {
      */
     public void setToken(VerifyResponse verifyResponse) {
         logger.info("Setting new token");
-        this.currentToken = verifyResponse;
+        current.set(verifyResponse != null ? new TokenSnapshot(verifyResponse, null) : null);
+        refresher.schedule(verifyResponse);
     }
 
     /**
@@ -50,44 +80,47 @@ public class TokenManager {
      * @return Current authorization token or null if not set
      */
     public VerifyResponse getToken() {
-        if (currentToken != null) {
+        TokenSnapshot snapshot = current.get();
+        if (snapshot != null) {
             logger.debug("Retrieved current token");
-        } else {
-            logger.warn("No token currently set");
+            return snapshot.token;
         }
-        return currentToken;
+        logger.warn("No token currently set");
+        return null;
     }
 
     /**
-     * Get the authorization header value for the current token
+     * Get the authorization header value for the thread's identity, or for the current token
+     * Called for every request: reads the precomputed header of the current snapshot without locking
      * @return Authorization header value (e.g., "Bearer eyJhbGc...") or null if no token
      */
     public String getAuthorizationHeader() {
-        if (currentToken != null && currentToken.getAccessToken() != null) {
-            return "Bearer " + currentToken.getAccessToken();
+        String identity = THREAD_IDENTITY.get();
+        if (identity != null) {
+            return getAuthorizationHeader(identity);
         }
-        logger.warn("No valid token available for authorization header");
-        return null;
+        TokenSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot.header() : null;
     }
 
     /**
-     * Check if a valid token is currently set
+     * Check if a valid, unexpired token is currently set
      * @return true if valid token exists
      */
     public boolean hasValidToken() {
-        return currentToken != null && 
-               currentToken.getAccessToken() != null && 
-               !currentToken.getAccessToken().isEmpty();
+        TokenSnapshot snapshot = current.get();
+        return snapshot != null && snapshot.isValid();
     }
 
     /**
      * Clear the current token
+     * Pooled tokens stay valid in the pool; other tokens are invalidated
      */
     public void clearToken() {
         logger.info("Clearing current token");
-        if (currentToken != null) {
-            currentToken.invalidate();
-            currentToken = null;
+        TokenSnapshot snapshot = current.getAndSet(null);
+        if (snapshot != null && !isPooled(snapshot.token)) {
+            snapshot.token.invalidate();
         }
     }
 
@@ -96,7 +129,8 @@ public class TokenManager {
      * @return User info object or null if no token
      */
     public Object getUserInfo() {
-        return currentToken != null ? currentToken.getUserInfo() : null;
+        TokenSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot.token.getUserInfo() : null;
     }
 
     /**
@@ -104,7 +138,8 @@ public class TokenManager {
      * @return Refresh token or null if no token
      */
     public String getRefreshToken() {
-        return currentToken != null ? currentToken.getRefreshToken() : null;
+        TokenSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot.token.getRefreshToken() : null;
     }
 
     /**
@@ -112,8 +147,304 @@ public class TokenManager {
      * @return true if refresh token exists
      */
     public boolean hasRefreshToken() {
-        return currentToken != null && 
-               currentToken.getRefreshToken() != null && 
-               !currentToken.getRefreshToken().isEmpty();
+        String refreshToken = getRefreshToken();
+        return refreshToken != null && !refreshToken.isEmpty();
+    }
+
+    // ==================== TOKEN POOL ====================
+
+    /**
+     * Add an authenticated token to the pool (replaces the identity's previous token)
+     * @param identity User email
+     * @param code Verification code the token was obtained with
+     * @param verifyResponse Authorization token
+     */
+    public void putToken(String identity, String code, VerifyResponse verifyResponse) {
+        if (!poolEnabled || verifyResponse == null || !verifyResponse.isTokenValid()) {
+            return;
+        }
+        logger.info("Pooling token for identity: {}", identity);
+        tokenPool.put(key(identity), new TokenSnapshot(verifyResponse, code));
+        if (store.isEnabled()) {
+            store.save(key(identity), code, verifyResponse);
+        }
+        refresher.schedule(verifyResponse);
+    }
+
+    /**
+     * Get a pooled token for a login, so a repeat login is a lookup instead of the 2-step flow
+     * Falls back to the on-disk token cache (when enabled) if the identity is not pooled yet
+     * @param identity User email
+     * @param code Verification code of the login
+     * @return Valid pooled token obtained with the same code, or null
+     */
+    public VerifyResponse getPooledToken(String identity, String code) {
+        TokenSnapshot pooled = validEntry(identity);
+        if (pooled != null) {
+            return Objects.equals(pooled.code, code) ? pooled.token : null;
+        }
+        if (!poolEnabled || !store.isEnabled()) {
+            return null;
+        }
+        VerifyResponse persisted = store.load(key(identity), code);
+        if (persisted == null) {
+            return null;
+        }
+        tokenPool.put(key(identity), new TokenSnapshot(persisted, code));
+        refresher.schedule(persisted);
+        return persisted;
+    }
+
+    /**
+     * Get the pooled token of an identity
+     * @param identity User email
+     * @return Valid pooled token or null
+     */
+    public VerifyResponse getToken(String identity) {
+        TokenSnapshot pooled = validEntry(identity);
+        return pooled != null ? pooled.token : null;
+    }
+
+    /**
+     * Get the authorization header value for a pooled identity
+     * @param identity User email
+     * @return Authorization header value or null if the identity has no valid token
+     */
+    public String getAuthorizationHeader(String identity) {
+        TokenSnapshot pooled = validEntry(identity);
+        if (pooled != null) {
+            return pooled.header();
+        }
+        // Expected for identities not logged in yet (e.g. before callAs); this runs on every request
+        logger.debug("No valid pooled token for identity: {}", identity);
+        return null;
+    }
+
+    /**
+     * Check if an identity has a valid pooled token
+     * @param identity User email
+     * @return true if a valid token is pooled
+     */
+    public boolean hasValidToken(String identity) {
+        return getToken(identity) != null;
+    }
+
+    /**
+     * Make a pooled identity's token the current token
+     * @param identity User email
+     * @return true if the identity had a valid pooled token
+     */
+    public boolean switchTo(String identity) {
+        TokenSnapshot pooled = validEntry(identity);
+        if (pooled == null) {
+            return false;
+        }
+        logger.info("Switching current token to identity: {}", identity);
+        current.set(pooled);
+        return true;
+    }
+
+    /**
+     * Run an action with requests on the current thread authorized as a pooled identity
+     * @param identity User email
+     * @param action Action (e.g. domain client calls)
+     * @param <T> Result type
+     * @return Action result
+     */
+    public <T> T callAs(String identity, Supplier<T> action) {
+        String previous = THREAD_IDENTITY.get();
+        THREAD_IDENTITY.set(identity);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                THREAD_IDENTITY.set(previous);
+            } else {
+                THREAD_IDENTITY.remove();
+            }
+        }
+    }
+
+    /**
+     * Run an action with requests on the current thread authorized as a pooled identity
+     * @param identity User email
+     * @param action Action (e.g. domain client calls)
+     */
+    public void runAs(String identity, Runnable action) {
+        callAs(identity, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Swap a refreshed token in for the token it replaces, in the pool and as current token
+     * @param previous Token that was refreshed
+     * @param refreshed New token
+     * @return true if the previous token was still in use and has been replaced
+     */
+    boolean replaceToken(VerifyResponse previous, VerifyResponse refreshed) {
+        boolean replaced = false;
+        for (Map.Entry<String, TokenSnapshot> entry : tokenPool.entrySet()) {
+            TokenSnapshot pooled = entry.getValue();
+            if (pooled.token == previous
+                    && tokenPool.replace(entry.getKey(), pooled, new TokenSnapshot(refreshed, pooled.code))) {
+                if (store.isEnabled()) {
+                    store.save(entry.getKey(), pooled.code, refreshed);
+                }
+                replaced = true;
+            }
+        }
+        TokenSnapshot snapshot = current.get();
+        while (snapshot != null && snapshot.token == previous) {
+            if (current.compareAndSet(snapshot, new TokenSnapshot(refreshed, snapshot.code))) {
+                replaced = true;
+                break;
+            }
+            snapshot = current.get();
+        }
+        return replaced;
+    }
+
+    /**
+     * Drop a token that is no longer accepted (e.g. after logout) from the pool, the token cache
+     * and as current token
+     * @param token Token
+     */
+    void discardToken(VerifyResponse token) {
+        tokenPool.forEach((key, pooled) -> {
+            if (pooled.token == token && tokenPool.remove(key, pooled) && store.isEnabled()) {
+                store.remove(key);
+            }
+        });
+        current.updateAndGet(snapshot -> snapshot != null && snapshot.token == token ? null : snapshot);
+    }
+
+    /**
+     * Check whether a token is the current token or pooled
+     * @param token Token
+     * @return true if requests can still use the token
+     */
+    boolean isInUse(VerifyResponse token) {
+        TokenSnapshot snapshot = current.get();
+        return token.isTokenValid() && ((snapshot != null && snapshot.token == token) || isPooled(token));
+    }
+
+    /**
+     * Get background refresh counters (refreshes, failures, latency)
+     * @return TokenRefreshStats snapshot
+     */
+    public TokenRefreshStats getRefreshStats() {
+        return refresher.getStats();
+    }
+
+    /**
+     * Get the identity selected for the current thread by callAs / runAs
+     * @return User email or null if requests use the current token
+     */
+    public String getThreadIdentity() {
+        return THREAD_IDENTITY.get();
+    }
+
+    /**
+     * Remove an identity from the pool
+     * @param identity User email
+     */
+    public void removeToken(String identity) {
+        logger.info("Removing pooled token for identity: {}", identity);
+        tokenPool.remove(key(identity));
+        if (store.isEnabled()) {
+            store.remove(key(identity));
+        }
+    }
+
+    /**
+     * Remove all pooled tokens (including the on-disk token cache) and the current token
+     */
+    public void clearAll() {
+        logger.info("Clearing current and {} pooled tokens", tokenPool.size());
+        tokenPool.clear();
+        if (store.isEnabled()) {
+            store.clear();
+        }
+        clearToken();
+    }
+
+    /**
+     * Get identities with a pooled token
+     * @return Unmodifiable set of normalized identities
+     */
+    public Set<String> getIdentities() {
+        return Collections.unmodifiableSet(tokenPool.keySet());
+    }
+
+    /**
+     * Check whether repeat logins are served from the pool
+     * @return true unless -Dapi.auth.tokenPool=false
+     */
+    public boolean isPoolEnabled() {
+        return poolEnabled;
+    }
+
+    /**
+     * Get a pool entry whose token is still valid, dropping invalidated or expired entries
+     */
+    private TokenSnapshot validEntry(String identity) {
+        String key = key(identity);
+        TokenSnapshot pooled = tokenPool.get(key);
+        if (pooled == null) {
+            return null;
+        }
+        if (!pooled.isValid()) {
+            logger.info("Pooled token for identity {} is no longer valid", identity);
+            tokenPool.remove(key, pooled);
+            return null;
+        }
+        return pooled;
+    }
+
+    private boolean isPooled(VerifyResponse token) {
+        return tokenPool.values().stream().anyMatch(pooled -> pooled.token == token);
+    }
+
+    private static String key(String identity) {
+        return identity.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable token snapshot: token, the code it was obtained with, precomputed header and expiry
+     */
+    private static final class TokenSnapshot {
+        private final VerifyResponse token;
+        private final String code;
+        private final String authorizationHeader;
+        private final long expiresAtMillis;
+
+        private TokenSnapshot(VerifyResponse token, String code) {
+            this.token = token;
+            this.code = code;
+            this.authorizationHeader = token.getAuthorizationHeader();
+            // JWT exp claim when present, otherwise the lifetime reported with the token (if any)
+            long jwtExpiresAtMillis = token.getExpiresAtMillis();
+            if (jwtExpiresAtMillis > 0) {
+                this.expiresAtMillis = jwtExpiresAtMillis;
+            } else if (token.getExpirySeconds() > 0) {
+                this.expiresAtMillis = System.currentTimeMillis() + token.getExpirySeconds() * 1000L;
+            } else {
+                this.expiresAtMillis = Long.MAX_VALUE;
+            }
+        }
+
+        /**
+         * Precomputed header, or null once the token has been invalidated (e.g. by logout)
+         */
+        private String header() {
+            return token.getAccessToken() != null ? authorizationHeader : null;
+        }
+
+        private boolean isValid() {
+            return authorizationHeader != null && token.getAccessToken() != null
+                    && System.currentTimeMillis() < expiresAtMillis;
+        }
     }
 }
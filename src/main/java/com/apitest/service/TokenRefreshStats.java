@@ -0,0 +1,35 @@
+package com.apitest.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot of background token refresh counters
+ */
+@Getter
+@AllArgsConstructor
+public class TokenRefreshStats {
+
+    // Tokens with a refresh scheduled
+    private final int scheduled;
+
+    // Successful refreshes swapped in
+    private final long refreshes;
+
+    // Failed refresh attempts (each is retried until the token expires)
+    private final long failures;
+
+    private final double averageLatencyMillis;
+
+    private final long maxLatencyMillis;
+
+    // Message of the last failed refresh, or null
+    private final String lastFailure;
+
+    @Override
+    public String toString() {
+        return String.format("scheduled %d, refreshes %d, failures %d, latency avg %.0fms / max %dms%s",
+                scheduled, refreshes, failures, averageLatencyMillis, maxLatencyMillis,
+                lastFailure != null ? ", last failure: " + lastFailure : "");
+    }
+}
@@ -0,0 +1,130 @@
+package com.apitest.service;
+
+import com.apitest.models.response.auth.VerifyResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Refreshes tokens in the background shortly before their JWT exp claim
+ * Runs AuthorizationService.refreshToken on a scheduler thread and lets TokenManager swap the new token in,
+ * so requests never wait for a refresh. Failed refreshes are retried until the token expires.
+ */
+class TokenRefresher {
+
+    private static final Logger logger = LogManager.getLogger(TokenRefresher.class);
+
+    // Set -Dapi.auth.refresh.enabled=false to turn background refresh off
+    private final boolean enabled = !"false".equalsIgnoreCase(System.getProperty("api.auth.refresh.enabled"));
+
+    // Refresh this long before expiry (at most half of the token's remaining lifetime)
+    private final long leadMillis = Long.getLong("api.auth.refreshLeadSeconds", 60L) * 1000;
+
+    // Delay before retrying a failed refresh
+    private final long retryMillis = Long.getLong("api.auth.refreshRetrySeconds", 10L) * 1000;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "api-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final TokenManager tokenManager;
+
+    // Tokens with a pending refresh; identity-based because VerifyResponse equals compares fields
+    private final Set<VerifyResponse> scheduled = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalLatencyMillis = new LongAdder();
+    private final LongAccumulator maxLatencyMillis = new LongAccumulator(Math::max, 0);
+    private volatile String lastFailure;
+
+    TokenRefresher(TokenManager tokenManager) {
+        this.tokenManager = tokenManager;
+    }
+
+    /**
+     * Schedule a refresh before the token's exp claim (no-op for tokens without exp or refresh token)
+     * @param token Token in use by TokenManager
+     */
+    void schedule(VerifyResponse token) {
+        if (!enabled || token == null || token.getRefreshToken() == null || token.getRefreshToken().isEmpty()) {
+            return;
+        }
+        long expiresAtMillis = token.getExpiresAtMillis();
+        if (expiresAtMillis <= 0 || !scheduled.add(token)) {
+            return;
+        }
+        long lifetimeMillis = Math.max(0, expiresAtMillis - System.currentTimeMillis());
+        long delayMillis = lifetimeMillis - Math.min(leadMillis, lifetimeMillis / 2);
+        logger.debug("Scheduling token refresh in {}ms (expires at {})", delayMillis, Instant.ofEpochMilli(expiresAtMillis));
+        scheduler.schedule(() -> refresh(token), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Refresh a token and swap it in wherever TokenManager still uses it
+     * @param token Token about to expire
+     */
+    private void refresh(VerifyResponse token) {
+        if (!tokenManager.isInUse(token)) {
+            // Cleared, logged out or replaced by a new login meanwhile
+            scheduled.remove(token);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            VerifyResponse refreshed = AuthorizationService.refreshToken(token.getRefreshToken());
+            if (refreshed.getRefreshToken() == null || refreshed.getRefreshToken().isEmpty()) {
+                refreshed.setRefreshToken(token.getRefreshToken());
+            }
+            if (refreshed.getUserInfo() == null) {
+                refreshed.setUserInfo(token.getUserInfo());
+            }
+            long latencyMillis = (System.nanoTime() - start) / 1_000_000;
+            refreshes.increment();
+            totalLatencyMillis.add(latencyMillis);
+            maxLatencyMillis.accumulate(latencyMillis);
+            scheduled.remove(token);
+
+            if (tokenManager.replaceToken(token, refreshed)) {
+                logger.info("Refreshed token in {}ms - new expiry {}", latencyMillis,
+                        Instant.ofEpochMilli(refreshed.getExpiresAtMillis()));
+                schedule(refreshed);
+            }
+        } catch (Exception | AssertionError e) {
+            // AssertionError comes from ResponseValidator checks in refreshToken
+            failures.increment();
+            lastFailure = e.getMessage();
+            long remainingMillis = token.getExpiresAtMillis() - System.currentTimeMillis();
+            if (remainingMillis > 0) {
+                long delayMillis = Math.min(retryMillis, remainingMillis);
+                logger.warn("Token refresh failed after {}ms, retrying in {}ms: {}",
+                        (System.nanoTime() - start) / 1_000_000, delayMillis, e.getMessage());
+                scheduler.schedule(() -> refresh(token), delayMillis, TimeUnit.MILLISECONDS);
+            } else {
+                scheduled.remove(token);
+                logger.error("Token refresh failed and the token has expired: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get refresh counters
+     * @return TokenRefreshStats snapshot
+     */
+    TokenRefreshStats getStats() {
+        long count = refreshes.sum();
+        return new TokenRefreshStats(scheduled.size(), count, failures.sum(),
+                count > 0 ? (double) totalLatencyMillis.sum() / count : 0, maxLatencyMillis.get(), lastFailure);
+    }
+}
@@ -0,0 +1,236 @@
+package com.apitest.service;
+
+import com.apitest.client.ClientContext;
+import com.apitest.models.response.auth.VerifyResponse;
+import com.apitest.utils.JsonUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encrypted file-backed token cache, so repeated local runs skip the 2-step auth at JVM startup
+ * Entries are keyed by base URI and identity, loaded lazily on the first lookup and checked for expiry locally.
+ * The file is encrypted with AES-GCM using -Dapi.auth.tokenCache.key (or API_TOKEN_CACHE_KEY),
+ * or a random key generated next to the file when no passphrase is set.
+ */
+class TokenStore {
+
+    private static final Logger logger = LogManager.getLogger(TokenStore.class);
+
+    private static final int SALT_BYTES = 16;
+    private static final int IV_BYTES = 12;
+    private static final int KEY_ITERATIONS = 10_000;
+
+    // Set -Dapi.auth.tokenCache=true to persist pooled tokens between runs
+    private final boolean enabled = Boolean.getBoolean("api.auth.tokenCache");
+
+    private final Path file = Paths.get(System.getProperty("api.auth.tokenCache.file",
+            Paths.get(System.getProperty("user.home"), ".api-test", "token-cache").toString()));
+
+    // Tokens expiring sooner than this are treated as stale and trigger a live login
+    private final long minRemainingMillis = Long.getLong("api.auth.tokenCache.minRemainingSeconds", 60L) * 1000;
+
+    private final SecureRandom random = new SecureRandom();
+
+    // Entries by "baseUri identity"; null until first use, guarded by this
+    private Map<String, Entry> entries;
+
+    /**
+     * Check whether the on-disk cache is on
+     * @return true if -Dapi.auth.tokenCache=true
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Load a persisted token for the current base URI
+     * @param identity Normalized identity
+     * @param code Verification code of the login
+     * @return Token obtained with the same code that is not about to expire, or null
+     */
+    synchronized VerifyResponse load(String identity, String code) {
+        Entry entry = entries().get(entryKey(identity));
+        if (entry == null || !Objects.equals(entry.code, code)) {
+            return null;
+        }
+        long remainingMillis = entry.expiresAtMillis - System.currentTimeMillis();
+        if (remainingMillis < minRemainingMillis) {
+            logger.info("Persisted token for identity {} is stale", identity);
+            return null;
+        }
+        logger.info("Loaded persisted token for identity: {}", identity);
+        return new VerifyResponse(entry.accessToken, entry.refreshToken, entry.userInfo, (int) (remainingMillis / 1000));
+    }
+
+    /**
+     * Persist a token for the current base URI (tokens without a known expiry are not persisted)
+     * @param identity Normalized identity
+     * @param code Verification code the token was obtained with
+     * @param token Authorization token
+     */
+    synchronized void save(String identity, String code, VerifyResponse token) {
+        long expiresAtMillis = token.getExpiresAtMillis();
+        if (expiresAtMillis <= 0 && token.getExpirySeconds() > 0) {
+            expiresAtMillis = System.currentTimeMillis() + token.getExpirySeconds() * 1000L;
+        }
+        if (expiresAtMillis <= 0) {
+            return;
+        }
+        entries().put(entryKey(identity), new Entry(code, token.getAccessToken(), token.getRefreshToken(),
+                token.getUserInfo(), expiresAtMillis));
+        write();
+    }
+
+    /**
+     * Remove the persisted token of an identity for the current base URI
+     * @param identity Normalized identity
+     */
+    synchronized void remove(String identity) {
+        if (entries().remove(entryKey(identity)) != null) {
+            write();
+        }
+    }
+
+    /**
+     * Remove all persisted tokens
+     */
+    synchronized void clear() {
+        entries = new HashMap<>();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete token cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String entryKey(String identity) {
+        return ClientContext.current().getBaseUri() + " " + identity;
+    }
+
+    /**
+     * Read and decrypt the cache file on first use; an unreadable file is ignored and overwritten later
+     */
+    private Map<String, Entry> entries() {
+        if (entries != null) {
+            return entries;
+        }
+        entries = new HashMap<>();
+        if (!Files.exists(file)) {
+            return entries;
+        }
+        try {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+            byte[] salt = new byte[SALT_BYTES];
+            byte[] iv = new byte[IV_BYTES];
+            data.get(salt).get(iv);
+            byte[] encrypted = new byte[data.remaining()];
+            data.get(encrypted);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key(salt), new GCMParameterSpec(128, iv));
+            entries = JsonUtils.getObjectMapper().readValue(cipher.doFinal(encrypted),
+                    new TypeReference<HashMap<String, Entry>>() {});
+            logger.info("Loaded {} persisted tokens from {}", entries.size(), file);
+        } catch (Exception e) {
+            logger.warn("Ignoring unreadable token cache {}: {}", file, e.getMessage());
+        }
+        return entries;
+    }
+
+    /**
+     * Encrypt and write all entries (via a temp file, so readers never see a partial file)
+     */
+    private void write() {
+        try {
+            byte[] salt = new byte[SALT_BYTES];
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(salt);
+            random.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key(salt), new GCMParameterSpec(128, iv));
+            byte[] encrypted = cipher.doFinal(JsonUtils.getObjectMapper().writeValueAsBytes(entries));
+
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "token-cache", ".tmp");
+            restrictToOwner(temp);
+            Files.write(temp, ByteBuffer.allocate(salt.length + iv.length + encrypted.length)
+                    .put(salt).put(iv).put(encrypted).array());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            logger.warn("Could not write token cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Derive the AES key from the passphrase, or from a generated key file
+     */
+    private SecretKeySpec key(byte[] salt) throws Exception {
+        String secret = System.getProperty("api.auth.tokenCache.key", System.getenv("API_TOKEN_CACHE_KEY"));
+        if (secret == null || secret.isEmpty()) {
+            secret = generatedSecret();
+        }
+        PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(), salt, KEY_ITERATIONS, 256);
+        byte[] key = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+        return new SecretKeySpec(key, "AES");
+    }
+
+    private String generatedSecret() throws IOException {
+        Path keyFile = Paths.get(file + ".key");
+        if (Files.exists(keyFile)) {
+            return Files.readString(keyFile).trim();
+        }
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        Files.createDirectories(keyFile.toAbsolutePath().getParent());
+        Files.createFile(keyFile);
+        restrictToOwner(keyFile);
+        Files.writeString(keyFile, Base64.getEncoder().encodeToString(secret));
+        logger.info("Generated token cache key {}", keyFile);
+        return Files.readString(keyFile).trim();
+    }
+
+    private static void restrictToOwner(Path path) throws IOException {
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // Non-POSIX file system
+        }
+    }
+
+    /**
+     * Persisted token with the code it was obtained with and its expiry
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private String code;
+        private String accessToken;
+        private String refreshToken;
+        private Object userInfo;
+        private long expiresAtMillis;
+    }
+}
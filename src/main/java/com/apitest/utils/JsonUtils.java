@@ -1,6 +1,7 @@
 package com.apitest.utils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.apache.logging.log4j.LogManager;
@@ -9,7 +10,12 @@ import org.apache.logging.log4j.Logger;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for JSON operations
@@ -135,6 +141,43 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Iterate over the elements of a top-level JSON array without loading the whole array into memory
+     * @param inputStream JSON input stream (closed when the iterator is closed)
+     * @param clazz Element class
+     * @param <T> Generic type
+     * @return MappingIterator yielding one element at a time
+     */
+    public static <T> MappingIterator<T> iterateArray(InputStream inputStream, Class<T> clazz) {
+        try {
+            logger.debug("Streaming JSON array of: {}", clazz.getSimpleName());
+            return objectMapper.readerFor(clazz).readValues(inputStream);
+        } catch (IOException e) {
+            logger.error("Error opening JSON array stream of {}: {}", clazz.getSimpleName(), e.getMessage());
+            throw new RuntimeException("Failed to open JSON array stream", e);
+        }
+    }
+
+    /**
+     * Stream the elements of a top-level JSON array one at a time
+     * Closing the returned Stream closes the underlying input stream
+     * @param inputStream JSON input stream
+     * @param clazz Element class
+     * @param <T> Generic type
+     * @return Lazily deserialized elements
+     */
+    public static <T> Stream<T> streamArray(InputStream inputStream, Class<T> clazz) {
+        MappingIterator<T> iterator = iterateArray(inputStream, clazz);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
     /**
      * Serialize POJO object to JSON string
      * @param object Object to serialize
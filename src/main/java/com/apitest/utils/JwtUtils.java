@@ -0,0 +1,48 @@
+package com.apitest.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Base64;
+
+/**
+ * Utility class for reading JWT claims locally (the signature is not verified)
+ */
+public class JwtUtils {
+
+    private static final Logger logger = LogManager.getLogger(JwtUtils.class);
+
+    /**
+     * Decode the payload (claims) of a JWT
+     * @param token Compact JWT (header.payload.signature)
+     * @return Claims as JsonNode, or null if the token is not a decodable JWT
+     */
+    public static JsonNode decodeClaims(String token) {
+        if (token == null) {
+            return null;
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            return JsonUtils.getObjectMapper().readTree(payload);
+        } catch (Exception e) {
+            logger.debug("Token is not a decodable JWT: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get the exp claim of a JWT
+     * @param token Compact JWT
+     * @return Expiry as epoch milliseconds, or -1 if the token has no readable exp claim
+     */
+    public static long getExpiresAtMillis(String token) {
+        JsonNode claims = decodeClaims(token);
+        JsonNode exp = claims != null ? claims.get("exp") : null;
+        return exp != null && exp.canConvertToLong() ? exp.asLong() * 1000 : -1;
+    }
+}
@@ -1,5 +1,6 @@
 package com.apitest.utils;
 
+import com.apitest.client.capture.ExchangeCapture;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -22,30 +23,30 @@ public class ResponseValidator {
         int actualStatusCode = response.getStatusCode();
         logger.info("Validating status code. Expected: {}, Actual: {}", expectedStatusCode, actualStatusCode);
         if (actualStatusCode != expectedStatusCode) {
-            throw new AssertionError("Status code mismatch. Expected: " + expectedStatusCode + ", Actual: " + actualStatusCode);
+            throw fail("Status code mismatch. Expected: " + expectedStatusCode + ", Actual: " + actualStatusCode);
         }
         String actualContentType = response.getContentType();
         logger.info("Validating content type. Expected: {}, Actual: {}", expectedContentType, actualContentType);
         if (!actualContentType.contains(expectedContentType)) {
-            throw new AssertionError("Content type mismatch. Expected: " + expectedContentType + ", Actual: " + actualContentType);
+            throw fail("Content type mismatch. Expected: " + expectedContentType + ", Actual: " + actualContentType);
         }
         long actualResponseTime = response.getTime();
         logger.info("Validating response time. Expected max: {}ms, Actual: {}ms", maxResponseTime, actualResponseTime);
         if (actualResponseTime > maxResponseTime) {
-            throw new AssertionError("Response time exceeds maximum. Expected max: " + maxResponseTime + "ms, Actual: " + actualResponseTime + "ms");
+            throw fail("Response time exceeds maximum. Expected max: " + maxResponseTime + "ms, Actual: " + actualResponseTime + "ms");
         }
         String responseBody = response.getBody().asString();
         logger.info("Validating response body is not empty");
         if(!isBodyEmpty){
             if (responseBody == null) {
-                throw new AssertionError("Response body should not be null");
+                throw fail("Response body should not be null");
             }
             if (responseBody.isEmpty()) {
-                throw new AssertionError("Response body should not be empty");
+                throw fail("Response body should not be empty");
             }
         } else {
             if (!responseBody.isEmpty()) {
-                throw new AssertionError("Response body should be empty");
+                throw fail("Response body should be empty");
             }
         }
     }
@@ -59,7 +60,7 @@ public class ResponseValidator {
         int actualStatusCode = response.getStatusCode();
         logger.info("Validating status code. Expected: {}, Actual: {}", expectedStatusCode, actualStatusCode);
         if (actualStatusCode != expectedStatusCode) {
-            throw new AssertionError("Status code mismatch. Expected: " + expectedStatusCode + ", Actual: " + actualStatusCode);
+            throw fail("Status code mismatch. Expected: " + expectedStatusCode + ", Actual: " + actualStatusCode);
         }
     }
 
@@ -72,7 +73,7 @@ public class ResponseValidator {
         String actualContentType = response.getContentType();
         logger.info("Validating content type. Expected: {}, Actual: {}", expectedContentType, actualContentType);
         if (!actualContentType.contains(expectedContentType)) {
-            throw new AssertionError("Content type mismatch. Expected: " + expectedContentType + ", Actual: " + actualContentType);
+            throw fail("Content type mismatch. Expected: " + expectedContentType + ", Actual: " + actualContentType);
         }
     }
 
@@ -86,7 +87,7 @@ public class ResponseValidator {
         String actualValue = response.getHeader(headerName);
         logger.info("Validating header {}. Expected: {}, Actual: {}", headerName, expectedValue, actualValue);
         if (!expectedValue.equals(actualValue)) {
-            throw new AssertionError("Header " + headerName + " mismatch. Expected: " + expectedValue + ", Actual: " + actualValue);
+            throw fail("Header " + headerName + " mismatch. Expected: " + expectedValue + ", Actual: " + actualValue);
         }
     }
 
@@ -98,10 +99,10 @@ public class ResponseValidator {
         String responseBody = response.getBody().asString();
         logger.info("Validating response body is not empty");
         if (responseBody == null) {
-            throw new AssertionError("Response body should not be null");
+            throw fail("Response body should not be null");
         }
         if (responseBody.isEmpty()) {
-            throw new AssertionError("Response body should not be empty");
+            throw fail("Response body should not be empty");
         }
     }
 
@@ -114,7 +115,7 @@ public class ResponseValidator {
         long actualResponseTime = response.getTime();
         logger.info("Validating response time. Expected max: {}ms, Actual: {}ms", maxResponseTime, actualResponseTime);
         if (actualResponseTime > maxResponseTime) {
-            throw new AssertionError("Response time exceeds maximum. Expected max: " + maxResponseTime + "ms, Actual: " + actualResponseTime + "ms");
+            throw fail("Response time exceeds maximum. Expected max: " + maxResponseTime + "ms, Actual: " + actualResponseTime + "ms");
         }
     }
 
@@ -128,7 +129,7 @@ public class ResponseValidator {
         Object actualValue = response.jsonPath().get(jsonPath);
         logger.info("Validating JSON path {}. Expected: {}, Actual: {}", jsonPath, expectedValue, actualValue);
         if (!expectedValue.equals(actualValue)) {
-            throw new AssertionError("JSON path " + jsonPath + " mismatch. Expected: " + expectedValue + ", Actual: " + actualValue);
+            throw fail("JSON path " + jsonPath + " mismatch. Expected: " + expectedValue + ", Actual: " + actualValue);
         }
     }
 
@@ -141,7 +142,7 @@ public class ResponseValidator {
         Object value = response.jsonPath().get(jsonPath);
         logger.info("Validating JSON path exists: {}", jsonPath);
         if (value == null) {
-            throw new AssertionError("JSON path " + jsonPath + " should exist");
+            throw fail("JSON path " + jsonPath + " should exist");
         }
     }
 
@@ -154,7 +155,7 @@ public class ResponseValidator {
         Object value = response.jsonPath().get(jsonPath);
         logger.info("Validating JSON path is not null: {}", jsonPath);
         if (value == null) {
-            throw new AssertionError("JSON path " + jsonPath + " should not be null");
+            throw fail("JSON path " + jsonPath + " should not be null");
         }
     }
 
@@ -167,10 +168,10 @@ public class ResponseValidator {
         Object value = response.jsonPath().get(jsonPath);
         logger.info("Validating JSON path is not empty: {}", jsonPath);
         if (value == null) {
-            throw new AssertionError("JSON path " + jsonPath + " should not be null");
+            throw fail("JSON path " + jsonPath + " should not be null");
         }
         if (value instanceof String && ((String) value).isEmpty()) {
-            throw new AssertionError("JSON path " + jsonPath + " should not be empty");
+            throw fail("JSON path " + jsonPath + " should not be empty");
         }
     }
 
@@ -183,7 +184,7 @@ public class ResponseValidator {
         String responseBody = response.getBody().asString();
         logger.info("Validating response contains text: {}", expectedText);
         if (!responseBody.contains(expectedText)) {
-            throw new AssertionError("Response should contain text: " + expectedText);
+            throw fail("Response should contain text: " + expectedText);
         }
     }
 
@@ -197,7 +198,17 @@ public class ResponseValidator {
         int actualSize = response.jsonPath().getList(jsonPath).size();
         logger.info("Validating array size for path {}. Expected: {}, Actual: {}", jsonPath, expectedSize, actualSize);
         if (actualSize != expectedSize) {
-            throw new AssertionError("Array size mismatch for path " + jsonPath + ". Expected: " + expectedSize + ", Actual: " + actualSize);
+            throw fail("Array size mismatch for path " + jsonPath + ". Expected: " + expectedSize + ", Actual: " + actualSize);
         }
     }
+
+    /**
+     * Build assertion error and flush any captured exchanges for the failing thread
+     * @param message Failure message
+     * @return AssertionError to throw
+     */
+    private static AssertionError fail(String message) {
+        ExchangeCapture.flush("Validation failed: " + message);
+        return new AssertionError(message);
+    }
 }
@@ -0,0 +1,159 @@
+package com.apitest.client.cache;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for conditional GET revalidation and invalidation (no API calls)
+ */
+@Epic("Client Performance")
+@Feature("Response Cache")
+public class ResponseCacheTest {
+
+    private static final String BODY = "{\"id\":1,\"name\":\"Hotel\"}";
+
+    @Test(description = "304 is served from the cache with validators sent")
+    @Description("A repeat GET sends If-None-Match / If-Modified-Since and a 304 is replaced by the cached " +
+            "200 body, without the wire Content-Encoding / Content-Length of the original response")
+    public void notModifiedIsServedFromCache() {
+        ResponseCache cache = new ResponseCache(new ResponseCacheConfig());
+        cache.execute(get("/hotels/1"), r -> validated(200, BODY));
+
+        AtomicReference<ApiRequest> sent = new AtomicReference<>();
+        Response response = cache.execute(get("/hotels/1"), r -> {
+            sent.set(r);
+            return response(304, Collections.emptyMap(), "");
+        });
+
+        Assert.assertEquals(sent.get().getHeaders().get("If-None-Match"), "\"v1\"");
+        Assert.assertEquals(sent.get().getHeaders().get("If-Modified-Since"), "Wed, 21 Oct 2026 07:28:00 GMT");
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(response.asString(), BODY);
+        Assert.assertNull(response.getHeader("Content-Encoding"), "Decoded body must not claim gzip");
+        Assert.assertNull(response.getHeader("Content-Length"), "Wire length must not be replayed");
+        Assert.assertEquals(response.getHeader("ETag"), "\"v1\"");
+
+        ResponseCacheStats stats = cache.getStats();
+        Assert.assertEquals(stats.getMisses(), 1);
+        Assert.assertEquals(stats.getRevalidations(), 1);
+        Assert.assertEquals(stats.getHits(), 1);
+    }
+
+    @Test(description = "Changed resource replaces the cached entry")
+    @Description("A 200 on revalidation counts as stale and the new body is cached for the next 304")
+    public void modifiedResponseReplacesEntry() {
+        ResponseCache cache = new ResponseCache(new ResponseCacheConfig());
+        cache.execute(get("/hotels/1"), r -> validated(200, BODY));
+        cache.execute(get("/hotels/1"), r -> validated(200, "{\"id\":1,\"name\":\"Renamed\"}"));
+
+        Response response = cache.execute(get("/hotels/1"), r -> response(304, Collections.emptyMap(), ""));
+
+        Assert.assertEquals(response.asString(), "{\"id\":1,\"name\":\"Renamed\"}");
+        Assert.assertEquals(cache.getStats().getStaleEntries(), 1);
+    }
+
+    @Test(description = "Oversized response drops the cached entry")
+    @Description("A 200 too large to cache replaces an older cached body, so a later 304 is not answered with it")
+    public void oversizedResponseRemovesEntry() {
+        ResponseCache cache = new ResponseCache(new ResponseCacheConfig().setMaxBodyBytes(BODY.length()));
+        cache.execute(get("/hotels/1"), r -> validated(200, BODY));
+        cache.execute(get("/hotels/1"), r -> validated(200, BODY + "  "));
+
+        AtomicReference<ApiRequest> sent = new AtomicReference<>();
+        cache.execute(get("/hotels/1"), r -> {
+            sent.set(r);
+            return validated(200, BODY);
+        });
+
+        Assert.assertNull(sent.get().getHeaders().get("If-None-Match"), "Stale entry must not be revalidated");
+        Assert.assertEquals(cache.getStats().getMisses(), 2);
+    }
+
+    @Test(description = "Query parameter order does not split entries")
+    @Description("The same query in another order revalidates the cached entry; the key uses an encoded query string")
+    public void queryOrderSharesEntry() {
+        ResponseCache cache = new ResponseCache(new ResponseCacheConfig());
+        ApiRequest first = get("/hotels");
+        first.getQueryParams().put("name", "Grand Hotel");
+        first.getQueryParams().put("limit", 10);
+        Assert.assertEquals(first.resolvePathAndQuery(), "/hotels?limit=10&name=Grand+Hotel");
+        cache.execute(first, r -> validated(200, "[]"));
+
+        ApiRequest second = get("/hotels");
+        second.getQueryParams().put("limit", 10);
+        second.getQueryParams().put("name", "Grand Hotel");
+        AtomicReference<ApiRequest> sent = new AtomicReference<>();
+        cache.execute(second, r -> {
+            sent.set(r);
+            return response(304, Collections.emptyMap(), "");
+        });
+
+        Assert.assertEquals(sent.get().getHeaders().get("If-None-Match"), "\"v1\"");
+        Assert.assertEquals(cache.getStats().getHits(), 1);
+    }
+
+    @Test(description = "Writes invalidate the resource and its collections")
+    @Description("A PUT to /hotels/1 drops /hotels/1 and /hotels but keeps /hotels/2")
+    public void writeInvalidatesRelatedEntries() {
+        ResponseCache cache = new ResponseCache(new ResponseCacheConfig());
+        cache.execute(get("/hotels/1"), r -> validated(200, BODY));
+        cache.execute(get("/hotels/2"), r -> validated(200, BODY));
+        cache.execute(get("/hotels"), r -> validated(200, "[]"));
+
+        cache.execute(new ApiRequest().setMethod("PUT").setBaseUri("http://localhost").setEndpoint("/hotels/1"),
+                r -> response(200, Collections.emptyMap(), BODY));
+
+        Assert.assertEquals(cache.getStats().getInvalidations(), 2);
+        Assert.assertEquals(cache.getStats().getSize(), 1);
+    }
+
+    @Test(description = "Identities never share cached bodies")
+    @Description("The same path requested with another Authorization header is a miss and sends no validators")
+    public void entriesAreKeyedByIdentity() {
+        ResponseCache cache = new ResponseCache(new ResponseCacheConfig());
+        cache.execute(get("/users/me").header("Authorization", "Bearer a"), r -> validated(200, BODY));
+
+        AtomicReference<ApiRequest> sent = new AtomicReference<>();
+        cache.execute(get("/users/me").header("Authorization", "Bearer b"), r -> {
+            sent.set(r);
+            return validated(200, BODY);
+        });
+
+        Assert.assertNull(sent.get().getHeaders().get("If-None-Match"));
+        Assert.assertEquals(cache.getStats().getMisses(), 2);
+    }
+
+    private static ApiRequest get(String endpoint) {
+        return new ApiRequest().setMethod("GET").setBaseUri("http://localhost").setEndpoint(endpoint);
+    }
+
+    /**
+     * Build a decoded 200 response with validators and the wire headers of a gzipped original
+     */
+    private static Response validated(int statusCode, String body) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", Collections.singletonList("application/json"));
+        headers.put("Content-Encoding", Collections.singletonList("gzip"));
+        headers.put("Content-Length", Collections.singletonList("17"));
+        headers.put("ETag", Collections.singletonList("\"v1\""));
+        headers.put("Last-Modified", Collections.singletonList("Wed, 21 Oct 2026 07:28:00 GMT"));
+        return response(statusCode, headers, body);
+    }
+
+    private static Response response(int statusCode, Map<String, List<String>> headers, String body) {
+        return RestAssuredResponses.create(statusCode, headers, body.getBytes(StandardCharsets.UTF_8), 1);
+    }
+}
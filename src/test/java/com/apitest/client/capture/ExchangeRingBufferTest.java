@@ -0,0 +1,49 @@
+package com.apitest.client.capture;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.http.Headers;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Unit tests for the failure-only exchange ring buffer (no API calls)
+ */
+@Epic("Client Performance")
+@Feature("Exchange Capture")
+public class ExchangeRingBufferTest {
+
+    @Test(description = "Failed exchange is captured with its error")
+    @Description("A request that failed without a response is formatted with the request and the exception")
+    public void failedExchangeShowsError() {
+        ExchangeRingBuffer buffer = new ExchangeRingBuffer(new ExchangeCaptureConfig().setExchangesPerThread(2));
+        buffer.nextSlot().setFailed("GET", "http://localhost/hotels/1",
+                Collections.singletonMap("Authorization", "Bearer secret"), null,
+                "RequestTimeoutException: GET /hotels/1 timed out (TOTAL)");
+
+        String formatted = buffer.format();
+        Assert.assertTrue(formatted.contains("Request: GET http://localhost/hotels/1"), formatted);
+        Assert.assertTrue(formatted.contains("No response: RequestTimeoutException: GET /hotels/1 timed out (TOTAL)"),
+                formatted);
+        Assert.assertFalse(formatted.contains("secret"), "Authorization header should be masked");
+        Assert.assertFalse(formatted.contains("Response: "), "Failed exchange has no response to print");
+    }
+
+    @Test(description = "Reused slot drops the previous failure")
+    @Description("When the ring wraps, a completed exchange overwriting a failed one prints its response")
+    public void reusedSlotClearsFailure() {
+        ExchangeRingBuffer buffer = new ExchangeRingBuffer(new ExchangeCaptureConfig().setExchangesPerThread(1));
+        buffer.nextSlot().setFailed("GET", "http://localhost/hotels/1", Collections.emptyMap(), null,
+                "RuntimeException: Connection reset");
+        buffer.nextSlot().set("GET", "http://localhost/hotels/1", Collections.emptyMap(), null, 200, 12,
+                new Headers(), "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+        String formatted = buffer.format();
+        Assert.assertTrue(formatted.contains("Response: 200 (12ms)"), formatted);
+        Assert.assertFalse(formatted.contains("Connection reset"), formatted);
+    }
+}
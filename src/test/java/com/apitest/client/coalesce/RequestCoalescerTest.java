@@ -0,0 +1,140 @@
+package com.apitest.client.coalesce;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.ConnectException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for single-flight coalescing of identical GETs (no API calls)
+ */
+@Epic("Client Resilience")
+@Feature("Request Coalescing")
+public class RequestCoalescerTest {
+
+    private static final String ENDPOINT = "/hotels/{hotelId}";
+
+    @Test(description = "Follower shares the leader's response")
+    @Description("Two identical concurrent GETs send one request and both receive the body")
+    public void followerSharesLeaderResponse() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(new CoalescingConfig());
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<Response> leader = CompletableFuture.supplyAsync(() -> coalescer.execute(request(), r -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return RestAssuredResponses.create(200, Collections.emptyMap(), "{\"id\":1}".getBytes(), 5);
+        }));
+        Assert.assertTrue(leaderStarted.await(5, TimeUnit.SECONDS), "Leader should start");
+
+        CompletableFuture<Response> follower = CompletableFuture.supplyAsync(() -> coalescer.execute(request(), r -> {
+            calls.incrementAndGet();
+            throw new AssertionError("Follower must not send its own request");
+        }));
+        awaitCoalesced(coalescer);
+        release.countDown();
+
+        Assert.assertEquals(leader.get(5, TimeUnit.SECONDS).asString(), "{\"id\":1}");
+        Assert.assertEquals(follower.get(5, TimeUnit.SECONDS).asString(), "{\"id\":1}");
+        Assert.assertEquals(calls.get(), 1, "Only the leader should reach the network");
+        Assert.assertEquals(coalescer.getInFlightCount(), 0);
+    }
+
+    @Test(description = "Checked exception from the leader fails followers at once")
+    @Description("RestAssured rethrows IOExceptions undeclared; a follower must get the leader's " +
+            "ConnectException immediately instead of waiting for maxWaitMillis")
+    public void leaderCheckedExceptionFailsFollowersImmediately() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(new CoalescingConfig().setMaxWaitMillis(60000));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Response> leader = CompletableFuture.supplyAsync(() -> coalescer.execute(request(), r -> {
+            leaderStarted.countDown();
+            await(release);
+            return sneakyThrow(new ConnectException("Connection refused"));
+        }));
+        Assert.assertTrue(leaderStarted.await(5, TimeUnit.SECONDS), "Leader should start");
+
+        CompletableFuture<Response> follower = CompletableFuture.supplyAsync(() -> coalescer.execute(request(), r -> {
+            throw new AssertionError("Follower must not send its own request");
+        }));
+        awaitCoalesced(coalescer);
+        release.countDown();
+
+        assertFailsWith(leader, ConnectException.class);
+        assertFailsWith(follower, ConnectException.class);
+        Assert.assertEquals(coalescer.getInFlightCount(), 0);
+    }
+
+    private static ApiRequest request() {
+        return new ApiRequest()
+                .setMethod("GET")
+                .setBaseUri("http://localhost")
+                .setEndpoint(ENDPOINT)
+                .setEndpointTemplate(ENDPOINT)
+                .setPathParams(Collections.singletonMap("hotelId", 1));
+    }
+
+    /**
+     * Wait until the follower has joined the in-flight request
+     * @param coalescer RequestCoalescer
+     */
+    private static void awaitCoalesced(RequestCoalescer coalescer) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            CoalescingStats stats = coalescer.getStats().get(ENDPOINT);
+            if (stats != null && stats.getCoalesced() == 1) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        Assert.fail("Follower did not join the in-flight request");
+    }
+
+    /**
+     * Assert that the call fails within a few seconds and that the cause chain contains the type
+     * @param future Call result
+     * @param type Expected exception type
+     */
+    private static void assertFailsWith(CompletableFuture<Response> future, Class<? extends Throwable> type)
+            throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("Call should fail with " + type.getSimpleName());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause != null && !type.isInstance(cause)) {
+                cause = cause.getCause();
+            }
+            Assert.assertNotNull(cause, "Expected " + type.getSimpleName() + " but got " + e.getCause());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable, R> R sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+}
@@ -0,0 +1,202 @@
+package com.apitest.client.multipart;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Unit tests for demand-driven multipart streaming (no API calls)
+ */
+@Epic("Client Performance")
+@Feature("Multipart Streaming")
+public class MultipartPublisherTest {
+
+    private static final int FILE_BYTES = 3000;
+
+    private static final int BUFFER_BYTES = 1024;
+
+    private Path file;
+
+    private byte[] fileContent;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        fileContent = new byte[FILE_BYTES];
+        for (int i = 0; i < fileContent.length; i++) {
+            fileContent[i] = (byte) ('a' + i % 26);
+        }
+        file = Files.createTempFile("multipart-publisher", ".bin");
+        Files.write(file, fileContent);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(description = "Publisher emits no more chunks than requested")
+    @Description("Each request(1) yields exactly one chunk; file parts are read in bufferBytes chunks")
+    public void emitsOnlyRequestedChunks() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher().subscribe(subscriber);
+
+        Assert.assertTrue(subscriber.chunks.isEmpty(), "Nothing should be emitted before request()");
+        subscriber.subscription.request(1);
+        Assert.assertEquals(subscriber.chunks.size(), 1);
+        Assert.assertEquals(text(subscriber.chunks.get(0)), "head");
+
+        subscriber.subscription.request(2);
+        Assert.assertEquals(subscriber.chunks.size(), 3);
+        Assert.assertEquals(subscriber.chunks.get(1).remaining(), BUFFER_BYTES, "File should be read one chunk at a time");
+        Assert.assertFalse(subscriber.completed, "Body should not complete while segments remain");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assert.assertTrue(subscriber.completed);
+        Assert.assertNull(subscriber.error);
+        Assert.assertEquals(subscriber.body(), expectedBody());
+    }
+
+    @Test(description = "Reentrant request() from onNext keeps order and completes once")
+    @Description("A subscriber requesting the next chunk from onNext is trampolined instead of recursing")
+    public void reentrantRequestIsTrampolined() {
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(ByteBuffer item) {
+                super.onNext(item);
+                subscription.request(1);
+            }
+        };
+        publisher().subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Assert.assertTrue(subscriber.completed);
+        Assert.assertEquals(subscriber.completions, 1, "onComplete should be signalled once");
+        Assert.assertEquals(subscriber.body(), expectedBody());
+    }
+
+    @Test(description = "Cancelled subscription emits nothing further")
+    @Description("After cancel() outstanding and later demand is ignored and neither onComplete nor onError is sent")
+    public void cancelStopsEmission() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher().subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        Assert.assertEquals(subscriber.chunks.size(), 2, "Header and first file chunk should be emitted");
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        Assert.assertEquals(subscriber.chunks.size(), 2, "No chunks should follow cancel()");
+        Assert.assertFalse(subscriber.completed);
+        Assert.assertNull(subscriber.error);
+    }
+
+    @Test(description = "Non-positive demand fails the subscription")
+    @Description("request(0) is a protocol violation: the subscriber gets IllegalArgumentException and no more chunks")
+    public void nonPositiveRequestSignalsError() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher().subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        subscriber.subscription.request(1);
+
+        Assert.assertTrue(subscriber.error instanceof IllegalArgumentException, "Got " + subscriber.error);
+        Assert.assertTrue(subscriber.chunks.isEmpty());
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test(description = "Every subscription re-reads the body")
+    @Description("A retried send subscribes again and must get the full body, including the file part")
+    public void resubscribeReplaysBody() {
+        MultipartPublisher publisher = publisher();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            publisher.subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            Assert.assertEquals(subscriber.body(), expectedBody(), "Attempt " + attempt);
+        }
+    }
+
+    private MultipartPublisher publisher() {
+        List<Object> segments = Arrays.asList(ascii("head"), file, ascii("tail"));
+        return new MultipartPublisher(segments, BUFFER_BYTES);
+    }
+
+    private byte[] expectedBody() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("head".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(fileContent);
+        out.writeBytes("tail".getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+
+    private static ByteBuffer ascii(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+    }
+
+    private static String text(ByteBuffer buffer) {
+        return StandardCharsets.US_ASCII.decode(buffer.duplicate()).toString();
+    }
+
+    /**
+     * Subscriber recording every signal; demand is driven by the test
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        final List<ByteBuffer> chunks = new ArrayList<>();
+
+        Flow.Subscription subscription;
+
+        boolean completed;
+
+        int completions;
+
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            chunks.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            completions++;
+        }
+
+        byte[] body() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (ByteBuffer chunk : chunks) {
+                ByteBuffer copy = chunk.duplicate();
+                byte[] bytes = new byte[copy.remaining()];
+                copy.get(bytes);
+                out.writeBytes(bytes);
+            }
+            return out.toByteArray();
+        }
+    }
+}
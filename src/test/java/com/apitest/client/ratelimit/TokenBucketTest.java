@@ -0,0 +1,120 @@
+package com.apitest.client.ratelimit;
+
+import com.apitest.client.EndpointTemplates;
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for token bucket reservations and the per-group rate limiter (no API calls)
+ */
+@Epic("Client Performance")
+@Feature("Rate Limiting")
+public class TokenBucketTest {
+
+    private static final long PERMIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    // Tolerance for time passing between reservations
+    private static final long SLACK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test(description = "Full bucket serves the burst without waiting")
+    @Description("A new bucket holds burst tokens; the first burst reservations return a zero wait")
+    public void burstIsServedImmediately() {
+        TokenBucket bucket = new TokenBucket(new RateLimit(10, 3));
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(bucket.reserve(0), 0L, "Reservation " + i + " should not wait");
+        }
+        Assert.assertEquals(bucket.reserve(0), -1L, "Empty bucket should reject a caller that cannot wait");
+    }
+
+    @Test(description = "Reservations past the burst get consecutive slots")
+    @Description("Callers are queued first come, first served: the n-th caller past the burst waits n permit intervals")
+    public void reservationsAreSpacedAtTheConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(new RateLimit(10, 1));
+        long maxWait = TimeUnit.SECONDS.toNanos(10);
+
+        Assert.assertEquals(bucket.reserve(maxWait), 0L);
+        for (int slot = 1; slot <= 3; slot++) {
+            assertWait(bucket.reserve(maxWait), slot * PERMIT_NANOS);
+        }
+    }
+
+    @Test(description = "Rejected reservation does not take a slot")
+    @Description("A caller rejected for exceeding maxWait leaves the queue unchanged for the next caller")
+    public void rejectedReservationKeepsQueue() {
+        TokenBucket bucket = new TokenBucket(new RateLimit(10, 1));
+        long maxWait = TimeUnit.SECONDS.toNanos(10);
+
+        Assert.assertEquals(bucket.reserve(maxWait), 0L);
+        Assert.assertEquals(bucket.reserve(PERMIT_NANOS / 2), -1L, "Wait of one interval exceeds maxWait");
+        assertWait(bucket.reserve(maxWait), PERMIT_NANOS);
+    }
+
+    @Test(description = "Idle bucket refills up to its burst")
+    @Description("Tokens accumulate at permitsPerSecond while idle but never beyond the burst")
+    public void idleBucketRefillsToBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(new RateLimit(50, 2));
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        Thread.sleep(200);
+
+        Assert.assertEquals(bucket.reserve(0), 0L);
+        Assert.assertEquals(bucket.reserve(0), 0L);
+        Assert.assertEquals(bucket.reserve(0), -1L, "Refill should be capped at the burst");
+    }
+
+    @Test(description = "Rate limiter rejects instead of waiting past maxWaitMillis")
+    @Description("The request is not sent, RateLimitExceededException names the group and the rejection is counted")
+    public void limiterRejectsLongWaits() {
+        // Built first so RestAssured class loading does not give the bucket time to refill
+        Response ok = RestAssuredResponses.create(200, Collections.emptyMap(), new byte[0], 1);
+        RateLimiter limiter = new RateLimiter(new RateLimitConfig()
+                .setGroupLimit(EndpointTemplates.HOTELS, 0.1, 1)
+                .setMaxWaitMillis(50));
+        AtomicInteger sent = new AtomicInteger();
+
+        limiter.execute(request(), r -> {
+            sent.incrementAndGet();
+            return ok;
+        });
+        try {
+            limiter.execute(request(), r -> {
+                sent.incrementAndGet();
+                throw new AssertionError("Rejected request must not be sent");
+            });
+            Assert.fail("Second request should exceed the rate limit");
+        } catch (RateLimitExceededException e) {
+            Assert.assertEquals(e.getGroup(), EndpointTemplates.HOTELS);
+        }
+
+        RateLimitStats stats = limiter.getStats().get(EndpointTemplates.HOTELS);
+        Assert.assertEquals(sent.get(), 1);
+        Assert.assertEquals(stats.getRequests(), 1);
+        Assert.assertEquals(stats.getRejected(), 1);
+        Assert.assertEquals(stats.getThrottled(), 0);
+    }
+
+    private static ApiRequest request() {
+        return new ApiRequest()
+                .setMethod("GET")
+                .setEndpoint("/hotels/1")
+                .setEndpointTemplate("/hotels/{hotelId}");
+    }
+
+    private static void assertWait(long actualNanos, long expectedNanos) {
+        Assert.assertTrue(actualNanos > expectedNanos - SLACK_NANOS && actualNanos <= expectedNanos,
+                "Expected a wait of about " + TimeUnit.NANOSECONDS.toMillis(expectedNanos) + "ms but got "
+                        + TimeUnit.NANOSECONDS.toMillis(actualNanos) + "ms");
+    }
+}
@@ -0,0 +1,203 @@
+package com.apitest.client.resilience;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+/**
+ * Unit tests for circuit breaker thresholds and state transitions (no API calls)
+ */
+@Epic("Client Resilience")
+@Feature("Circuit Breaker")
+public class CircuitBreakerTest {
+
+    private static final String ENDPOINT = "/hotels/{hotelId}";
+
+    @Test(description = "Cancelled attempt in HALF_OPEN returns its trial permit")
+    @Description("Open the circuit, let a trial call be cancelled (interrupted thread), " +
+            "then verify the next trial call is still permitted and closes the circuit")
+    public void cancelledHalfOpenAttemptReleasesPermit() throws Exception {
+        CircuitBreakerConfig config = new CircuitBreakerConfig()
+                .setWindowSize(1)
+                .setMinimumCalls(1)
+                .setFailureRateThreshold(50)
+                .setOpenDurationMillis(50)
+                .setHalfOpenCalls(1);
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(config);
+        CircuitBreaker breaker = registry.getBreaker(ENDPOINT);
+
+        breaker.acquirePermission();
+        breaker.onResult(true, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN, "Failure should open the circuit");
+
+        Thread.sleep(config.getOpenDurationMillis() + 20);
+        ApiRequest request = new ApiRequest().setMethod("GET").setEndpoint("/hotels/1").setEndpointTemplate(ENDPOINT);
+        try {
+            registry.execute(request, r -> {
+                // Simulates a losing hedge that is cancelled mid-flight
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("cancelled");
+            });
+            Assert.fail("Cancelled attempt should rethrow");
+        } catch (IllegalStateException expected) {
+            Assert.assertTrue(Thread.interrupted(), "Interrupt flag should be preserved");
+        }
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN,
+                "Cancelled attempt should not re-open the circuit");
+
+        breaker.acquirePermission();
+        breaker.onResult(false, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED,
+                "Trial call after a cancelled attempt should close the circuit");
+    }
+
+    @Test(description = "Error thrown by a HALF_OPEN trial call re-opens the circuit")
+    @Description("An Error (e.g. an AssertionError from a validator) must be recorded like any failure, " +
+            "so the trial permit is not lost and the breaker does not stay half-open without permits")
+    public void errorInHalfOpenTrialReopensCircuit() throws Exception {
+        CircuitBreakerConfig config = new CircuitBreakerConfig()
+                .setWindowSize(1)
+                .setMinimumCalls(1)
+                .setFailureRateThreshold(50)
+                .setOpenDurationMillis(50)
+                .setHalfOpenCalls(1);
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(config);
+        CircuitBreaker breaker = registry.getBreaker(ENDPOINT);
+        breaker.acquirePermission();
+        breaker.onResult(true, 1);
+
+        Thread.sleep(config.getOpenDurationMillis() + 20);
+        ApiRequest request = new ApiRequest().setMethod("GET").setEndpoint("/hotels/1").setEndpointTemplate(ENDPOINT);
+        Assert.assertThrows(AssertionError.class, () -> registry.execute(request, r -> {
+            throw new AssertionError("validation failed");
+        }));
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN, "Failed trial should re-open the circuit");
+
+        Thread.sleep(config.getOpenDurationMillis() + 20);
+        registry.execute(request, r -> response(200));
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED, "Next trial should still be permitted");
+    }
+
+    @Test(description = "releasePermission is a no-op outside HALF_OPEN")
+    @Description("Releasing a permit in CLOSED state must not affect later transitions")
+    public void releasePermissionOutsideHalfOpenIsNoOp() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig()
+                .setWindowSize(1)
+                .setMinimumCalls(1)
+                .setOpenDurationMillis(60000)
+                .setHalfOpenCalls(1);
+        CircuitBreaker breaker = new CircuitBreakerRegistry(config).getBreaker(ENDPOINT);
+
+        breaker.acquirePermission();
+        breaker.releasePermission();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+
+        breaker.acquirePermission();
+        breaker.onResult(true, 1);
+        breaker.releasePermission();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+    }
+
+    @Test(description = "Failure rate over the window opens the circuit and rejects calls")
+    @Description("Below minimumCalls nothing trips; once the failure rate reaches the threshold the " +
+            "circuit opens, 5xx responses count as failures and calls fail fast with CircuitOpenException")
+    public void failureRateOpensCircuit() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig()
+                .setWindowSize(4)
+                .setMinimumCalls(4)
+                .setFailureRateThreshold(50)
+                .setOpenDurationMillis(60000);
+        CircuitBreakerRegistry registry = new CircuitBreakerRegistry(config);
+        ApiRequest request = new ApiRequest().setMethod("GET").setEndpoint("/hotels/1").setEndpointTemplate(ENDPOINT);
+
+        registry.execute(request, r -> response(200));
+        registry.execute(request, r -> response(503));
+        registry.execute(request, r -> response(200));
+        Assert.assertEquals(registry.getBreaker(ENDPOINT).getState(), CircuitBreaker.State.CLOSED,
+                "Circuit should stay closed below minimumCalls");
+
+        registry.execute(request, r -> response(500));
+        CircuitBreakerStats stats = registry.getBreaker(ENDPOINT).getStats();
+        Assert.assertEquals(stats.getState(), CircuitBreaker.State.OPEN, "50% failures should open the circuit");
+        Assert.assertEquals(stats.getFailureRate(), 50);
+
+        Assert.assertThrows(CircuitOpenException.class, () -> registry.execute(request, r -> {
+            throw new AssertionError("Open circuit must not call the endpoint");
+        }));
+        Assert.assertEquals(registry.getBreaker(ENDPOINT).getStats().getRejectedCalls(), 1);
+    }
+
+    @Test(description = "Slow calls open the circuit")
+    @Description("Successful calls slower than slowCallThresholdMillis count toward the slow call rate")
+    public void slowCallRateOpensCircuit() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig()
+                .setWindowSize(2)
+                .setMinimumCalls(2)
+                .setSlowCallThresholdMillis(100)
+                .setSlowCallRateThreshold(100);
+        CircuitBreaker breaker = new CircuitBreakerRegistry(config).getBreaker(ENDPOINT);
+
+        breaker.acquirePermission();
+        breaker.onResult(false, 150);
+        breaker.acquirePermission();
+        breaker.onResult(false, 150);
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertEquals(breaker.getStats().getSlowCallRate(), 100);
+    }
+
+    @Test(description = "Old outcomes slide out of the window")
+    @Description("Failures evicted from the count-based window no longer count toward the failure rate")
+    public void windowEvictsOldOutcomes() {
+        CircuitBreakerConfig config = new CircuitBreakerConfig()
+                .setWindowSize(2)
+                .setMinimumCalls(2)
+                .setFailureRateThreshold(100);
+        CircuitBreaker breaker = new CircuitBreakerRegistry(config).getBreaker(ENDPOINT);
+
+        breaker.acquirePermission();
+        breaker.onResult(true, 1);
+        breaker.acquirePermission();
+        breaker.onResult(false, 1);
+        breaker.acquirePermission();
+        breaker.onResult(false, 1);
+
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.CLOSED);
+        Assert.assertEquals(breaker.getStats().getFailureRate(), 0, "Evicted failure should not count");
+    }
+
+    @Test(description = "Failed trial call re-opens the circuit")
+    @Description("In HALF_OPEN only halfOpenCalls trial calls pass and any failure re-opens the circuit")
+    public void failedTrialCallReopensCircuit() throws Exception {
+        CircuitBreakerConfig config = new CircuitBreakerConfig()
+                .setWindowSize(1)
+                .setMinimumCalls(1)
+                .setFailureRateThreshold(50)
+                .setOpenDurationMillis(50)
+                .setHalfOpenCalls(1);
+        CircuitBreaker breaker = new CircuitBreakerRegistry(config).getBreaker(ENDPOINT);
+
+        breaker.acquirePermission();
+        breaker.onResult(true, 1);
+        Thread.sleep(config.getOpenDurationMillis() + 20);
+
+        breaker.acquirePermission();
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+        breaker.onResult(true, 1);
+        Assert.assertEquals(breaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.assertEquals(breaker.getStats().getTimesOpened(), 2);
+    }
+
+    private static Response response(int statusCode) {
+        return RestAssuredResponses.create(statusCode, Collections.emptyMap(), new byte[0], 1);
+    }
+}
@@ -0,0 +1,141 @@
+package com.apitest.client.resilience;
+
+import com.apitest.client.timeout.RequestDeadline;
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Unit tests for hedged GET requests (no API calls)
+ */
+@Epic("Client Resilience")
+@Feature("Hedged Requests")
+public class HedgingExecutorTest {
+
+    private static final String ENDPOINT = "/hotels/{hotelId}";
+
+    private HedgingExecutor hedging;
+
+    @BeforeMethod
+    public void createExecutor() {
+        hedging = new HedgingExecutor(new HedgeConfig()
+                .setMinSamples(1)
+                .setWindowSize(1)
+                .setMinDelayMillis(20));
+        // One fast sample makes the next GET hedgeable after minDelayMillis
+        Response fast = response(200);
+        hedging.execute(request(), r -> fast);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void shutdownExecutor() {
+        hedging.shutdown();
+    }
+
+    @Test(description = "Fast 503 hedge does not beat a slower 200")
+    @Description("The primary attempt runs on the caller thread with reporting; the hedge runs without " +
+            "reporting and its 5xx must not win over the primary's successful response")
+    public void retryableHedgeResponseDoesNotWin() {
+        Thread caller = Thread.currentThread();
+        Function<ApiRequest, Response> next = r -> {
+            if (r.isReporting()) {
+                Assert.assertSame(Thread.currentThread(), caller, "Primary attempt should run on the caller thread");
+                sleep(300);
+                return response(200);
+            }
+            Assert.assertNotSame(Thread.currentThread(), caller, "Hedge should run on a worker thread");
+            return response(503);
+        };
+
+        Response response = hedging.execute(request(), next);
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        HedgeStats stats = hedging.getStats().get(ENDPOINT);
+        Assert.assertEquals(stats.getHedged(), 1, "Slow primary should be hedged");
+        Assert.assertEquals(stats.getHedgeWins(), 0, "503 hedge should not win");
+    }
+
+    @Test(description = "Successful hedge aborts the slow primary")
+    @Description("A 200 from the hedge releases the caller before the primary answers and leaves " +
+            "no interrupt on the caller thread")
+    public void successfulHedgeAbortsPrimary() {
+        Function<ApiRequest, Response> next = r -> {
+            if (r.isReporting()) {
+                try {
+                    Thread.sleep(10000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("aborted", e);
+                }
+                return response(200);
+            }
+            return response(201);
+        };
+
+        long start = System.nanoTime();
+        Response response = hedging.execute(request(), next);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(response.getStatusCode(), 201, "Hedge response should win");
+        Assert.assertTrue(elapsedMillis < 5000, "Caller should not wait for the primary: " + elapsedMillis + "ms");
+        Assert.assertFalse(Thread.currentThread().isInterrupted(), "Abort interrupt should be cleared");
+        Assert.assertEquals(hedging.getStats().get(ENDPOINT).getHedgeWins(), 1);
+    }
+
+    @Test(description = "Caller's own interrupt survives a hedge win")
+    @Description("Aborting the primary must only clear the interrupt the hedger delivered, not one the caller " +
+            "already had pending")
+    public void callerInterruptIsKept() {
+        Function<ApiRequest, Response> next = r -> {
+            if (r.isReporting()) {
+                CountDownLatch aborted = new CountDownLatch(1);
+                RequestDeadline.onAbort(aborted::countDown);
+                // Interrupted by the test's own code while the primary is in flight
+                Thread.currentThread().interrupt();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (aborted.getCount() > 0 && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                return response(200);
+            }
+            return response(201);
+        };
+
+        Response response = hedging.execute(request(), next);
+
+        Assert.assertEquals(response.getStatusCode(), 201, "Hedge response should win");
+        Assert.assertTrue(Thread.interrupted(), "Caller's interrupt should still be pending");
+    }
+
+    private static ApiRequest request() {
+        return new ApiRequest()
+                .setMethod("GET")
+                .setEndpoint(ENDPOINT)
+                .setEndpointTemplate(ENDPOINT)
+                .setPathParams(Collections.singletonMap("hotelId", 1));
+    }
+
+    private static Response response(int statusCode) {
+        return RestAssuredResponses.create(statusCode, Collections.emptyMap(), new byte[0], 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.apitest.client.resilience;
+
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.SocketException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for retry backoff, retry budget and retryability rules (no API calls)
+ */
+@Epic("Client Resilience")
+@Feature("Retries")
+public class RetryEngineTest {
+
+    private static final String ENDPOINT = "/hotels/{hotelId}";
+
+    @Test(description = "Decorrelated jitter stays between base delay and three times the previous delay")
+    @Description("Every delay is at least the base delay, below three times the previous delay and capped at maxDelayMillis")
+    public void decorrelatedJitterStaysWithinBounds() {
+        RetryPolicy policy = new RetryPolicy().setBaseDelayMillis(100).setMaxDelayMillis(1000);
+        long previous = policy.getBaseDelayMillis();
+        for (int i = 0; i < 1000; i++) {
+            long delay = RetryEngine.nextDelay(policy, previous);
+            Assert.assertTrue(delay >= 100, "Delay below base: " + delay);
+            Assert.assertTrue(delay <= 1000, "Delay above cap: " + delay);
+            Assert.assertTrue(delay < Math.max(101, previous * 3), "Delay " + delay + " not below 3 x " + previous);
+            previous = delay;
+        }
+    }
+
+    @Test(description = "Transient status is retried until success")
+    @Description("Two 503 responses followed by 200 return the 200 after two counted retries")
+    public void retriesTransientStatusUntilSuccess() {
+        RetryEngine engine = new RetryEngine(config(3, 20));
+        AtomicInteger attempts = new AtomicInteger();
+
+        Response response = engine.execute(request("GET"),
+                r -> response(attempts.incrementAndGet() < 3 ? 503 : 200));
+
+        Assert.assertEquals(response.getStatusCode(), 200);
+        Assert.assertEquals(attempts.get(), 3);
+        Assert.assertEquals(engine.getStats().getRetriesByEndpoint().get("GET " + ENDPOINT), Long.valueOf(2));
+        Assert.assertEquals(engine.getStats().getExhausted(), 0);
+    }
+
+    @Test(description = "I/O errors are retried and exhaustion is counted")
+    @Description("A request failing with an IOException on every attempt is tried maxAttempts times, " +
+            "rethrows the last error and counts as exhausted")
+    public void ioErrorsAreRetriedUntilExhausted() {
+        RetryEngine engine = new RetryEngine(config(3, 20));
+        AtomicInteger attempts = new AtomicInteger();
+
+        try {
+            engine.execute(request("GET"), r -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("Connection reset", new SocketException("Connection reset"));
+            });
+            Assert.fail("Exhausted retries should rethrow");
+        } catch (IllegalStateException expected) {
+            Assert.assertEquals(attempts.get(), 3);
+        }
+        Assert.assertEquals(engine.getStats().getExhausted(), 1);
+    }
+
+    @Test(description = "Empty retry budget stops retries")
+    @Description("With one budget token and no refill, only the first failing call is retried; " +
+            "the next one returns its 503 and counts a budget rejection")
+    public void emptyBudgetStopsRetries() {
+        RetryConfig config = config(3, 1).setBudgetRatio(0);
+        RetryEngine engine = new RetryEngine(config);
+        AtomicInteger attempts = new AtomicInteger();
+
+        Assert.assertEquals(engine.execute(request("GET"), r -> {
+            attempts.incrementAndGet();
+            return response(503);
+        }).getStatusCode(), 503);
+        Assert.assertEquals(attempts.get(), 2, "First call should use the only budget token");
+
+        attempts.set(0);
+        Assert.assertEquals(engine.execute(request("GET"), r -> {
+            attempts.incrementAndGet();
+            return response(503);
+        }).getStatusCode(), 503);
+        Assert.assertEquals(attempts.get(), 1, "Second call should not be retried");
+        Assert.assertEquals(engine.getStats().getBudgetRejected(), 2);
+        Assert.assertEquals(engine.getStats().getAvailableBudget(), 0);
+    }
+
+    @Test(description = "POST is only retried when opted in")
+    @Description("POST is not idempotent, so it is tried once unless its endpoint template is allowed")
+    public void postIsRetriedOnlyWhenAllowed() {
+        AtomicInteger attempts = new AtomicInteger();
+        new RetryEngine(config(3, 20)).execute(request("POST"), r -> {
+            attempts.incrementAndGet();
+            return response(503);
+        });
+        Assert.assertEquals(attempts.get(), 1, "POST should not be retried by default");
+
+        attempts.set(0);
+        new RetryEngine(config(3, 20).allowPost(ENDPOINT)).execute(request("POST"), r -> {
+            attempts.incrementAndGet();
+            return response(503);
+        });
+        Assert.assertEquals(attempts.get(), 3, "Opted-in POST should be retried");
+    }
+
+    @Test(description = "Retry-After is parsed as delta-seconds")
+    @Description("Numeric Retry-After values are seconds; missing or unparseable values mean no wait")
+    public void parsesRetryAfter() {
+        Assert.assertEquals(RetryEngine.parseRetryAfter("2"), 2000);
+        Assert.assertEquals(RetryEngine.parseRetryAfter(null), 0);
+        Assert.assertEquals(RetryEngine.parseRetryAfter("soon"), 0);
+    }
+
+    private static RetryConfig config(int maxAttempts, int budgetTokens) {
+        RetryConfig config = new RetryConfig().setBudgetMaxTokens(budgetTokens);
+        config.setDefaultPolicy(new RetryPolicy()
+                .setMaxAttempts(maxAttempts)
+                .setBaseDelayMillis(1)
+                .setMaxDelayMillis(5));
+        return config;
+    }
+
+    private static ApiRequest request(String method) {
+        return new ApiRequest()
+                .setMethod(method)
+                .setEndpoint(ENDPOINT)
+                .setEndpointTemplate(ENDPOINT)
+                .setPathParams(Collections.singletonMap("hotelId", 1));
+    }
+
+    private static Response response(int statusCode) {
+        return RestAssuredResponses.create(statusCode, Collections.emptyMap(), new byte[0], 1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.apitest.client.timeout;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.protocol.BasicHttpContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the abortable Apache HttpClient (no API calls)
+ */
+@Epic("Client Resilience")
+@Feature("Request Timeouts")
+public class DeadlineHttpClientTest {
+
+    @Test(description = "System proxy properties are honoured")
+    @Description("Replacing RestAssured's SystemDefaultHttpClient must keep http.proxyHost and http.nonProxyHosts routing")
+    @SuppressWarnings("deprecation")
+    public void routesThroughSystemProxy() throws Exception {
+        String previousHost = System.getProperty("http.proxyHost");
+        String previousPort = System.getProperty("http.proxyPort");
+        String previousNonProxyHosts = System.getProperty("http.nonProxyHosts");
+        System.setProperty("http.proxyHost", "proxy.example.com");
+        System.setProperty("http.proxyPort", "3128");
+        System.setProperty("http.nonProxyHosts", "internal.example.com");
+        DeadlineHttpClient client = new DeadlineHttpClient();
+        try {
+            HttpRoute proxied = client.getRoutePlanner().determineRoute(new HttpHost("api.example.com", 80, "http"),
+                    new BasicHttpRequest("GET", "/"), new BasicHttpContext());
+            Assert.assertNotNull(proxied.getProxyHost(), "Request should go through the proxy");
+            Assert.assertEquals(proxied.getProxyHost().getHostName(), "proxy.example.com");
+            Assert.assertEquals(proxied.getProxyHost().getPort(), 3128);
+
+            HttpRoute direct = client.getRoutePlanner().determineRoute(new HttpHost("internal.example.com", 80, "http"),
+                    new BasicHttpRequest("GET", "/"), new BasicHttpContext());
+            Assert.assertNull(direct.getProxyHost(), "http.nonProxyHosts should bypass the proxy");
+        } finally {
+            client.getConnectionManager().shutdown();
+            restore("http.proxyHost", previousHost);
+            restore("http.proxyPort", previousPort);
+            restore("http.nonProxyHosts", previousNonProxyHosts);
+        }
+    }
+
+    private static void restore(String name, String value) {
+        if (value != null) {
+            System.setProperty(name, value);
+        } else {
+            System.clearProperty(name);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.apitest.client.timeout;
+
+import com.apitest.client.EndpointTemplates;
+import com.apitest.client.transport.ApiRequest;
+import com.apitest.client.transport.RestAssuredResponses;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for total request deadlines and abortable attempts (no API calls)
+ */
+@Epic("Client Resilience")
+@Feature("Request Timeouts")
+public class TimeoutEnforcerTest {
+
+    private static final long TOTAL_MILLIS = 200;
+
+    @Test(description = "Total deadline runs the transport's abort action")
+    @Description("When the deadline passes the registered action releases the blocked exchange and the " +
+            "failure surfaces as a TOTAL RequestTimeoutException")
+    public void totalDeadlineRunsAbortAction() {
+        TimeoutEnforcer enforcer = enforcer();
+        CountDownLatch aborted = new CountDownLatch(1);
+
+        RequestTimeoutException timeout = expectTimeout(() -> enforcer.execute(request(), r -> {
+            RequestDeadline.onAbort(aborted::countDown);
+            RequestDeadline.current().markRequestSent();
+            await(aborted);
+            // Closing the socket fails the blocked read like this
+            return sneakyThrow(new SocketException("Socket closed"));
+        }));
+
+        Assert.assertEquals(aborted.getCount(), 0, "Abort action should have run");
+        Assert.assertEquals(timeout.getPhase(), RequestTimeoutException.Phase.TOTAL);
+        Assert.assertEquals(timeout.getGroup(), EndpointTemplates.HOTELS);
+        Assert.assertTrue(timeout.getElapsedMillis() >= TOTAL_MILLIS, "Elapsed " + timeout.getElapsedMillis() + "ms");
+        Assert.assertTrue(timeout.getRequestSentMillis() >= 0, "Request sent should be recorded");
+        Assert.assertEquals(timeout.getHeadersReceivedMillis(), -1L);
+        Assert.assertFalse(Thread.currentThread().isInterrupted(), "Caller must not be left interrupted");
+        Assert.assertNull(RequestDeadline.current(), "Deadline should be detached from the thread");
+        Assert.assertEquals(enforcer.getStats().get(EndpointTemplates.HOTELS).getTotalTimeouts(), 1);
+    }
+
+    @Test(description = "Total deadline interrupts a caller without an abort action")
+    @Description("Without a registered abort action the watchdog interrupts the caller; the interrupt is " +
+            "cleared once the timeout has been reported")
+    public void totalDeadlineInterruptsCaller() {
+        TimeoutEnforcer enforcer = enforcer();
+
+        RequestTimeoutException timeout = expectTimeout(() -> enforcer.execute(request(), r -> {
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("interrupted", e);
+            }
+            throw new AssertionError("Caller should have been interrupted");
+        }));
+
+        Assert.assertEquals(timeout.getPhase(), RequestTimeoutException.Phase.TOTAL);
+        Assert.assertTrue(timeout.getElapsedMillis() < 5000, "Elapsed " + timeout.getElapsedMillis() + "ms");
+        Assert.assertFalse(Thread.currentThread().isInterrupted(), "Watchdog interrupt should be cleared");
+    }
+
+    @Test(description = "Socket timeout is reported as a READ timeout")
+    @Description("Group read timeouts are passed to the transport and a SocketTimeoutException maps to phase READ")
+    public void socketTimeoutIsReadPhase() {
+        TimeoutEnforcer enforcer = enforcer();
+
+        RequestTimeoutException timeout = expectTimeout(() -> enforcer.execute(request(), r -> {
+            Assert.assertEquals(r.getReadTimeoutMillis(), 1500L, "Group read timeout should be applied");
+            Assert.assertEquals(r.getConnectTimeoutMillis(), 1000L, "Group connect timeout should be applied");
+            return sneakyThrow(new SocketTimeoutException("Read timed out"));
+        }));
+
+        Assert.assertEquals(timeout.getPhase(), RequestTimeoutException.Phase.READ);
+        Assert.assertEquals(enforcer.getStats().get(EndpointTemplates.HOTELS).getReadTimeouts(), 1);
+    }
+
+    @Test(description = "Fast response and other failures pass through unchanged")
+    @Description("Responses within the deadline are returned and non-timeout failures are rethrown as they are")
+    public void nonTimeoutsPassThrough() {
+        TimeoutEnforcer enforcer = enforcer();
+        Response ok = RestAssuredResponses.create(200, Collections.emptyMap(), new byte[0], 1);
+
+        Assert.assertSame(enforcer.execute(request(), r -> ok), ok);
+        IllegalStateException failure = new IllegalStateException("boom");
+        try {
+            enforcer.execute(request(), r -> {
+                throw failure;
+            });
+            Assert.fail("Failure should be rethrown");
+        } catch (IllegalStateException e) {
+            Assert.assertSame(e, failure);
+        }
+        Assert.assertEquals(enforcer.getStats().get(EndpointTemplates.HOTELS).getRequests(), 2);
+    }
+
+    @Test(description = "Bare TimeoutConfig applies its default timeouts")
+    @Description("A config built without group timeouts falls back to the default timeouts instead of failing")
+    public void bareConfigUsesDefaultTimeout() {
+        TimeoutConfig config = new TimeoutConfig();
+        TimeoutEnforcer enforcer = new TimeoutEnforcer(config);
+        Response ok = RestAssuredResponses.create(200, Collections.emptyMap(), new byte[0], 1);
+
+        Response response = enforcer.execute(request(), r -> {
+            Assert.assertEquals(r.getReadTimeoutMillis(), config.getDefaultTimeout().getReadTimeoutMillis());
+            return ok;
+        });
+
+        Assert.assertSame(response, ok);
+        Assert.assertTrue(config.getDefaultTimeout().getTotalTimeoutMillis() > 0);
+    }
+
+    @Test(description = "Async total timeout fails the future and cancels the exchange")
+    @Description("A future that never completes fails with a TOTAL RequestTimeoutException after the total " +
+            "timeout, and the exchange future is completed so the transport can cancel it")
+    public void asyncTotalTimeoutFailsFuture() throws Exception {
+        TimeoutEnforcer enforcer = enforcer();
+        CompletableFuture<Response> exchange = new CompletableFuture<>();
+
+        CompletableFuture<Response> result = enforcer.executeAsync(request(), r -> exchange);
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            Assert.fail("Future should time out");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RequestTimeoutException, "Got " + e.getCause());
+            Assert.assertEquals(((RequestTimeoutException) e.getCause()).getPhase(), RequestTimeoutException.Phase.TOTAL);
+        }
+        Assert.assertTrue(exchange.isCompletedExceptionally(), "Exchange should be completed by the timeout");
+        Assert.assertEquals(enforcer.getStats().get(EndpointTemplates.HOTELS).getTotalTimeouts(), 1);
+    }
+
+    @Test(description = "Stalled body read fails after the read timeout")
+    @Description("A streamed body that stops sending data fails the blocked read with SocketTimeoutException")
+    public void stalledBodyReadTimesOut() throws IOException {
+        try (PipedOutputStream server = new PipedOutputStream();
+             InputStream body = new ReadTimeoutInputStream(new PipedInputStream(server), 100)) {
+            server.write('x');
+            Assert.assertEquals(body.read(), 'x');
+
+            long start = System.nanoTime();
+            try {
+                body.read(new byte[16], 0, 16);
+                Assert.fail("Read should time out");
+            } catch (SocketTimeoutException e) {
+                Assert.assertTrue((System.nanoTime() - start) / 1_000_000 < 5000, "Read should fail promptly");
+            }
+        }
+        Assert.assertFalse(Thread.currentThread().isInterrupted(), "Watchdog interrupt should be cleared");
+    }
+
+    @Test(description = "Aborting an enclosing scope runs the nested attempt's abort action")
+    @Description("Abort actions are registered on every running scope of the thread, so aborting the " +
+            "abortable outer scope (hedge lost) releases the inner attempt; finish() clears the interrupt")
+    public void abortRunsActionOfNestedAttempt() {
+        RequestDeadline outer = RequestDeadline.startAbortable();
+        RequestDeadline inner = RequestDeadline.start(60000);
+        CountDownLatch aborted = new CountDownLatch(1);
+        try {
+            RequestDeadline.onAbort(aborted::countDown);
+            // join() is not interruptible, so the abort interrupt stays pending until finish()
+            boolean wasRunning = CompletableFuture.supplyAsync(outer::abort).join();
+
+            Assert.assertTrue(wasRunning, "Outer scope should be running");
+            Assert.assertEquals(aborted.getCount(), 0, "Abort action should have run");
+            Assert.assertTrue(Thread.currentThread().isInterrupted(), "Aborted owner should be interrupted");
+            Assert.assertFalse(outer.abort(), "Second abort should be a no-op");
+        } finally {
+            Assert.assertFalse(inner.finish(), "Inner deadline did not pass");
+            Assert.assertTrue(outer.finish(), "Outer scope was aborted");
+        }
+        Assert.assertFalse(Thread.currentThread().isInterrupted(), "Abort interrupt should be cleared");
+        Assert.assertNull(RequestDeadline.current());
+    }
+
+    @Test(description = "Abort action registered after abort runs immediately")
+    @Description("A transport registering its abort action after the scope was aborted is released at once")
+    public void lateAbortActionRunsImmediately() {
+        RequestDeadline scope = RequestDeadline.startAbortable();
+        try {
+            Assert.assertTrue(scope.abort());
+            CountDownLatch aborted = new CountDownLatch(1);
+            RequestDeadline.onAbort(aborted::countDown);
+            Assert.assertEquals(aborted.getCount(), 0);
+        } finally {
+            Assert.assertTrue(scope.finish());
+        }
+        Assert.assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    private static TimeoutEnforcer enforcer() {
+        return new TimeoutEnforcer(new TimeoutConfig()
+                .setGroupTimeout(EndpointTemplates.HOTELS, new EndpointTimeout(1000, 1500, TOTAL_MILLIS))
+                .setDefaultTimeout(new EndpointTimeout(1000, 1000, 1000)));
+    }
+
+    private static ApiRequest request() {
+        return new ApiRequest()
+                .setMethod("GET")
+                .setEndpoint("/hotels/1")
+                .setEndpointTemplate("/hotels/{hotelId}");
+    }
+
+    private static RequestTimeoutException expectTimeout(Runnable call) {
+        try {
+            call.run();
+        } catch (RequestTimeoutException e) {
+            return e;
+        }
+        throw new AssertionError("Expected RequestTimeoutException");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable, R> R sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+}
@@ -0,0 +1,113 @@
+package com.apitest.client.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import io.restassured.response.Response;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the multiplexing HTTP/2 transport against a local server (no API calls)
+ */
+@Epic("Client Performance")
+@Feature("HTTP/2 Transport")
+public class Http2TransportTest {
+
+    private HttpServer server;
+    private CountDownLatch release;
+
+    @BeforeMethod
+    public void startServer() throws Exception {
+        release = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test(description = "Closed transport rejects requests")
+    @Description("Requests sent after close fail immediately instead of using a stopped client")
+    public void closedTransportRejectsRequests() {
+        Http2Transport transport = new Http2Transport(new Http2Config().setConnections(1).setMaxConcurrentStreams(1));
+        transport.close();
+        try {
+            transport.execute(request());
+            Assert.fail("Closed transport should reject requests");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+    }
+
+    @Test(description = "Waiting request fails on close")
+    @Description("Closing the transport wakes a request blocked on the stream limit instead of leaving it parked")
+    public void closeWakesBlockedRequest() throws Exception {
+        Http2Transport transport = new Http2Transport(new Http2Config().setConnections(1).setMaxConcurrentStreams(1));
+        CompletableFuture<Response> inFlight = CompletableFuture.supplyAsync(() -> transport.execute(request()));
+        waitForActiveStreams(transport, 1);
+        CompletableFuture<Response> waiting = CompletableFuture.supplyAsync(() -> transport.execute(request()));
+        Thread.sleep(100);
+        Assert.assertFalse(waiting.isDone(), "Second request should wait for a free stream");
+
+        transport.close();
+        try {
+            waiting.get(5, TimeUnit.SECONDS);
+            Assert.fail("Waiting request should fail once the transport is closed");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException, "Unexpected failure: " + e.getCause());
+        }
+        release.countDown();
+        Assert.assertEquals(inFlight.get(5, TimeUnit.SECONDS).getStatusCode(), 200,
+                "In-flight request should complete after close");
+    }
+
+    @Test(description = "Status line reports the negotiated protocol")
+    @Description("Responses carry the protocol version they arrived over instead of a fixed HTTP/1.1")
+    public void statusLineFollowsProtocolVersion() {
+        Assert.assertEquals(RestAssuredResponses.statusLine(HttpClient.Version.HTTP_2, 200), "HTTP/2 200");
+        Assert.assertEquals(RestAssuredResponses.statusLine(HttpClient.Version.HTTP_1_1, 404), "HTTP/1.1 404");
+        Response response = RestAssuredResponses.create("HTTP/2 200", 200, Collections.emptyMap(), new byte[0], 1);
+        Assert.assertEquals(response.getStatusLine(), "HTTP/2 200");
+    }
+
+    private ApiRequest request() {
+        return new ApiRequest().setMethod("GET").setBaseUri("http://" + server.getAddress().getHostString() + ":"
+                + server.getAddress().getPort())
+                .setEndpoint("/slow");
+    }
+
+    private static void waitForActiveStreams(Http2Transport transport, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (transport.getStreamDistribution().get(0).getActiveStreams() < expected) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Request never took a stream");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -38,7 +38,7 @@ public class TokenReplacementDemo extends BaseTest {
         System.out.println("Authorizing: admin@example.com");
         VerifyResponse token2 = authorizeUserWithCredentials("admin@example.com", "654321");
         
-        System.out.println("✅ Token 2 stored in TokenManager (REPLACED Token 1)");
+        System.out.println("✅ Token 2 stored in TokenManager (REPLACED Token 1 as current token)");
         System.out.println("   Access Token: " + token2.getAccessToken().substring(0, 50) + "...");
         System.out.println("   User Email: admin@example.com");
         System.out.println("   Current Token in Manager: " + TokenManager.getInstance().getToken().getAccessToken().substring(0, 50) + "...");
@@ -58,15 +58,17 @@ public class TokenReplacementDemo extends BaseTest {
         System.out.println("\n✅ Tokens are different: " + tokensAreDifferent);
         System.out.println("✅ Current token is Token 2: " + currentIsToken2);
         System.out.println("❌ Current token is NOT Token 1: " + !TokenManager.getInstance().getToken().getAccessToken().equals(token1.getAccessToken()));
+        System.out.println("✅ Token 1 still pooled for test@example.com: " + TokenManager.getInstance().hasValidToken("test@example.com"));
         
         System.out.println("\n========================================");
         System.out.println("WHAT HAPPENED:");
         System.out.println("========================================");
         System.out.println("1. First call set Token 1 (test@example.com)");
-        System.out.println("2. Second call REPLACED Token 1 with Token 2 (admin@example.com)");
-        System.out.println("3. Only Token 2 is now active");
-        System.out.println("4. All subsequent API calls will use Token 2");
-        System.out.println("5. Token 1 is NO LONGER in TokenManager");
+        System.out.println("2. Second call REPLACED Token 1 with Token 2 (admin@example.com) as current token");
+        System.out.println("3. Only Token 2 is now the current token");
+        System.out.println("4. All subsequent API calls (outside callAs / asUser) will use Token 2");
+        System.out.println("5. Token 1 is no longer current, but stays in the TokenManager token pool");
+        System.out.println("6. Logging in as test@example.com again (or TokenManager.switchTo) reuses Token 1 without a new 2-step flow");
         
         System.out.println("\n========================================");
         System.out.println("Demonstration Complete!");
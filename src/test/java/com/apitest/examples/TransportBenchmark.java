@@ -0,0 +1,139 @@
+package com.apitest.examples;
+
+import com.apitest.client.ApiClient;
+import com.apitest.client.EventApiClient;
+import com.apitest.client.HotelApiClient;
+import com.apitest.client.pool.ConnectionPoolConfig;
+import com.apitest.client.transport.Http2Config;
+import com.apitest.client.transport.Http2Transport;
+import com.apitest.client.transport.HttpTransport;
+import com.apitest.client.transport.JdkHttpTransport;
+import com.apitest.tests.BaseTest;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark comparing HTTP/1.1 pooled and HTTP/2 multiplexed transports
+ * for the GET /hotels and GET /events paths
+ * Tune with -Dbenchmark.requests and -Dbenchmark.concurrency
+ */
+public class TransportBenchmark extends BaseTest {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 200);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 20);
+    private static final int WARMUP_REQUESTS = 10;
+
+    @Test
+    public void compareHttp1PooledAndHttp2() throws Exception {
+        authorizeUserWithCredentials(PLATFORM_SUPER_ADMIN, "123456");
+        ApiClient.setHighThroughputMode(true);
+
+        System.out.println("\n========================================");
+        System.out.println("Transport Benchmark - " + REQUESTS + " requests, concurrency " + CONCURRENCY);
+        System.out.println("========================================\n");
+
+        // HTTP/1.1 pooled: RestAssured with the pooled keep-alive connection manager
+        ApiClient.configureConnectionPool(new ConnectionPoolConfig().setMaxPerRoute(CONCURRENCY).setMaxTotal(CONCURRENCY));
+        ApiClient.useRestAssuredTransport();
+        runScenarios("HTTP/1.1 pooled (RestAssured)");
+        System.out.println("   Pool: " + ApiClient.getConnectionPoolStats());
+
+        // HTTP/1.1 pooled: JDK HttpClient keeps its own keep-alive pool
+        ApiClient.setTransport(new JdkHttpTransport());
+        runScenarios("HTTP/1.1 pooled (JDK)");
+
+        // HTTP/2 multiplexed over a few connections
+        Http2Transport http2 = new Http2Transport(Http2Config.fromSystemProperties());
+        ApiClient.setTransport(http2);
+        runScenarios("HTTP/2 multiplexed (JDK)");
+        System.out.println("   Streams: " + http2.getStreamDistribution());
+
+        System.out.println("\n========================================\n");
+    }
+
+    @AfterClass
+    public void restoreDefaults() {
+        ApiClient.useRestAssuredTransport();
+        ApiClient.disableConnectionPool();
+        ApiClient.setHighThroughputMode(false);
+    }
+
+    /**
+     * Run GET /hotels and GET /events scenarios on the current transport
+     * @param mode Mode label
+     */
+    private void runScenarios(String mode) throws Exception {
+        HttpTransport transport = ApiClient.getTransport();
+        System.out.println(mode + " [" + transport.getName() + "]");
+        printResult("GET /hotels", measure(HotelApiClient::getHotels));
+        printResult("GET /events", measure(() -> EventApiClient.getEvents(null, null, null, null, 20, 0)));
+    }
+
+    /**
+     * Measure latencies for a request issued REQUESTS times with CONCURRENCY threads
+     * @param call Request to issue
+     * @return Result with sorted latencies and wall-clock time
+     */
+    private Result measure(Supplier<Response> call) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            call.get();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    long requestStart = System.nanoTime();
+                    call.get();
+                    return (System.nanoTime() - requestStart) / 1_000_000;
+                }));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                latencies.add(future.get());
+            }
+            long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+            Collections.sort(latencies);
+            return new Result(latencies, wallMillis);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void printResult(String path, Result result) {
+        System.out.printf("   %-12s throughput: %7.1f req/s  p50: %5dms  p95: %5dms  p99: %5dms%n",
+                path, result.throughput(), result.percentile(50), result.percentile(95), result.percentile(99));
+    }
+
+    private static class Result {
+        private final List<Long> sortedLatencies;
+        private final long wallMillis;
+
+        Result(List<Long> sortedLatencies, long wallMillis) {
+            this.sortedLatencies = sortedLatencies;
+            this.wallMillis = wallMillis;
+        }
+
+        long percentile(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.size()) - 1;
+            return sortedLatencies.get(Math.max(0, index));
+        }
+
+        double throughput() {
+            return sortedLatencies.size() * 1000.0 / Math.max(1, wallMillis);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.apitest.listeners;
+
+import com.apitest.client.capture.ExchangeCapture;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener for failure-only exchange logging
+ * Flushes the captured exchanges when a test fails and discards them when it passes
+ */
+public class ExchangeCaptureListener implements ITestListener {
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ExchangeCapture.clear();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        ExchangeCapture.clear();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Throwable cause = result.getThrowable();
+        ExchangeCapture.flush("Test failed: " + result.getTestClass().getRealClass().getSimpleName() + "."
+                + result.getMethod().getMethodName() + (cause != null ? " - " + cause.getMessage() : ""));
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        ExchangeCapture.clear();
+    }
+}
@@ -0,0 +1,133 @@
+package com.apitest.listeners;
+
+import com.apitest.enums.UserType;
+import com.apitest.service.AuthorizationService;
+import com.apitest.service.TokenManager;
+import com.apitest.utils.DataGenerator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * TestNG listener that authenticates every identity the suite needs concurrently before the first test,
+ * so later logins for them are token pool lookups instead of sequential 2-step flows
+ * Identities default to the email-valued UserType constants; the suite parameter preAuthIdentities
+ * (or -Dapi.auth.preAuthIdentities) overrides them with a comma-separated list.
+ * preAuthGuests fresh guest emails are authenticated too and handed out by takeGuestEmail().
+ * Off by default because it needs a live backend; enable with -Dapi.auth.preAuth.enabled=true
+ */
+public class PreAuthListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(PreAuthListener.class);
+
+    // Pre-authenticated guest emails not yet used by a test
+    private static final Queue<String> guestEmails = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.parseBoolean(System.getProperty("api.auth.preAuth.enabled", "false"))) {
+            return;
+        }
+        if (!TokenManager.getInstance().isPoolEnabled()) {
+            logger.info("Token pool disabled, skipping pre-authentication");
+            return;
+        }
+
+        String code = System.getProperty("api.auth.preAuthCode", parameter(suite, "preAuthCode", "123456"));
+        Set<String> identities = new LinkedHashSet<>();
+        String configured = System.getProperty("api.auth.preAuthIdentities",
+                parameter(suite, "preAuthIdentities", defaultIdentities()));
+        Arrays.stream(configured.split(","))
+                .map(String::trim)
+                .filter(identity -> !identity.isEmpty())
+                .forEach(identities::add);
+        int guests = Integer.parseInt(System.getProperty("api.auth.preAuthGuests", parameter(suite, "preAuthGuests", "0")));
+        List<String> guestBatch = new ArrayList<>();
+        for (int i = 1; i <= guests; i++) {
+            guestBatch.add(DataGenerator.generateEmail("guest" + i, "test.com"));
+        }
+        identities.addAll(guestBatch);
+        if (identities.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(identities.size(), runnable -> {
+            Thread thread = new Thread(runnable, "api-preauth-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.currentTimeMillis();
+        try {
+            List<CompletableFuture<Long>> logins = identities.stream()
+                    .map(identity -> CompletableFuture.supplyAsync(() -> login(identity, code), executor))
+                    .collect(Collectors.toList());
+            List<Long> latencies = logins.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+            List<String> authenticated = identities.stream()
+                    .filter(identity -> TokenManager.getInstance().hasValidToken(identity))
+                    .collect(Collectors.toList());
+            guestBatch.stream().filter(authenticated::contains).forEach(guestEmails::add);
+            suite.setAttribute("preAuthenticatedIdentities", authenticated);
+            logger.info("Pre-authenticated {}/{} identities in {}ms (sequential logins would take {}ms)",
+                    authenticated.size(), identities.size(), System.currentTimeMillis() - start,
+                    latencies.stream().mapToLong(Long::longValue).sum());
+        } finally {
+            executor.shutdown();
+            // Tests start without a current token; pooled tokens stay valid
+            TokenManager.getInstance().clearToken();
+        }
+    }
+
+    /**
+     * Take a fresh guest email that was authenticated before the suite
+     * @return Guest email, or null if none is left
+     */
+    public static String takeGuestEmail() {
+        return guestEmails.poll();
+    }
+
+    /**
+     * Run one login; failures are logged and never fail the suite
+     * @return Login latency in milliseconds
+     */
+    private static long login(String identity, String code) {
+        long start = System.currentTimeMillis();
+        try {
+            AuthorizationService.completeAuthorization(identity, code);
+        } catch (Exception | AssertionError e) {
+            logger.warn("Pre-authentication failed for {}: {}", identity, e.getMessage());
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Emails of the UserType roles tests log in as (UserType also holds non-email values)
+     * @return Comma-separated emails
+     */
+    private static String defaultIdentities() {
+        return Arrays.stream(UserType.values())
+                .map(UserType::getValue)
+                .filter(value -> value.contains("@"))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String parameter(ISuite suite, String name, String defaultValue) {
+        String value = suite.getParameter(name);
+        return value != null ? value : defaultValue;
+    }
+}
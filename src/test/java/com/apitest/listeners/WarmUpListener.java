@@ -0,0 +1,23 @@
+package com.apitest.listeners;
+
+import com.apitest.client.ApiClient;
+import com.apitest.client.warmup.WarmUpReport;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener that warms up DNS, TLS, pooled connections and the backend before the suite,
+ * so the first test is not charged for cold-start latency
+ * Off by default because it needs a live backend; enable with -Dapi.warmup.enabled=true
+ */
+public class WarmUpListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.parseBoolean(System.getProperty("api.warmup.enabled", "false"))) {
+            return;
+        }
+        WarmUpReport report = ApiClient.warmUp();
+        suite.setAttribute("warmUpReport", report);
+    }
+}
@@ -0,0 +1,133 @@
+package com.apitest.service;
+
+import com.apitest.models.response.auth.VerifyResponse;
+import io.qameta.allure.Description;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.UUID;
+
+/**
+ * Unit tests for the identity-keyed token pool and refreshed-token swaps (no API calls)
+ */
+@Epic("Client Performance")
+@Feature("Token Pool")
+public class TokenManagerTest {
+
+    private final TokenManager tokenManager = TokenManager.getInstance();
+
+    private String identity;
+
+    private VerifyResponse previousCurrent;
+
+    @BeforeMethod
+    public void rememberCurrentToken() {
+        if (!tokenManager.isPoolEnabled()) {
+            throw new SkipException("Token pool disabled with -Dapi.auth.tokenPool=false");
+        }
+        // The manager is a singleton shared with API tests: use a fresh identity and restore the current token
+        identity = "pool-" + UUID.randomUUID() + "@example.com";
+        previousCurrent = tokenManager.getToken();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreCurrentToken() {
+        tokenManager.removeToken(identity);
+        tokenManager.setToken(previousCurrent);
+    }
+
+    @Test(description = "Repeat login with the same code is a pool lookup")
+    @Description("Identities are matched case-insensitively; a different verification code does not reuse the token")
+    public void pooledTokenIsLookedUpByIdentityAndCode() {
+        VerifyResponse token = token("first");
+        tokenManager.putToken(identity, "123456", token);
+
+        Assert.assertSame(tokenManager.getPooledToken(identity.toUpperCase(), "123456"), token);
+        Assert.assertSame(tokenManager.getPooledToken("  " + identity + " ", "123456"), token);
+        Assert.assertNull(tokenManager.getPooledToken(identity, "654321"), "Other code must run the full login");
+        Assert.assertEquals(tokenManager.getAuthorizationHeader(identity), "Bearer first");
+    }
+
+    @Test(description = "Invalid tokens are not pooled and invalidated entries are dropped")
+    @Description("Tokens without an access token are ignored; an entry invalidated by logout is removed on lookup")
+    public void invalidTokensAreNotServed() {
+        tokenManager.putToken(identity, "123456", new VerifyResponse());
+        Assert.assertFalse(tokenManager.hasValidToken(identity), "Empty token should not be pooled");
+
+        VerifyResponse token = token("first");
+        tokenManager.putToken(identity, "123456", token);
+        token.invalidate();
+
+        Assert.assertNull(tokenManager.getPooledToken(identity, "123456"));
+        Assert.assertNull(tokenManager.getAuthorizationHeader(identity));
+        Assert.assertFalse(tokenManager.getIdentities().contains(identity.toLowerCase()), "Entry should be dropped");
+    }
+
+    @Test(description = "callAs authorizes the thread as a pooled identity")
+    @Description("Requests inside callAs use the identity's header; the current token applies again afterwards")
+    public void callAsUsesPooledHeader() {
+        tokenManager.setToken(token("current"));
+        tokenManager.putToken(identity, "123456", token("pooled"));
+
+        String inside = tokenManager.callAs(identity, tokenManager::getAuthorizationHeader);
+
+        Assert.assertEquals(inside, "Bearer pooled");
+        Assert.assertNull(tokenManager.getThreadIdentity());
+        Assert.assertEquals(tokenManager.getAuthorizationHeader(), "Bearer current");
+    }
+
+    @Test(description = "Refreshed token replaces the old one in the pool and as current token")
+    @Description("The refresh swap installs a new snapshot everywhere the old token was used, keeping the login code")
+    public void refreshSwapsPooledAndCurrentToken() {
+        VerifyResponse previous = token("old");
+        VerifyResponse refreshed = token("new");
+        tokenManager.putToken(identity, "123456", previous);
+        Assert.assertTrue(tokenManager.switchTo(identity));
+
+        Assert.assertTrue(tokenManager.replaceToken(previous, refreshed));
+
+        Assert.assertSame(tokenManager.getToken(), refreshed);
+        Assert.assertEquals(tokenManager.getAuthorizationHeader(), "Bearer new");
+        Assert.assertSame(tokenManager.getPooledToken(identity, "123456"), refreshed, "Login code should be kept");
+        Assert.assertFalse(tokenManager.replaceToken(previous, token("newer")), "Old token is no longer in use");
+        Assert.assertFalse(tokenManager.isInUse(previous));
+        Assert.assertTrue(tokenManager.isInUse(refreshed));
+    }
+
+    @Test(description = "Discarded token is removed from the pool and as current token")
+    @Description("A token rejected by the server (e.g. after logout) is no longer served for the identity")
+    public void discardRemovesTokenEverywhere() {
+        VerifyResponse token = token("first");
+        tokenManager.putToken(identity, "123456", token);
+        tokenManager.switchTo(identity);
+
+        tokenManager.discardToken(token);
+
+        Assert.assertNull(tokenManager.getToken());
+        Assert.assertFalse(tokenManager.hasValidToken(identity));
+    }
+
+    @Test(description = "Clearing the current token keeps a pooled token valid")
+    @Description("Switching away from a pooled identity must not invalidate its token")
+    public void clearTokenKeepsPooledToken() {
+        VerifyResponse token = token("first");
+        tokenManager.putToken(identity, "123456", token);
+        tokenManager.switchTo(identity);
+
+        tokenManager.clearToken();
+
+        Assert.assertNull(tokenManager.getToken());
+        Assert.assertTrue(token.isTokenValid(), "Pooled token should not be invalidated");
+        Assert.assertTrue(tokenManager.switchTo(identity));
+    }
+
+    // Opaque token without refresh token or expiry, so no background refresh is scheduled
+    private static VerifyResponse token(String accessToken) {
+        return new VerifyResponse().setAccessToken(accessToken);
+    }
+}
@@ -2,6 +2,7 @@ package com.apitest.tests;
 
 import com.apitest.client.ApiClient;
 import com.apitest.models.response.auth.VerifyResponse;
+import com.apitest.service.TokenManager;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -122,32 +123,38 @@ public class AuthorizedApiTests extends BaseTest {
         logger.info("Test completed successfully: Token persistence verified");
     }
 
-    @Test(description = "Test that re-authorizing replaces the token")
-    @Description("Verify that calling authorizeUserWithCredentials again replaces the current token")
-    public void testReAuthorizingReplacesToken() {
-        logger.info("Starting test: Re-authorizing replaces token");
+    @Test(description = "Test that re-authorizing reuses the pooled token")
+    @Description("Verify that a repeat login for the same user returns the pooled token without a new 2-step flow, " +
+            "and that a new token is issued once the identity is removed from the pool")
+    public void testReAuthorizingReusesPooledToken() {
+        logger.info("Starting test: Re-authorizing reuses pooled token");
+        TokenManager tokenManager = TokenManager.getInstance();
         
         // First authorization
         VerifyResponse token1 = authorizeUserWithCredentials("test@example.com", "123456");
         String firstToken = token1.getAccessToken();
         
+        // Second authorization is served from the token pool (no network call, same token object)
+        VerifyResponse token2 = authorizeUserWithCredentials("test@example.com", "123456");
+        Assert.assertSame(token2, token1, "Repeat login should return the pooled token");
+        Assert.assertEquals(getAuthToken().getAccessToken(), firstToken,
+                          "Current token should be the pooled token");
+        
         // Wait a moment to ensure timestamp difference
         try { Thread.sleep(1000); } catch (InterruptedException e) { }
         
-        // Second authorization (should replace the first token)
-        VerifyResponse token2 = authorizeUserWithCredentials("test@example.com", "123456");
-        String secondToken = token2.getAccessToken();
-        
-        // Tokens should be different (new token issued)
-        Assert.assertNotEquals(firstToken, secondToken, "New authorization should generate a new token");
+        // After removing the identity from the pool, re-authorization runs the full flow
+        tokenManager.removeToken("test@example.com");
+        VerifyResponse token3 = authorizeUserWithCredentials("test@example.com", "123456");
+        String thirdToken = token3.getAccessToken();
         
-        // Verify only the second token is active
-        Assert.assertEquals(getAuthToken().getAccessToken(), secondToken, 
-                          "Current token should be the second token");
+        Assert.assertNotEquals(thirdToken, firstToken, "New authorization should generate a new token");
+        Assert.assertEquals(getAuthToken().getAccessToken(), thirdToken,
+                          "Current token should be the new token");
         
-        addTestStepWithNameDescription("Token Replacement Verified",
-                   "Re-authorization successfully replaced the old token with a new one");
+        addTestStepWithNameDescription("Token Reuse Verified",
+                   "Repeat login reused the pooled token; re-authorization after removeToken replaced it");
         
-        logger.info("Test completed successfully: Token replacement verified");
+        logger.info("Test completed successfully: Pooled token reuse verified");
     }
 }
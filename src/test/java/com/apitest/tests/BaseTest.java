@@ -1,10 +1,12 @@
 package com.apitest.tests;
 
 import com.apitest.client.ApiClient;
+import com.apitest.listeners.PreAuthListener;
 import com.apitest.models.response.auth.VerifyResponse;
 import com.apitest.models.request.auth.VerifyRequest;
 import com.apitest.service.AuthorizationService;
 import com.apitest.service.TokenManager;
+import com.apitest.utils.DataGenerator;
 import com.apitest.utils.TestDataLoader;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
@@ -16,6 +18,8 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.asserts.SoftAssert;
 
+import java.util.function.Supplier;
+
 /**
  * Base test class providing common setup, teardown, and utility methods
  * for all test classes in the framework
@@ -260,7 +264,8 @@ public abstract class BaseTest {
     /**
      * Authorize user with 2-step flow using direct credentials
      * Token is automatically stored in TokenManager
-     * Calling this again will replace the current token with the new one
+     * Calling this again will replace the current token with the new one;
+     * identities authorized before are kept in the token pool, so switching back is a lookup
      * @param email User's email address
      * @param code Verification code
      * @return Authorization token
@@ -277,6 +282,26 @@ public abstract class BaseTest {
         return verifyResponse;
     }
 
+    /**
+     * Run requests as another authorized user without changing the current token
+     * @param email Email of a user authorized earlier with authorizeUserWithCredentials
+     * @param action Requests to run (e.g. domain client calls)
+     * @param <T> Result type
+     * @return Action result
+     */
+    protected <T> T asUser(String email, Supplier<T> action) {
+        return TokenManager.getInstance().callAs(email, action);
+    }
+
+    /**
+     * Get a fresh guest email, pre-authenticated by PreAuthListener when one is available
+     * @return Guest email (a newly generated one if the pre-authenticated guests are used up)
+     */
+    protected String newGuestEmail() {
+        String email = PreAuthListener.takeGuestEmail();
+        return email != null ? email : DataGenerator.generateEmail();
+    }
+
     /**
      * Get current authorization token
      * @return Authorization token or null if not authorized
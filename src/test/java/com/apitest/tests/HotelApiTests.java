@@ -36,7 +36,7 @@ public class HotelApiTests extends BaseTest {
     public void setUpUserTests() {
         logger.info("Setting up Hotel API tests");
 
-        email = DataGenerator.generateEmail();
+        email = newGuestEmail();
 
         // Load test data
 
@@ -292,7 +292,7 @@ public class HotelApiTests extends BaseTest {
             "5. Get Hotel Members list, make sure member exists in the list\n" +
             "6. Remove Member, make sure member doesn't exist in the list\n")
     public void hotel004(){
-        String email = DataGenerator.generateEmail();
+        String email = newGuestEmail();
         authorizeUserWithCredentials(email, "123456");
         String userId = UserApiClient.getMe().as(com.apitest.models.entity.user.User.class).getId();
 
@@ -364,7 +364,7 @@ public class HotelApiTests extends BaseTest {
             "8. Delete Stay by Id, expect 200\n" +
             "9. Delete Stay one more time, expect 404\n")
     public void hotel005(){
-        String email = DataGenerator.generateEmail();
+        String email = newGuestEmail();
         authorizeUserWithCredentials(email, "123456");
         String userId = UserApiClient.getMe().as(User.class).getId();
 